@@ -36,6 +36,7 @@ public final class Capabilities extends SimpleBuildItem {
     public static final String CONTAINER_IMAGE_DOCKER = "io.quarkus.container-image-docker";
     public static final String CONTAINER_IMAGE_S2I = "io.quarkus.container-image-s2i";
     public static final String HIBERNATE_ORM = "io.quarkus.hibernate-orm";
+    public static final String INFINISPAN_CLIENT = "io.quarkus.infinispan-client";
 
     private final Set<String> capabilities;
 
@@ -121,6 +121,13 @@ public final class CleanableExecutor implements ExecutorService {
         return executor.awaitTermination(timeout, unit);
     }
 
+    /**
+     * @return the number of tasks waiting for a thread in the underlying executor
+     */
+    public int getQueueSize() {
+        return executor.getQueueSize();
+    }
+
     @Override
     public <T> Future<T> submit(Callable<T> task) {
         return executor.submit(new CleaningCallable<>(task));
@@ -94,6 +94,26 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean autoProducerMethods;
 
+    /**
+     * If set to true, the time spent in the creation of bean instances and in the delivery of events to observer methods is
+     * recorded during the application startup. A summary of the slowest beans and observers is logged once the application
+     * is started and the complete timeline is written to the file defined by {@code quarkus.arc.startup-timeline-file}.
+     * <p>
+     * In a native image, the static initialization happens during the build, so the timeline only starts with the runtime
+     * initialization.
+     * <p>
+     * This is intended for troubleshooting slow startups.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean startupTimeline;
+
+    /**
+     * The file the startup timeline is written to, in the JSON format. A relative path is resolved against the working
+     * directory.
+     */
+    @ConfigItem(defaultValue = "startup-timeline.json")
+    public String startupTimelineFile;
+
     public final boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans.toLowerCase());
     }
@@ -363,7 +363,8 @@ public class ArcProcessor {
     // PHASE 5 - generate resources and initialize the container
     @BuildStep
     @Record(STATIC_INIT)
-    public BeanContainerBuildItem generateResources(ArcRecorder recorder, ShutdownContextBuildItem shutdown,
+    public BeanContainerBuildItem generateResources(ArcConfig arcConfig, ArcRecorder recorder,
+            ShutdownContextBuildItem shutdown,
             ValidationPhaseBuildItem validationPhase,
             List<ValidationPhaseBuildItem.ValidationErrorBuildItem> validationErrors,
             List<BeanContainerListenerBuildItem> beanContainerListenerBuildItems,
@@ -417,7 +418,7 @@ public class ArcProcessor {
             reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, qualifier.name().toString()));
         }
 
-        ArcContainer container = recorder.getContainer(shutdown);
+        ArcContainer container = recorder.getContainer(shutdown, arcConfig.startupTimeline);
         BeanContainer beanContainer = recorder.initBeanContainer(container,
                 beanContainerListenerBuildItems.stream().map(BeanContainerListenerBuildItem::getBeanContainerListener)
                         .collect(Collectors.toList()),
@@ -441,6 +442,14 @@ public class ArcProcessor {
         recorder.initExecutor(executor.getExecutorProxy());
     }
 
+    @BuildStep
+    @Record(value = RUNTIME_INIT)
+    void startStartupTimeline(ArcConfig arcConfig, ArcRecorder recorder) {
+        if (arcConfig.startupTimeline) {
+            recorder.startStartupTimeline();
+        }
+    }
+
     @BuildStep
     AdditionalBeanBuildItem launchMode() {
         return new AdditionalBeanBuildItem(LaunchModeProducer.class);
@@ -23,4 +23,13 @@ public class LifecycleEventsBuildStep {
         return new ApplicationStartBuildItem();
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void startupTimeline(ArcRecorder recorder, ArcConfig config, ApplicationStartBuildItem applicationStart) {
+        if (config.startupTimeline) {
+            // The startup event was delivered to all observers
+            recorder.dumpStartupTimeline(config.startupTimelineFile);
+        }
+    }
+
 }
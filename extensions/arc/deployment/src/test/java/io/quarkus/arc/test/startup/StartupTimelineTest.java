@@ -0,0 +1,56 @@
+package io.quarkus.arc.test.startup;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.impl.StartupTimeline;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StartupTimelineTest {
+
+    private static final String TIMELINE_FILE = "target/startup-timeline-test.json";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StartMe.class)
+                    .addAsResource(new StringAsset("quarkus.arc.startup-timeline=true\n"
+                            + "quarkus.arc.startup-timeline-file=" + TIMELINE_FILE), "application.properties"));
+
+    @Test
+    public void testTimeline() throws IOException {
+        // The timeline is stopped at the end of the startup
+        assertFalse(StartupTimeline.isRunning());
+        Path file = Paths.get(TIMELINE_FILE);
+        assertTrue(Files.exists(file));
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"name\": \"" + StartMe.class.getName() + "#onStart(io.quarkus.runtime.StartupEvent)\""),
+                json);
+        assertTrue(json.contains("\"name\": \"" + StartMe.class.getName() + "\""), json);
+    }
+
+    @ApplicationScoped
+    static class StartMe {
+
+        void onStart(@Observes StartupEvent event) {
+        }
+
+    }
+
+}
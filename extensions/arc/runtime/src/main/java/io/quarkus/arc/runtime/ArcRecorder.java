@@ -1,6 +1,11 @@
 package io.quarkus.arc.runtime;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -9,12 +14,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
+import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.StartupTimeline;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -31,7 +38,11 @@ public class ArcRecorder {
 
     private static final Logger LOGGER = Logger.getLogger(ArcRecorder.class.getName());
 
-    public ArcContainer getContainer(ShutdownContext shutdown) throws Exception {
+    public ArcContainer getContainer(ShutdownContext shutdown, boolean startupTimeline) throws Exception {
+        if (startupTimeline && !ImageInfo.inImageBuildtimeCode()) {
+            // In a native image the static init runs during the build, it is not part of the startup
+            StartupTimeline.start();
+        }
         ArcContainer container = Arc.initialize();
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -42,6 +53,13 @@ public class ArcRecorder {
         return container;
     }
 
+    public void startStartupTimeline() {
+        // The timeline is already running in JVM mode, where it was started at static init
+        if (!StartupTimeline.isRunning()) {
+            StartupTimeline.start();
+        }
+    }
+
     public void initExecutor(ExecutorService executor) {
         Arc.setExecutor(executor);
     }
@@ -119,6 +137,24 @@ public class ArcRecorder {
         });
     }
 
+    public void dumpStartupTimeline(String file) {
+        StartupTimeline timeline = StartupTimeline.stop();
+        if (timeline == null) {
+            return;
+        }
+        LOGGER.info(timeline.getSummary(10));
+        Path path = Paths.get(file).toAbsolutePath();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, timeline.toJson().getBytes(StandardCharsets.UTF_8));
+            LOGGER.infof("Startup timeline written to %s", path);
+        } catch (IOException e) {
+            LOGGER.warnf(e, "Unable to write the startup timeline to %s", path);
+        }
+    }
+
     public Supplier<Object> createSupplier(RuntimeValue<?> value) {
         return new Supplier<Object>() {
             @Override
@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,7 +9,11 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETABLE_FUTURE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.LOCK_TIMEOUT_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.RETURN_TYPE_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,9 +30,12 @@ import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptorBinding;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptorBinding;
 import io.quarkus.cache.runtime.CacheResultInterceptorBinding;
+import io.quarkus.cache.runtime.CacheResultInterceptorBinding.ReturnType;
 
 public class CacheAnnotationsTransformer implements AnnotationsTransformer {
 
+    private static final DotName RETURN_TYPE_ENUM = DotName.createSimple(ReturnType.class.getName());
+
     @Override
     public boolean appliesTo(Kind kind) {
         return Kind.METHOD == kind;
@@ -78,6 +86,8 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         parameters.add(getCacheName(annotation));
         findCacheKeyParameters(method).ifPresent(parameters::add);
         findLockTimeout(annotation).ifPresent(parameters::add);
+        findBulk(annotation).ifPresent(parameters::add);
+        findAsyncReturnType(method).ifPresent(parameters::add);
         return createBinding(CacheResultInterceptorBinding.class, target, toArray(parameters));
     }
 
@@ -106,6 +116,23 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         return Optional.ofNullable(annotation.value(LOCK_TIMEOUT_PARAM));
     }
 
+    private Optional<AnnotationValue> findBulk(AnnotationInstance annotation) {
+        return Optional.ofNullable(annotation.value(BULK_PARAM));
+    }
+
+    private Optional<AnnotationValue> findAsyncReturnType(MethodInfo method) {
+        DotName returnTypeName = method.returnType().name();
+        ReturnType returnType;
+        if (COMPLETION_STAGE.equals(returnTypeName) || COMPLETABLE_FUTURE.equals(returnTypeName)) {
+            returnType = ReturnType.COMPLETION_STAGE;
+        } else if (UNI.equals(returnTypeName)) {
+            returnType = ReturnType.UNI;
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(AnnotationValue.createEnumValue(RETURN_TYPE_PARAM, RETURN_TYPE_ENUM, returnType.name()));
+    }
+
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
         return parameters.toArray(new AnnotationValue[0]);
     }
@@ -20,6 +20,22 @@ public class CacheConfig {
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
 
+    /**
+     * Second-level cache backend shared by all the application instances, the Caffeine caches being used as near caches in
+     * front of it. The only supported value is {@code infinispan}, which requires the infinispan-client extension. The
+     * entries are stored in the remote caches named after the application caches, with the {@code expire-after-write}
+     * delay of each cache as lifespan.
+     */
+    @ConfigItem
+    Optional<String> backend;
+
+    /**
+     * Whether or not cache metrics are published in case the smallrye-metrics extension is present (default to false).
+     * Enabling metrics also enables the statistics recording for all caches.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    boolean metricsEnabled;
+
     /**
      * Caffeine configuration.
      */
@@ -54,6 +70,31 @@ public class CacheConfig {
             @ConfigItem
             OptionalLong maximumSize;
 
+            /**
+             * Maximum total weight of the entries the cache may contain, as computed by the {@code weigher}. When the values
+             * are stored off-heap and no weigher is configured, the weight of an entry is the serialized size of its value in
+             * bytes. This property cannot be used together with {@code maximum-size}.
+             */
+            @ConfigItem
+            OptionalLong maximumWeight;
+
+            /**
+             * Fully qualified name of a class implementing {@code com.github.benmanes.caffeine.cache.Weigher} and providing a
+             * public no-args constructor, used to compute the weight of the entries. This property requires
+             * {@code maximum-weight}.
+             */
+            @ConfigItem
+            Optional<String> weigher;
+
+            /**
+             * Whether or not the values are serialized into direct byte buffers, outside of the Java heap, so that large
+             * caches do not increase the garbage collection pause times. The values must be serializable and a new copy of
+             * the value is deserialized each time it is read from the cache. The direct memory available to the JVM may have
+             * to be increased with the {@code -XX:MaxDirectMemorySize} option.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean offHeap;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -67,6 +108,25 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be refreshed once a fixed duration has elapsed after the entry's creation, or
+             * the
+             * most recent replacement of its value. The refresh is triggered by the first read of the stale entry and runs in
+             * the background while the stale value keeps being served, so that callers never wait for the cached method
+             * invocation. A failed refresh keeps the stale value. This delay should be shorter than {@code expire-after-write}
+             * which still removes the entries that are not read often enough to be refreshed.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether or not hits, misses, loads and evictions statistics are recorded for this cache. Recording statistics
+             * has a small performance cost. This setting is ignored and statistics are always recorded if the cache metrics
+             * are enabled.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean statsEnabled;
         }
     }
 }
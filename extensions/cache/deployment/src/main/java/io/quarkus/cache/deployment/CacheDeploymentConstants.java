@@ -1,7 +1,12 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
@@ -9,6 +14,7 @@ import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheBackend;
 
 public class CacheDeploymentConstants {
 
@@ -24,15 +30,31 @@ public class CacheDeploymentConstants {
     public static final List<DotName> API_METHODS_ANNOTATIONS_LISTS = Arrays.asList(
             CACHE_INVALIDATE_LIST, CACHE_INVALIDATE_ALL_LIST);
 
+    // Asynchronous return types.
+    public static final DotName COMPLETION_STAGE = dotName(CompletionStage.class);
+    public static final DotName COMPLETABLE_FUTURE = dotName(CompletableFuture.class);
+    public static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+
+    // Bulk mode types.
+    public static final DotName MAP = dotName(Map.class);
+    public static final List<DotName> BULK_KEYS_TYPES = Arrays.asList(
+            dotName(Collection.class), dotName(List.class), dotName(Set.class));
+
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
     public static final String CACHE_KEY_PARAMETER_POSITIONS_PARAM = "cacheKeyParameterPositions";
     public static final String LOCK_TIMEOUT_PARAM = "lockTimeout";
+    public static final String RETURN_TYPE_PARAM = "returnType";
+    public static final String BULK_PARAM = "bulk";
 
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
 
-    private static DotName dotName(Class<?> annotationClass) {
-        return DotName.createSimple(annotationClass.getName());
+    // Second-level cache backends.
+    public static final DotName CACHE_BACKEND = dotName(CacheBackend.class);
+    public static final String INFINISPAN_BACKEND_TYPE = "infinispan";
+
+    private static DotName dotName(Class<?> clazz) {
+        return DotName.createSimple(clazz.getName());
     }
 }
@@ -1,15 +1,23 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type.Kind;
 
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.cache.deployment.exception.IllegalBulkKeyParameterException;
 import io.quarkus.cache.deployment.exception.IllegalReturnTypeException;
 
 public class CacheMethodValidator {
@@ -23,5 +31,45 @@ public class CacheMethodValidator {
                     + bean.getBeanClass() + ", method= " + method + "]";
             throwables.add(new IllegalReturnTypeException(exceptionMessage));
         }
+        if (cacheResult != null && isBulk(cacheResult)) {
+            validateBulkMethod(bean, method, throwables);
+        }
+    }
+
+    private static boolean isBulk(AnnotationInstance cacheResult) {
+        AnnotationValue bulk = cacheResult.value(BULK_PARAM);
+        return bulk != null && bulk.asBoolean();
+    }
+
+    private static void validateBulkMethod(BeanInfo bean, MethodInfo method, List<Throwable> throwables) {
+        if (!MAP.equals(method.returnType().name())) {
+            String exceptionMessage = "The @CacheResult annotation with bulk = true is only allowed on a method returning "
+                    + "java.util.Map: [class= " + bean.getBeanClass() + ", method= " + method + "]";
+            throwables.add(new IllegalReturnTypeException(exceptionMessage));
+        }
+        List<Short> cacheKeyPositions = new ArrayList<>();
+        for (AnnotationInstance annotation : method.annotations()) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER && CACHE_KEY.equals(annotation.name())) {
+                cacheKeyPositions.add(annotation.target().asMethodParameter().position());
+            }
+        }
+        int keysPosition;
+        if (cacheKeyPositions.size() == 1) {
+            keysPosition = cacheKeyPositions.get(0);
+        } else if (cacheKeyPositions.isEmpty() && method.parameters().size() == 1) {
+            keysPosition = 0;
+        } else {
+            String exceptionMessage = "The @CacheResult annotation with bulk = true requires a single cache key parameter, "
+                    + "either the only method parameter or the only parameter annotated with @CacheKey: [class= "
+                    + bean.getBeanClass() + ", method= " + method + "]";
+            throwables.add(new IllegalBulkKeyParameterException(exceptionMessage));
+            return;
+        }
+        if (!BULK_KEYS_TYPES.contains(method.parameters().get(keysPosition).name())) {
+            String exceptionMessage = "The cache key parameter of a @CacheResult annotated method with bulk = true must be a "
+                    + "java.util.Collection, a java.util.List or a java.util.Set: [class= " + bean.getBeanClass()
+                    + ", method= " + method + "]";
+            throwables.add(new IllegalBulkKeyParameterException(exceptionMessage));
+        }
     }
 }
@@ -3,6 +3,7 @@ package io.quarkus.cache.deployment;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS_LISTS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 
@@ -14,6 +15,10 @@ import java.util.Set;
 
 import javax.enterprise.inject.spi.DeploymentException;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
@@ -22,23 +27,38 @@ import org.jboss.jandex.MethodInfo;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanTypeExclusion;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.metrics.CaffeineCacheCounter;
+import io.quarkus.cache.runtime.caffeine.metrics.CaffeineCacheGauge;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 class CacheProcessor {
 
+    private static final String CONFIG_ROOT_NAME = "cache";
+
+    private static final String INFINISPAN_BACKEND = "io.quarkus.cache.runtime.infinispan.InfinispanCacheBackend";
+    private static final String INFINISPAN_INVALIDATION_LISTENER = INFINISPAN_BACKEND + "$InvalidationListener";
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FeatureBuildItem.CACHE);
@@ -88,6 +108,114 @@ class CacheProcessor {
         }
     }
 
+    @BuildStep
+    void registerWeighersForReflection(CacheConfig config, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        for (CaffeineNamespaceConfig namespaceConfig : config.caffeine.namespace.values()) {
+            namespaceConfig.weigher.ifPresent(
+                    weigher -> reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, weigher)));
+        }
+    }
+
+    @BuildStep
+    void backend(CacheConfig config, Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        // A backend may also be provided by the application or another extension, it is looked up programmatically.
+        unremovableBeans.produce(new UnremovableBeanBuildItem(new BeanTypeExclusion(CacheDeploymentConstants.CACHE_BACKEND)));
+        if (config.backend.isPresent()) {
+            switch (config.backend.get()) {
+                case CacheDeploymentConstants.INFINISPAN_BACKEND_TYPE:
+                    if (!capabilities.isCapabilityPresent(Capabilities.INFINISPAN_CLIENT)) {
+                        throw new DeploymentException(
+                                "The infinispan cache backend requires the infinispan-client extension");
+                    }
+                    additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                            .addBeanClass(INFINISPAN_BACKEND)
+                            .setDefaultScope(BuiltinScope.APPLICATION.getName())
+                            .setUnremovable()
+                            .build());
+                    reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, INFINISPAN_INVALIDATION_LISTENER));
+                    break;
+                default:
+                    throw new DeploymentException("Unknown cache backend: " + config.backend.get());
+            }
+        }
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void recordBackend(BeanContainerBuildItem beanContainer, CaffeineCacheBuildRecorder caffeineRecorder) {
+        caffeineRecorder.setBackend(beanContainer.getValue());
+    }
+
+    @BuildStep
+    void metrics(CombinedIndexBuildItem combinedIndex, CacheConfig config, BuildProducer<MetricBuildItem> metrics) {
+        if (!CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)) {
+            return;
+        }
+        for (String cacheName : getCacheNames(combinedIndex.getIndex())) {
+            Tag tag = new Tag("cache", cacheName);
+            metrics.produce(createCounter("cache.hits",
+                    "Number of times a cache lookup returned a cached value",
+                    cacheName, "hits", config.metricsEnabled, tag));
+            metrics.produce(createCounter("cache.misses",
+                    "Number of times a cache lookup did not find any cached value and triggered a method invocation",
+                    cacheName, "misses", config.metricsEnabled, tag));
+            metrics.produce(createCounter("cache.loads.success",
+                    "Number of times a cached method invocation completed successfully and its result was cached",
+                    cacheName, "loadSuccesses", config.metricsEnabled, tag));
+            metrics.produce(createCounter("cache.loads.failure",
+                    "Number of times a cached method invocation threw an exception",
+                    cacheName, "loadFailures", config.metricsEnabled, tag));
+            metrics.produce(createCounter("cache.evictions",
+                    "Number of entries evicted from the cache because of the size or expiration policies",
+                    cacheName, "evictions", config.metricsEnabled, tag));
+            metrics.produce(createCounter("cache.lock.timeouts",
+                    "Number of times the lock on cache miss was interrupted and the cached method invoked without caching "
+                            + "its result",
+                    cacheName, "lockTimeouts", config.metricsEnabled, tag));
+            metrics.produce(createGauge("cache.hit.ratio",
+                    "Ratio of cache lookups which returned a cached value",
+                    MetricUnits.NONE, cacheName, "hitRatio", config.metricsEnabled, tag));
+            metrics.produce(createGauge("cache.size",
+                    "Approximate number of entries in the cache",
+                    MetricUnits.NONE, cacheName, "size", config.metricsEnabled, tag));
+            metrics.produce(createGauge("cache.load.time.average",
+                    "Average time spent invoking a cached method on cache miss",
+                    MetricUnits.MILLISECONDS, cacheName, "loadTimeAverage", config.metricsEnabled, tag));
+            metrics.produce(createGauge("cache.load.time.total",
+                    "Total time spent invoking cached methods on cache miss",
+                    MetricUnits.MILLISECONDS, cacheName, "loadTimeTotal", config.metricsEnabled, tag));
+        }
+    }
+
+    private MetricBuildItem createCounter(String metricName, String description, String cacheName, String metric,
+            boolean metricsEnabled, Tag tag) {
+        return new MetricBuildItem(Metadata.builder()
+                .withName(metricName)
+                .withDescription(description)
+                .withType(MetricType.COUNTER)
+                .build(),
+                new CaffeineCacheCounter(cacheName, metric),
+                metricsEnabled,
+                CONFIG_ROOT_NAME,
+                tag);
+    }
+
+    private MetricBuildItem createGauge(String metricName, String description, String unit, String cacheName,
+            String metric, boolean metricsEnabled, Tag tag) {
+        return new MetricBuildItem(Metadata.builder()
+                .withName(metricName)
+                .withDescription(description)
+                .withType(MetricType.GAUGE)
+                .withUnit(unit)
+                .build(),
+                new CaffeineCacheGauge(cacheName, metric),
+                metricsEnabled,
+                CONFIG_ROOT_NAME,
+                tag);
+    }
+
     private Set<String> getCacheNames(IndexView index) {
         Set<String> cacheNames = new HashSet<>();
         for (DotName cacheAnnotation : API_METHODS_ANNOTATIONS) {
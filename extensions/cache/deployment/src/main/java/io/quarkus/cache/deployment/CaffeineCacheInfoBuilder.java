@@ -3,6 +3,8 @@ package io.quarkus.cache.deployment;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.enterprise.inject.spi.DeploymentException;
+
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 
@@ -12,16 +14,38 @@ public class CaffeineCacheInfoBuilder {
         return cacheNames.stream().map(cacheName -> {
             CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
             cacheInfo.name = cacheName;
+            cacheInfo.statsEnabled = cacheConfig.metricsEnabled;
 
             CaffeineNamespaceConfig namespaceConfig = cacheConfig.caffeine.namespace.get(cacheInfo.name);
             if (namespaceConfig != null) {
                 namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
                 namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+                namespaceConfig.maximumWeight.ifPresent(weight -> cacheInfo.maximumWeight = weight);
+                namespaceConfig.weigher.ifPresent(weigher -> cacheInfo.weigher = weigher);
+                cacheInfo.offHeap = namespaceConfig.offHeap;
                 namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                 namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                cacheInfo.statsEnabled |= namespaceConfig.statsEnabled;
+                validateWeight(cacheInfo);
             }
 
             return cacheInfo;
         }).collect(Collectors.toSet());
     }
+
+    private static void validateWeight(CaffeineCacheInfo cacheInfo) {
+        if (cacheInfo.maximumWeight != null) {
+            if (cacheInfo.maximumSize != null) {
+                throw new DeploymentException("The maximum-size and maximum-weight properties of cache [" + cacheInfo.name
+                        + "] cannot be used together");
+            }
+            if (cacheInfo.weigher == null && !cacheInfo.offHeap) {
+                throw new DeploymentException("The maximum-weight property of cache [" + cacheInfo.name
+                        + "] requires a weigher unless the values are stored off-heap");
+            }
+        } else if (cacheInfo.weigher != null) {
+            throw new DeploymentException("The weigher property of cache [" + cacheInfo.name + "] requires maximum-weight");
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package io.quarkus.cache.deployment.exception;
+
+@SuppressWarnings("serial")
+public class IllegalBulkKeyParameterException extends RuntimeException {
+
+    public IllegalBulkKeyParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.cache.test.deployment;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import javax.enterprise.inject.spi.DeploymentException;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MaximumSizeAndWeightTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(TestResource.class)
+                    .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-size=10\n"
+                            + "quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-weight=10"), "application.properties"))
+            .setExpectedException(DeploymentException.class);
+
+    @Test
+    public void shouldNotBeInvoked() {
+        fail("This method should not be invoked");
+    }
+
+    @Path("/test")
+    public static class TestResource {
+
+        @GET
+        @CacheResult(cacheName = CACHE_NAME)
+        public String foo(String key) {
+            return "bar";
+        }
+    }
+}
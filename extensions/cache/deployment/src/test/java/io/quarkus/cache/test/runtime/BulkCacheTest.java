@@ -0,0 +1,117 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testBulkCache() {
+        // STEP 1
+        // Action: bulk method call with an empty cache.
+        // Expected effect: method invoked once with all the keys and results cached.
+        // Verified by: STEP 2.
+        Map<Object, Object> values1 = cachedService.loadAll(Arrays.asList("a", "b"));
+        assertEquals(1, cachedService.getInvocations().size());
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(cachedService.getInvocations().get(0)));
+
+        // STEP 2
+        // Action: bulk method call with one cached key and one missing key.
+        // Expected effect: method invoked once with the missing key only.
+        // Verified by: invocations list and same object reference between STEPS 1 and 2 values for the cached key.
+        Map<Object, Object> values2 = cachedService.loadAll(Arrays.asList("b", "c"));
+        assertEquals(2, cachedService.getInvocations().size());
+        assertEquals(Arrays.asList("c"), new ArrayList<>(cachedService.getInvocations().get(1)));
+        assertTrue(values1.get("b") == values2.get("b"));
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(values2.keySet()));
+
+        // STEP 3
+        // Action: single key method call on the same cache.
+        // Expected effect: method not invoked and value coming from the cache filled by the bulk method.
+        // Verified by: same object reference between STEPS 2 and 3 values.
+        Object value3 = cachedService.load("c");
+        assertTrue(values2.get("c") == value3);
+
+        // STEP 4
+        // Action: bulk method call with cached keys only.
+        // Expected effect: method not invoked.
+        // Verified by: invocations list.
+        cachedService.loadAll(Arrays.asList("a", "b", "c"));
+        assertEquals(2, cachedService.getInvocations().size());
+    }
+
+    @Test
+    public void testMissingKeysNotCached() {
+        Map<Object, Object> values = cachedService.loadAllWithExplicitKey(new java.util.HashSet<>(Arrays.asList("x", "y")),
+                "x");
+        assertEquals(1, values.size());
+        assertTrue(values.containsKey("y"));
+        assertFalse(values.containsKey("x"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<Collection<Object>> invocations = new ArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Map<Object, Object> loadAll(List<Object> keys) {
+            invocations.add(keys);
+            Map<Object, Object> values = new HashMap<>();
+            for (Object key : keys) {
+                values.put(key, new Object());
+            }
+            return values;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Object load(Object key) {
+            return new Object();
+        }
+
+        @CacheResult(cacheName = "other-cache", bulk = true)
+        public Map<Object, Object> loadAllWithExplicitKey(@CacheKey Set<Object> keys, Object ignoredKey) {
+            Map<Object, Object> values = new HashMap<>();
+            for (Object key : keys) {
+                if (!key.equals(ignoredKey)) {
+                    values.put(key, new Object());
+                }
+            }
+            return values;
+        }
+
+        public List<Collection<Object>> getInvocations() {
+            return invocations;
+        }
+    }
+}
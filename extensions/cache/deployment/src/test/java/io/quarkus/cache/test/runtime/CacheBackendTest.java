@@ -0,0 +1,186 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheBackend;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheBackendTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClasses(CachedService.class, InMemoryCacheBackend.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    InMemoryCacheBackend backend;
+
+    @Test
+    public void testNearCache() {
+        // STEP 1
+        // Action: cached method call on a missing key.
+        // Expected effect: method invoked and result written to the backend.
+        // Verified by: invocations count and backend content.
+        String value1 = cachedService.cachedMethod("a");
+        assertEquals(1, cachedService.getInvocations());
+        assertEquals(value1, backend.getEntries(CACHE_NAME).get("a"));
+
+        // STEP 2
+        // Action: cached method call on a key missing from the near cache but present in the backend, as if another
+        // application instance had loaded it.
+        // Expected effect: method not invoked and value coming from the backend.
+        // Verified by: invocations count and returned value.
+        backend.getEntries(CACHE_NAME).put("b", "remote-b");
+        assertEquals("remote-b", cachedService.cachedMethod("b"));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 3
+        // Action: entry removed from the backend by another application instance.
+        // Expected effect: near cache entry invalidated.
+        // Verified by: method invoked on the next call.
+        backend.remove(CACHE_NAME, "a");
+        cachedService.cachedMethod("a");
+        assertEquals(2, cachedService.getInvocations());
+
+        // STEP 4
+        // Action: cache invalidation from the current application instance.
+        // Expected effect: entry removed from the backend.
+        // Verified by: backend content.
+        cachedService.invalidate("a");
+        assertFalse(backend.getEntries(CACHE_NAME).containsKey("a"));
+
+        // STEP 5
+        // Action: full cache invalidation from the current application instance.
+        // Expected effect: backend cleared and all near cache entries invalidated.
+        // Verified by: backend content and method invoked on the next call.
+        cachedService.invalidateAll();
+        assertTrue(backend.getEntries(CACHE_NAME).isEmpty());
+        cachedService.cachedMethod("b");
+        assertEquals(3, cachedService.getInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int invocations;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            invocations++;
+            return "local-" + key + "-" + invocations;
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+        }
+
+        public int getInvocations() {
+            return invocations;
+        }
+    }
+
+    @ApplicationScoped
+    public static class InMemoryCacheBackend implements CacheBackend {
+
+        private final Map<String, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+        private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+
+        public Map<Object, Object> getEntries(String cacheName) {
+            return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+        }
+
+        public void remove(String cacheName, Object key) {
+            getEntries(cacheName).remove(key);
+            getListeners(cacheName).forEach(listener -> listener.onInvalidate(key));
+        }
+
+        private List<Listener> getListeners(String cacheName) {
+            return listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>());
+        }
+
+        @Override
+        public Object get(String cacheName, Object key) {
+            return getEntries(cacheName).get(key);
+        }
+
+        @Override
+        public Map<Object, Object> getAll(String cacheName, Collection<?> keys) {
+            Map<Object, Object> values = new HashMap<>();
+            for (Object key : keys) {
+                Object value = get(cacheName, key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public CompletionStage<Object> getAsync(String cacheName, Object key) {
+            return CompletableFuture.completedFuture(get(cacheName, key));
+        }
+
+        @Override
+        public void put(String cacheName, Object key, Object value, Duration lifespan) {
+            getEntries(cacheName).put(key, value);
+        }
+
+        @Override
+        public void putAll(String cacheName, Map<?, ?> values, Duration lifespan) {
+            getEntries(cacheName).putAll(values);
+        }
+
+        @Override
+        public CompletionStage<Void> putAsync(String cacheName, Object key, Object value, Duration lifespan) {
+            put(cacheName, key, value, lifespan);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void invalidate(String cacheName, Object key) {
+            remove(cacheName, key);
+        }
+
+        @Override
+        public void invalidateAll(String cacheName) {
+            getEntries(cacheName).clear();
+            getListeners(cacheName).forEach(Listener::onInvalidateAll);
+        }
+
+        @Override
+        public void addListener(String cacheName, Listener listener) {
+            getListeners(cacheName).add(listener);
+        }
+    }
+}
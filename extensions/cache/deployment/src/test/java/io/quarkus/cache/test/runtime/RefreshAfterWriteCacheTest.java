@@ -0,0 +1,226 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RefreshAfterWriteCacheTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+    private static final String ASYNC_CACHE_NAME = "async-refresh-cache";
+    private static final String REQUEST_CACHE_NAME = "request-refresh-cache";
+    private static final long REFRESH_DELAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=10S\n"
+                    + "quarkus.cache.caffeine.\"" + ASYNC_CACHE_NAME + "\".refresh-after-write=10S\n"
+                    + "quarkus.cache.caffeine.\"" + REQUEST_CACHE_NAME + "\".refresh-after-write=10S"),
+                    "application.properties")
+            .addClasses(CachedService.class, RequestData.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Inject
+    RequestData requestData;
+
+    private final AtomicLong nanos = new AtomicLong();
+    // A single thread executor runs the refreshes in order, so the test waits for them by waiting for a later task.
+    private ExecutorService refreshExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        refreshExecutor = Executors.newSingleThreadExecutor();
+        for (String cacheName : new String[] { CACHE_NAME, ASYNC_CACHE_NAME, REQUEST_CACHE_NAME }) {
+            CaffeineCache cache = cacheRepository.getCache(cacheName);
+            // The entries written by the previous tests were timed with another ticker.
+            cache.invalidateAll();
+            cache.setTicker(nanos::get);
+            cache.setRefreshExecutor(refreshExecutor);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testStaleValueServedWhileRefreshing() throws Exception {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: invocations counter.
+        Object value1 = cachedService.cachedMethod("key");
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1 before the refresh delay has elapsed.
+        // Expected effect: cached value returned and no refresh started.
+        // Verified by: invocations counter.
+        nanos.addAndGet(REFRESH_DELAY_NANOS - 1);
+        assertTrue(value1 == cachedService.cachedMethod("key"));
+        awaitRefreshes();
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 3
+        // Action: same call as STEP 2 once the refresh delay has elapsed.
+        // Expected effect: stale value returned immediately and refresh started in the background.
+        // Verified by: same object reference between STEPS 1 and 3 results.
+        nanos.addAndGet(1);
+        Object value3 = cachedService.cachedMethod("key");
+        assertTrue(value1 == value3);
+
+        // STEP 4
+        // Action: same call as STEP 3 once the refresh is complete.
+        // Expected effect: refreshed value returned.
+        // Verified by: invocations counter and different objects references between STEPS 3 and 4 results.
+        awaitRefreshes();
+        Object value4 = cachedService.cachedMethod("key");
+        assertTrue(value3 != value4);
+        assertEquals(2, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testRefreshRunsWithNewRequestContext() throws Exception {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            requestData.setValue("first");
+            cachedService.requestDataMethod("key");
+
+            int destroyed = RequestData.DESTROYED.get();
+            nanos.addAndGet(REFRESH_DELAY_NANOS);
+            cachedService.requestDataMethod("key");
+            awaitRefreshes();
+            // The refresh ran on another thread with its own request context, which was terminated once it completed.
+            assertTrue(cachedService.isLastRequestContextActive());
+            assertNull(cachedService.getLastRequestValue());
+            assertEquals(destroyed + 1, RequestData.DESTROYED.get());
+            assertEquals("first", requestData.getValue());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testAsyncRefresh() throws InterruptedException, ExecutionException {
+        Object value1 = cachedService.asyncCachedMethod("key").toCompletableFuture().get();
+        nanos.addAndGet(REFRESH_DELAY_NANOS);
+        Object value2 = cachedService.asyncCachedMethod("key").toCompletableFuture().get();
+        assertTrue(value1 == value2);
+        // The completion stage of the refresh is already complete, so the refreshed value is stored at this point.
+        assertEquals(2, cachedService.getAsyncInvocations());
+        Object value3 = cachedService.asyncCachedMethod("key").toCompletableFuture().get();
+        assertTrue(value2 != value3);
+    }
+
+    private void awaitRefreshes() throws Exception {
+        refreshExecutor.submit(() -> {
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @Inject
+        RequestData requestData;
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger asyncInvocations = new AtomicInteger();
+        private volatile boolean lastRequestContextActive;
+        private volatile String lastRequestValue;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Object cachedMethod(String key) {
+            invocations.incrementAndGet();
+            return new Object();
+        }
+
+        @CacheResult(cacheName = REQUEST_CACHE_NAME)
+        public Object requestDataMethod(String key) {
+            // The entry may be loaded by a thread of the Caffeine executor on cache miss.
+            lastRequestContextActive = Arc.container().requestContext().isActive();
+            if (lastRequestContextActive) {
+                lastRequestValue = requestData.getValue();
+            }
+            return new Object();
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE_NAME)
+        public CompletionStage<Object> asyncCachedMethod(String key) {
+            asyncInvocations.incrementAndGet();
+            return CompletableFuture.completedFuture(new Object());
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public int getAsyncInvocations() {
+            return asyncInvocations.get();
+        }
+
+        public boolean isLastRequestContextActive() {
+            return lastRequestContextActive;
+        }
+
+        public String getLastRequestValue() {
+            return lastRequestValue;
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String value;
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
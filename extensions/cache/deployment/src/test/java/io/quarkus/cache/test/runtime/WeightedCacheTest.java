@@ -0,0 +1,175 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class WeightedCacheTest {
+
+    private static final String WEIGHTED_CACHE_NAME = "weighted-cache";
+    private static final String OFF_HEAP_CACHE_NAME = "off-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + WEIGHTED_CACHE_NAME + "\".maximum-weight=100\n"
+                    + "quarkus.cache.caffeine.\"" + WEIGHTED_CACHE_NAME + "\".weigher=" + LengthWeigher.class.getName() + "\n"
+                    + "quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE_NAME + "\".off-heap=true\n"
+                    + "quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE_NAME + "\".maximum-weight=1000000"),
+                    "application.properties")
+            .addClasses(CachedService.class, LengthWeigher.class, Fragment.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testWeightBasedEviction() throws InterruptedException {
+        CaffeineCache cache = cacheRepository.getCache(WEIGHTED_CACHE_NAME);
+        assertEquals(100L, cache.getMaximumWeight());
+
+        // STEP 1
+        // Action: two calls whose results have a total weight greater than the maximum weight.
+        // Expected effect: one of the entries is evicted even though the number of entries is small.
+        // Verified by: estimated cache size.
+        cachedService.weightedMethod(60);
+        cachedService.weightedMethod(70);
+        for (int i = 0; i < 500 && cache.getEstimatedSize() > 1; i++) {
+            Thread.sleep(10L);
+        }
+        assertEquals(1L, cache.getEstimatedSize());
+    }
+
+    @Test
+    public void testOffHeapStorage() {
+        assertTrue(cacheRepository.getCache(OFF_HEAP_CACHE_NAME).isOffHeap());
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result serialized into the cache.
+        // Verified by: invocations counter.
+        Fragment value1 = cachedService.offHeapMethod("key");
+        assertEquals(1, cachedService.getOffHeapInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and a deserialized copy of the cached value returned.
+        // Verified by: invocations counter, equal values and different objects references between STEPS 1 and 2 results.
+        Fragment value2 = cachedService.offHeapMethod("key");
+        assertEquals(1, cachedService.getOffHeapInvocations());
+        assertEquals(value1.getJson(), value2.getJson());
+        assertFalse(value1 == value2);
+
+        // STEP 3
+        // Action: cache invalidation, which frees the direct memory of the value, then same call as STEP 1.
+        // Expected effect: method invoked and result serialized into the cache again.
+        // Verified by: invocations counter and equal values between STEPS 1 and 3 results.
+        cacheRepository.getCache(OFF_HEAP_CACHE_NAME).invalidateAll();
+        Fragment value3 = cachedService.offHeapMethod("key");
+        assertEquals(2, cachedService.getOffHeapInvocations());
+        assertEquals(value1.getJson(), value3.getJson());
+    }
+
+    @Test
+    public void testOffHeapSerializationFailure() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call whose asynchronous result cannot be serialized.
+        // Expected effect: the returned stage fails instead of never completing.
+        // Verified by: exception cause.
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> cachedService.offHeapAsyncMethod("async-key").toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: the failure is not cached and the method is invoked again.
+        // Verified by: invocations counter.
+        assertThrows(ExecutionException.class,
+                () -> cachedService.offHeapAsyncMethod("async-key").toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(2, cachedService.getOffHeapAsyncInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int offHeapInvocations;
+        private int offHeapAsyncInvocations;
+
+        @CacheResult(cacheName = WEIGHTED_CACHE_NAME)
+        public String weightedMethod(int length) {
+            StringBuilder value = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                value.append('x');
+            }
+            return value.toString();
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE_NAME)
+        public Fragment offHeapMethod(String key) {
+            offHeapInvocations++;
+            return new Fragment("{\"key\":\"" + key + "\"}");
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE_NAME)
+        public CompletionStage<Object> offHeapAsyncMethod(String key) {
+            offHeapAsyncInvocations++;
+            // Not serializable.
+            return CompletableFuture.completedFuture(new Object());
+        }
+
+        public int getOffHeapInvocations() {
+            return offHeapInvocations;
+        }
+
+        public int getOffHeapAsyncInvocations() {
+            return offHeapAsyncInvocations;
+        }
+    }
+
+    public static class LengthWeigher implements Weigher<Object, Object> {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return value.toString().length();
+        }
+    }
+
+    public static class Fragment implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String json;
+
+        public Fragment(String json) {
+            this.json = json;
+        }
+
+        public String getJson() {
+            return json;
+        }
+    }
+}
@@ -23,6 +23,11 @@ import javax.enterprise.util.Nonbinding;
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If the method returns a {@link java.util.concurrent.CompletionStage CompletionStage}, a
+ * {@link java.util.concurrent.CompletableFuture CompletableFuture} or a Mutiny {@code Uni}, the value it completes with is
+ * cached instead of the asynchronous wrapper and the cache lookup never blocks the calling thread. A failed computation is
+ * not cached. The {@code lockTimeout} parameter is ignored for such methods.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
@@ -46,4 +51,16 @@ public @interface CacheResult {
      */
     @Nonbinding
     long lockTimeout() default 0;
+
+    /**
+     * If {@code true}, the cache key parameter must be a {@link java.util.Collection Collection},
+     * {@link java.util.List List} or {@link java.util.Set Set} and the method must return a {@link java.util.Map Map}
+     * associating each element of the collection with its value. Each element of the collection is then used as a
+     * distinct cache key: the cached values are served from the cache and the method is only invoked once, with a
+     * collection containing the missing keys. The key parameter is either the only method parameter or the only
+     * parameter annotated with {@link CacheKey}. Keys absent from the returned map are not cached. The
+     * {@code lockTimeout} parameter is ignored in that mode.
+     */
+    @Nonbinding
+    boolean bulk() default false;
 }
@@ -0,0 +1,113 @@
+package io.quarkus.cache.runtime;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Second-level cache backend shared by several application instances. When a bean implementing this interface is available
+ * at runtime, the Caffeine caches are used as near caches in front of it: a near cache miss is looked up in the backend
+ * before the cached method is invoked, the results of the cached method invocations are written to the backend and the
+ * invalidations are propagated to the backend.
+ * <p>
+ * The backend must notify the registered {@link Listener listeners} whenever an entry is modified or removed, including by
+ * another application instance, so that the near caches are kept consistent. {@code null} values are never stored in the
+ * backend.
+ * <p>
+ * The failures of the backend operations are logged and ignored by the near caches, which then behave as if the backend
+ * was not available.
+ */
+public interface CacheBackend {
+
+    /**
+     * Returns the value associated with the given key in the given cache, or {@code null} if there is no such value.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @return cached value or {@code null}
+     */
+    Object get(String cacheName, Object key);
+
+    /**
+     * Returns the values associated with the given keys in the given cache. The keys which are not associated with any value
+     * are absent from the returned map.
+     *
+     * @param cacheName cache name
+     * @param keys cache keys
+     * @return cached values
+     */
+    Map<Object, Object> getAll(String cacheName, Collection<?> keys);
+
+    /**
+     * Asynchronous variant of {@link #get(String, Object)}.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @return completion stage of the cached value or {@code null}
+     */
+    CompletionStage<Object> getAsync(String cacheName, Object key);
+
+    /**
+     * Associates the given value with the given key in the given cache.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @param value value to cache, never {@code null}
+     * @param lifespan delay after which the entry expires, or {@code null} if the entry should never expire
+     */
+    void put(String cacheName, Object key, Object value, Duration lifespan);
+
+    /**
+     * Associates the given values with their keys in the given cache.
+     *
+     * @param cacheName cache name
+     * @param values values to cache, never {@code null}
+     * @param lifespan delay after which the entries expire, or {@code null} if the entries should never expire
+     */
+    void putAll(String cacheName, Map<?, ?> values, Duration lifespan);
+
+    /**
+     * Asynchronous variant of {@link #put(String, Object, Object, Duration)}.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @param value value to cache, never {@code null}
+     * @param lifespan delay after which the entry expires, or {@code null} if the entry should never expire
+     * @return completion stage completed once the value is stored
+     */
+    CompletionStage<Void> putAsync(String cacheName, Object key, Object value, Duration lifespan);
+
+    /**
+     * Removes the entry associated with the given key from the given cache.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     */
+    void invalidate(String cacheName, Object key);
+
+    /**
+     * Removes all entries from the given cache.
+     *
+     * @param cacheName cache name
+     */
+    void invalidateAll(String cacheName);
+
+    /**
+     * Registers a listener notified when entries of the given cache are modified or removed from the backend.
+     *
+     * @param cacheName cache name
+     * @param listener invalidation listener
+     */
+    void addListener(String cacheName, Listener listener);
+
+    /**
+     * Invalidation listener of a near cache.
+     */
+    interface Listener {
+
+        void onInvalidate(Object key);
+
+        void onInvalidateAll();
+    }
+}
@@ -1,6 +1,8 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,7 +41,13 @@ public class CacheKeyBuilder {
         }
     }
 
-    private static class DefaultCacheKey {
+    /*
+     * The cache keys may be stored in a remote cache backend so they have to be serializable. They are also marshalled with
+     * ProtoStream by the Infinispan backend, see CacheKeyMarshallers.
+     */
+    public static class DefaultCacheKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private final String cacheName;
 
@@ -47,6 +55,10 @@ public class CacheKeyBuilder {
             this.cacheName = cacheName;
         }
 
+        public String getCacheName() {
+            return cacheName;
+        }
+
         @Override
         public int hashCode() {
             return Objects.hash(cacheName);
@@ -65,7 +77,9 @@ public class CacheKeyBuilder {
         }
     }
 
-    private static class CompositeCacheKey {
+    public static class CompositeCacheKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private final Object[] keyElements;
 
@@ -73,6 +87,10 @@ public class CacheKeyBuilder {
             this.keyElements = keyElements.toArray(new Object[0]);
         }
 
+        public List<Object> getKeyElements() {
+            return Collections.unmodifiableList(Arrays.asList(keyElements));
+        }
+
         @Override
         public int hashCode() {
             return Arrays.deepHashCode(keyElements);
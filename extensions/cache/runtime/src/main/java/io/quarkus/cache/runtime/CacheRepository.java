@@ -2,6 +2,7 @@ package io.quarkus.cache.runtime;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
 
@@ -23,4 +24,8 @@ public class CacheRepository {
     public CaffeineCache getCache(String cacheName) {
         return caches.get(cacheName);
     }
+
+    public Set<String> getCacheNames() {
+        return caches.keySet();
+    }
 }
@@ -1,5 +1,12 @@
 package io.quarkus.cache.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -19,11 +26,42 @@ public class CacheResultInterceptor extends CacheInterceptor {
     @AroundInvoke
     public Object intercept(InvocationContext context) throws Exception {
         CacheResultInterceptorBinding binding = getInterceptorBinding(context, CacheResultInterceptorBinding.class);
+        if (binding.bulk()) {
+            return interceptBulk(context, binding);
+        }
         Object key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), context.getParameters());
         CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, cache.getName());
         }
-        return cache.get(key, () -> context.proceed(), binding.lockTimeout());
+        switch (binding.returnType()) {
+            case COMPLETION_STAGE:
+                return cache.getAsync(key, () -> (CompletionStage<?>) context.proceed());
+            case UNI:
+                return UniCacheResultHandler.get(cache, key, context);
+            default:
+                return cache.get(key, () -> context.proceed(), binding.lockTimeout());
+        }
+    }
+
+    /**
+     * The keys collection parameter is split into one cache key per element. Only the missing keys are passed to the cached
+     * method, which is invoked at most once.
+     */
+    private Object interceptBulk(InvocationContext context, CacheResultInterceptorBinding binding) throws Exception {
+        // The key parameter position was validated at build time.
+        short[] cacheKeyParameterPositions = binding.cacheKeyParameterPositions();
+        int keysPosition = cacheKeyParameterPositions.length > 0 ? cacheKeyParameterPositions[0] : 0;
+        Collection<?> keys = (Collection<?>) context.getParameters()[keysPosition];
+        CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Loading entries with keys %s from cache [%s]", keys, cache.getName());
+        }
+        return cache.getAll(keys, missingKeys -> {
+            Object[] parameters = context.getParameters();
+            parameters[keysPosition] = keys instanceof Set ? new LinkedHashSet<>(missingKeys) : new ArrayList<>(missingKeys);
+            context.setParameters(parameters);
+            return (Map<?, ?>) context.proceed();
+        });
     }
 }
@@ -21,4 +21,29 @@ public @interface CacheResultInterceptorBinding {
 
     @Nonbinding
     long lockTimeout() default 0;
+
+    @Nonbinding
+    boolean bulk() default false;
+
+    @Nonbinding
+    ReturnType returnType() default ReturnType.SYNCHRONOUS;
+
+    /**
+     * Kind of value returned by the cached method, detected at build time.
+     */
+    enum ReturnType {
+        /**
+         * The method result is cached as is.
+         */
+        SYNCHRONOUS,
+        /**
+         * The method returns a {@link java.util.concurrent.CompletionStage CompletionStage} and its completed value is
+         * cached.
+         */
+        COMPLETION_STAGE,
+        /**
+         * The method returns a Mutiny {@code Uni} and its emitted item is cached.
+         */
+        UNI
+    }
 }
@@ -0,0 +1,23 @@
+package io.quarkus.cache.runtime;
+
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class isolates the Mutiny types from {@link CacheResultInterceptor} so that the cache extension can be used without the
+ * Mutiny extension.
+ */
+class UniCacheResultHandler {
+
+    /**
+     * Returns a lazy {@link Uni}: the cache is only looked up, and the cached method only invoked on cache miss, when the
+     * returned {@link Uni} is subscribed to.
+     */
+    @SuppressWarnings("unchecked")
+    static Uni<Object> get(CaffeineCache cache, Object key, InvocationContext context) {
+        return Uni.createFrom().completionStage(
+                () -> cache.getAsync(key, () -> ((Uni<Object>) context.proceed()).subscribeAsCompletionStage()));
+    }
+}
@@ -4,17 +4,48 @@ import static io.quarkus.cache.runtime.NullValueConverter.fromCacheValue;
 import static io.quarkus.cache.runtime.NullValueConverter.toCacheValue;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.runtime.CacheBackend;
+import io.quarkus.cache.runtime.CacheKeyBuilder;
+import io.quarkus.runtime.ExecutorRecorder;
 
 public class CaffeineCache {
 
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
+
+    private static final long LISTENER_REGISTRATION_RETRY_DELAY = TimeUnit.SECONDS.toNanos(10);
+
     private AsyncCache<Object, Object> cache;
 
     private String name;
@@ -23,10 +54,36 @@ public class CaffeineCache {
 
     private Long maximumSize;
 
+    private Long maximumWeight;
+
+    private Weigher<Object, Object> weigher;
+
+    private boolean offHeap;
+
     private Duration expireAfterWrite;
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private long refreshAfterWriteNanos;
+
+    private volatile Ticker ticker = Ticker.systemTicker();
+
+    private volatile Executor refreshExecutor = CaffeineCache::executeOnWorker;
+
+    private boolean statsEnabled;
+
+    private volatile CacheBackend backend;
+
+    private volatile boolean backendListenerRegistered;
+
+    private volatile long nextListenerRegistration;
+
+    private final AtomicBoolean listenerRegistrationRunning = new AtomicBoolean();
+
+    private final LongAdder lockTimeoutCount = new LongAdder();
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -39,6 +96,25 @@ public class CaffeineCache {
             this.maximumSize = cacheInfo.maximumSize;
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            this.maximumWeight = cacheInfo.maximumWeight;
+            if (cacheInfo.weigher != null) {
+                this.weigher = newWeigher(cacheInfo.weigher);
+            }
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            builder.weigher(this::weigh);
+        }
+        if (cacheInfo.offHeap) {
+            this.offHeap = true;
+            // The direct memory of the evicted, invalidated or replaced values is freed without waiting for the GC.
+            builder.removalListener((Object key, Object storedValue, RemovalCause cause) -> {
+                Object cacheValue = storedValue instanceof RefreshableValue ? ((RefreshableValue) storedValue).value
+                        : storedValue;
+                if (cacheValue instanceof OffHeapValue) {
+                    ((OffHeapValue) cacheValue).release();
+                }
+            });
+        }
         if (cacheInfo.expireAfterWrite != null) {
             this.expireAfterWrite = cacheInfo.expireAfterWrite;
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
@@ -47,12 +123,24 @@ public class CaffeineCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            // The refresh is not delegated to Caffeine since it requires a cache loader which is not known before the cached
+            // method is invoked. The entries write time is tracked by this class instead.
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+        }
+        if (cacheInfo.statsEnabled) {
+            this.statsEnabled = true;
+            builder.recordStats();
+        }
         cache = builder.buildAsync();
     }
 
     public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
+        Callable<Object> loader = backendLoader(key, valueLoader);
         if (lockTimeout <= 0) {
-            return fromCacheValue(cache.synchronous().get(key, k -> new MappingSupplier(valueLoader).get()));
+            Object storedValue = cache.synchronous().get(key, k -> new MappingSupplier(key, loader).get());
+            return loadIfReleased(fromStoredValue(key, storedValue, valueLoader), valueLoader);
         }
 
         // The lock timeout logic starts here.
@@ -66,39 +154,583 @@ public class CaffeineCache {
 
         CompletableFuture<Object> future = cache.get(key, (k, executor) -> {
             isCurrentThreadComputation[0] = true;
-            return CompletableFuture.supplyAsync(new MappingSupplier(valueLoader), executor);
+            return CompletableFuture.supplyAsync(new MappingSupplier(key, loader), executor);
         });
 
         if (isCurrentThreadComputation[0]) {
             // The value is missing and its computation was started from the current thread.
             // We'll wait for the result no matter how long it takes.
-            return fromCacheValue(future.get());
+            return loadIfReleased(fromStoredValue(key, future.get(), valueLoader), valueLoader);
         } else {
             // The value is either already present in the cache or missing and its computation was started from another thread.
             // We want to retrieve it from the cache within the lock timeout delay.
             try {
-                return fromCacheValue(future.get(lockTimeout, TimeUnit.MILLISECONDS));
+                Object storedValue = future.get(lockTimeout, TimeUnit.MILLISECONDS);
+                return loadIfReleased(fromStoredValue(key, storedValue, valueLoader), valueLoader);
             } catch (TimeoutException e) {
                 // Timeout triggered! We don't want to wait any longer for the value computation and we'll simply invoke the
                 // cached method and return its result without caching it.
-                // TODO: Add statistics here to monitor the timeout.
+                lockTimeoutCount.increment();
                 return valueLoader.call();
             }
         }
     }
 
+    /**
+     * Returns a future which will be completed with the value associated with the given key. On cache miss, the value loader
+     * is invoked from the current thread and the completion stage it returns is stored in the cache so that concurrent
+     * callers share the same computation. A computation that completes exceptionally is automatically removed from the
+     * cache. This method never blocks the current thread. If a {@link CacheBackend} is set, it is looked up asynchronously
+     * before the value loader is invoked, so the value loader may be invoked from a thread of the backend.
+     *
+     * @param key cache key
+     * @param valueLoader function returning a completion stage of the value to cache
+     * @return future completed with the cached value
+     */
+    public CompletableFuture<Object> getAsync(Object key, Callable<? extends CompletionStage<?>> valueLoader) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Callable<? extends CompletionStage<?>> loader = backendAsyncLoader(key, valueLoader);
+        cache.get(key, (k, executor) -> {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            try {
+                CompletionStage<?> completionStage = loader.call();
+                if (completionStage == null) {
+                    throw new NullPointerException("A cached method must not return a null CompletionStage or Uni");
+                }
+                completionStage.whenComplete((value, failure) -> {
+                    if (failure != null) {
+                        complete(future, null, failure);
+                        return;
+                    }
+                    Object storedValue;
+                    try {
+                        storedValue = toStoredValue(key, value);
+                    } catch (Throwable t) {
+                        // Caffeine removes the failed future from the cache, the next call will invoke the cached method again.
+                        future.completeExceptionally(t);
+                        return;
+                    }
+                    future.complete(storedValue);
+                });
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }).whenComplete((storedValue, failure) -> {
+            if (failure != null) {
+                complete(result, null, failure);
+                return;
+            }
+            Object value;
+            try {
+                value = fromStoredValueAsync(key, storedValue, valueLoader);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+            if (value == OffHeapValue.RELEASED) {
+                // The value was evicted while it was read, the cached method is invoked again without caching its result.
+                try {
+                    valueLoader.call().whenComplete((loadedValue, loadFailure) -> complete(result, loadedValue, loadFailure));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the values associated with the given keys. The values which are already cached are served from the cache while
+     * all of the missing keys are loaded from a single invocation of the value loader, from the current thread. The entries
+     * returned by the value loader are cached, and the keys absent from the value loader result are absent from the returned
+     * map as well.
+     *
+     * @param keys cache keys
+     * @param valuesLoader function loading the values associated with the keys missing from the cache
+     * @return map of the cached values, iterated in the same order as the given keys
+     */
+    public Map<Object, Object> getAll(Collection<?> keys, BulkValuesLoader valuesLoader) throws Exception {
+        for (Object key : keys) {
+            if (key == null) {
+                throw new NullPointerException(CacheKeyBuilder.NULL_KEYS_NOT_SUPPORTED_MSG);
+            }
+        }
+        CompletableFuture<Map<Object, Object>> future = cache.getAll(keys, (missingKeys, executor) -> {
+            CompletableFuture<Map<Object, Object>> loadedValues = new CompletableFuture<>();
+            try {
+                Set<Object> keysToLoad = new LinkedHashSet<>();
+                missingKeys.forEach(keysToLoad::add);
+                Map<Object, Object> cacheValues = new HashMap<>();
+                CacheBackend backend = this.backend;
+                if (backend != null) {
+                    retryBackendListenerRegistration(backend);
+                    for (Map.Entry<Object, Object> entry : backendGetAll(backend, keysToLoad).entrySet()) {
+                        if (keysToLoad.remove(entry.getKey())) {
+                            cacheValues.put(entry.getKey(), toStoredValue(entry.getKey(), entry.getValue()));
+                        }
+                    }
+                }
+                if (!keysToLoad.isEmpty()) {
+                    Map<?, ?> values = valuesLoader.load(keysToLoad);
+                    if (values != null) {
+                        for (Map.Entry<?, ?> entry : values.entrySet()) {
+                            cacheValues.put(entry.getKey(), toStoredValue(entry.getKey(), entry.getValue()));
+                        }
+                        if (backend != null) {
+                            backendPutAll(backend, values);
+                        }
+                    }
+                }
+                loadedValues.complete(cacheValues);
+            } catch (Exception e) {
+                loadedValues.completeExceptionally(e);
+            }
+            return loadedValues;
+        });
+        Map<Object, Object> cacheValues;
+        try {
+            // The values loader is invoked from the current thread so the future is already complete at this point.
+            cacheValues = future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+        Map<Object, Object> result = new LinkedHashMap<>();
+        Set<Object> releasedKeys = new LinkedHashSet<>();
+        for (Object key : keys) {
+            if (cacheValues.containsKey(key)) {
+                // Stale entries are not refreshed in bulk mode, they are reloaded once expired.
+                Object value = readStoredValue(cacheValues.get(key));
+                if (value == OffHeapValue.RELEASED) {
+                    releasedKeys.add(key);
+                }
+                result.put(key, value);
+            }
+        }
+        if (!releasedKeys.isEmpty()) {
+            // These values were evicted while they were read, they are loaded again without being cached.
+            Map<?, ?> values = valuesLoader.load(releasedKeys);
+            for (Object key : releasedKeys) {
+                if (values != null && values.containsKey(key)) {
+                    result.put(key, values.get(key));
+                } else {
+                    result.remove(key);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An off-heap value may be evicted and released while it is read, in which case the cached method is invoked again and
+     * its result is returned without being cached.
+     */
+    private static Object loadIfReleased(Object value, Callable<Object> valueLoader) throws Exception {
+        return value == OffHeapValue.RELEASED ? valueLoader.call() : value;
+    }
+
+    private Object toStoredValue(Object key, Object value) {
+        Object cacheValue = toCacheValue(value);
+        if (offHeap && value != null) {
+            // With off-heap storage, the weigher has to be applied before the value is serialized.
+            cacheValue = OffHeapValue.serialize(name, value, weigher == null ? -1 : weigher.weigh(key, value));
+        }
+        return refreshAfterWrite == null ? cacheValue : new RefreshableValue(cacheValue, ticker.read());
+    }
+
+    private static Object readCacheValue(Object cacheValue) {
+        if (cacheValue instanceof OffHeapValue) {
+            return ((OffHeapValue) cacheValue).deserialize();
+        }
+        return fromCacheValue(cacheValue);
+    }
+
+    private int weigh(Object key, Object storedValue) {
+        Object cacheValue = storedValue instanceof RefreshableValue ? ((RefreshableValue) storedValue).value : storedValue;
+        if (cacheValue instanceof OffHeapValue) {
+            return ((OffHeapValue) cacheValue).getWeight();
+        }
+        if (fromCacheValue(cacheValue) == null) {
+            return 1;
+        }
+        return weigher.weigh(key, cacheValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Weigher<Object, Object> newWeigher(String className) {
+        try {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            return (Weigher<Object, Object>) Class.forName(className, true, classLoader).getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Unable to create the cache weigher " + className, e);
+        }
+    }
+
+    /**
+     * Unwraps a value stored in the Caffeine cache. If the value is older than the refresh delay, it is returned anyway while
+     * a single refresh is started for the entry on the refresh executor. The refresh runs with a new request context that
+     * is terminated once it completes: the request of the caller has usually ended by then.
+     */
+    private Object fromStoredValue(Object key, Object storedValue, Callable<?> valueLoader) {
+        RefreshableValue staleValue = startRefreshIfStale(key, storedValue);
+        if (staleValue != null) {
+            refresh(key, staleValue, valueLoader);
+        }
+        return readStoredValue(storedValue);
+    }
+
+    /**
+     * Same as {@link #fromStoredValue(Object, Object, Callable)} except that the refresh is started from the current thread
+     * and completed by the completion stage returned by the value loader.
+     */
+    private Object fromStoredValueAsync(Object key, Object storedValue, Callable<? extends CompletionStage<?>> valueLoader) {
+        RefreshableValue staleValue = startRefreshIfStale(key, storedValue);
+        if (staleValue != null) {
+            refreshAsync(key, staleValue, valueLoader);
+        }
+        return readStoredValue(storedValue);
+    }
+
+    private static Object readStoredValue(Object storedValue) {
+        if (storedValue instanceof RefreshableValue) {
+            return readCacheValue(((RefreshableValue) storedValue).value);
+        }
+        return readCacheValue(storedValue);
+    }
+
+    private RefreshableValue startRefreshIfStale(Object key, Object storedValue) {
+        if (storedValue instanceof RefreshableValue) {
+            RefreshableValue refreshableValue = (RefreshableValue) storedValue;
+            if (refreshableValue.startRefreshIfStale(ticker.read(), refreshAfterWriteNanos)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugf("Refreshing stale entry with key [%s] from cache [%s]", key, name);
+                }
+                return refreshableValue;
+            }
+        }
+        return null;
+    }
+
+    private void refresh(Object key, RefreshableValue staleValue, Callable<?> valueLoader) {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container == null ? null : container.requestContext();
+        refreshExecutor.execute(() -> {
+            if (requestContext != null) {
+                requestContext.activate();
+            }
+            try {
+                Object value = valueLoader.call();
+                CacheBackend backend = this.backend;
+                if (backend != null) {
+                    backendPut(backend, key, value);
+                }
+                replaceStaleValue(key, staleValue, value);
+            } catch (Throwable t) {
+                refreshFailed(key, staleValue, t);
+            } finally {
+                if (requestContext != null) {
+                    requestContext.terminate();
+                }
+            }
+        });
+    }
+
+    private void refreshAsync(Object key, RefreshableValue staleValue, Callable<? extends CompletionStage<?>> valueLoader) {
+        try {
+            valueLoader.call().whenComplete((value, failure) -> {
+                if (failure == null) {
+                    CacheBackend backend = this.backend;
+                    if (backend != null) {
+                        backendPutAsync(backend, key, value);
+                    }
+                    replaceStaleValue(key, staleValue, value);
+                } else {
+                    refreshFailed(key, staleValue, failure);
+                }
+            });
+        } catch (Throwable t) {
+            refreshFailed(key, staleValue, t);
+        }
+    }
+
+    private void replaceStaleValue(Object key, RefreshableValue staleValue, Object value) {
+        // The refreshed value is dropped if the entry was invalidated or replaced while the refresh was running.
+        cache.synchronous().asMap().replace(key, staleValue, toStoredValue(key, value));
+    }
+
+    private void refreshFailed(Object key, RefreshableValue staleValue, Throwable failure) {
+        LOGGER.warnf(failure, "Refresh of the entry with key [%s] from cache [%s] failed, the stale value is kept", key, name);
+        // The next read will try to refresh the entry again.
+        staleValue.refreshing.set(false);
+    }
+
+    /**
+     * Returns a value loader which looks up the second-level cache backend before invoking the given value loader, and which
+     * writes the result of the value loader invocation to the backend.
+     */
+    private Callable<Object> backendLoader(Object key, Callable<Object> valueLoader) {
+        CacheBackend backend = this.backend;
+        if (backend == null) {
+            return valueLoader;
+        }
+        retryBackendListenerRegistration(backend);
+        return () -> {
+            Object value = backendGet(backend, key);
+            if (value == null) {
+                value = valueLoader.call();
+                backendPut(backend, key, value);
+            }
+            return value;
+        };
+    }
+
+    private Callable<? extends CompletionStage<?>> backendAsyncLoader(Object key,
+            Callable<? extends CompletionStage<?>> valueLoader) {
+        CacheBackend backend = this.backend;
+        if (backend == null) {
+            return valueLoader;
+        }
+        retryBackendListenerRegistration(backend);
+        return () -> backendGetAsync(backend, key).thenCompose(value -> {
+            if (value != null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            CompletionStage<?> completionStage;
+            try {
+                completionStage = valueLoader.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+            if (completionStage == null) {
+                throw new NullPointerException("A cached method must not return a null CompletionStage or Uni");
+            }
+            return completionStage.thenApply(loadedValue -> {
+                backendPutAsync(backend, key, loadedValue);
+                return loadedValue;
+            });
+        });
+    }
+
+    /*
+     * The following methods never propagate the failures of the backend: the near cache keeps working as if the backend was
+     * not available. The null values are not stored in the backend.
+     */
+
+    private Object backendGet(CacheBackend backend, Object key) {
+        try {
+            return backend.get(name, key);
+        } catch (RuntimeException e) {
+            backendFailed("get", e);
+            return null;
+        }
+    }
+
+    private Map<Object, Object> backendGetAll(CacheBackend backend, Set<Object> keys) {
+        try {
+            Map<Object, Object> values = backend.getAll(name, keys);
+            return values == null ? Collections.emptyMap() : values;
+        } catch (RuntimeException e) {
+            backendFailed("getAll", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private CompletionStage<Object> backendGetAsync(CacheBackend backend, Object key) {
+        try {
+            return backend.getAsync(name, key).exceptionally(failure -> {
+                backendFailed("getAsync", failure);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            backendFailed("getAsync", e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void backendPut(CacheBackend backend, Object key, Object value) {
+        if (value != null) {
+            try {
+                backend.put(name, key, value, expireAfterWrite);
+            } catch (RuntimeException e) {
+                backendFailed("put", e);
+            }
+        }
+    }
+
+    private void backendPutAll(CacheBackend backend, Map<?, ?> values) {
+        Map<Object, Object> nonNullValues = new HashMap<>();
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            if (entry.getValue() != null) {
+                nonNullValues.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!nonNullValues.isEmpty()) {
+            try {
+                backend.putAll(name, nonNullValues, expireAfterWrite);
+            } catch (RuntimeException e) {
+                backendFailed("putAll", e);
+            }
+        }
+    }
+
+    private void backendPutAsync(CacheBackend backend, Object key, Object value) {
+        if (value != null) {
+            try {
+                backend.putAsync(name, key, value, expireAfterWrite).exceptionally(failure -> {
+                    backendFailed("putAsync", failure);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                backendFailed("putAsync", e);
+            }
+        }
+    }
+
+    private void backendFailed(String operation, Throwable failure) {
+        LOGGER.warnf(failure, "Cache backend operation [%s] failed for cache [%s], the near cache is used alone", operation,
+                name);
+    }
+
+    private static void executeOnWorker(Runnable command) {
+        Executor executor = ExecutorRecorder.getCurrent();
+        (executor == null ? ForkJoinPool.commonPool() : executor).execute(command);
+    }
+
+    private static void complete(CompletableFuture<Object> future, Object value, Throwable failure) {
+        if (failure == null) {
+            future.complete(value);
+        } else if (failure instanceof CompletionException && failure.getCause() != null) {
+            // The original failure is propagated rather than the wrapper added by the dependent stages.
+            future.completeExceptionally(failure.getCause());
+        } else {
+            future.completeExceptionally(failure);
+        }
+    }
+
     public void invalidate(Object key) {
         cache.synchronous().invalidate(key);
+        CacheBackend backend = this.backend;
+        if (backend != null) {
+            try {
+                backend.invalidate(name, key);
+            } catch (RuntimeException e) {
+                backendFailed("invalidate", e);
+            }
+        }
     }
 
     public void invalidateAll() {
         cache.synchronous().invalidateAll();
+        CacheBackend backend = this.backend;
+        if (backend != null) {
+            try {
+                backend.invalidateAll(name);
+            } catch (RuntimeException e) {
+                backendFailed("invalidateAll", e);
+            }
+        }
+    }
+
+    /**
+     * Uses this cache as a near cache in front of the given second-level cache backend. The entries of this cache are
+     * invalidated whenever the backend notifies their modification or removal by another application instance.
+     *
+     * @param backend second-level cache backend
+     */
+    public void setBackend(CacheBackend backend) {
+        registerBackendListener(backend);
+        this.backend = backend;
+    }
+
+    private void registerBackendListener(CacheBackend backend) {
+        try {
+            backend.addListener(name, new CacheBackend.Listener() {
+                @Override
+                public void onInvalidate(Object key) {
+                    cache.synchronous().invalidate(key);
+                }
+
+                @Override
+                public void onInvalidateAll() {
+                    cache.synchronous().invalidateAll();
+                }
+            });
+            backendListenerRegistered = true;
+        } catch (RuntimeException e) {
+            nextListenerRegistration = System.nanoTime() + LISTENER_REGISTRATION_RETRY_DELAY;
+            LOGGER.warnf(e, "Unable to register the invalidation listener of cache [%s] in the backend, retrying in %d seconds",
+                    name, TimeUnit.NANOSECONDS.toSeconds(LISTENER_REGISTRATION_RETRY_DELAY));
+        }
+    }
+
+    /**
+     * Retries a failed registration of the invalidation listener, for example when the backend was not available at
+     * startup. The registration may block so it is retried from a worker thread, once the retry delay has elapsed.
+     */
+    private void retryBackendListenerRegistration(CacheBackend backend) {
+        if (!backendListenerRegistered && System.nanoTime() - nextListenerRegistration >= 0
+                && listenerRegistrationRunning.compareAndSet(false, true)) {
+            executeOnWorker(() -> {
+                try {
+                    registerBackendListener(backend);
+                    if (backendListenerRegistered) {
+                        // The invalidations notified by the backend until now were missed.
+                        cache.synchronous().invalidateAll();
+                    }
+                } finally {
+                    listenerRegistrationRunning.set(false);
+                }
+            });
+        }
+    }
+
+    public CacheBackend getBackend() {
+        return backend;
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Returns a snapshot of the statistics recorded by the underlying Caffeine cache. If statistics recording is disabled
+     * for this cache, all counters of the returned snapshot are equal to {@code 0}.
+     *
+     * @return cache statistics snapshot
+     */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * Returns the number of times a lock on cache miss was interrupted because the {@code lockTimeout} delay was exceeded.
+     * This value is always recorded, even if statistics recording is disabled for this cache.
+     *
+     * @return lock timeouts count
+     */
+    public long getLockTimeoutCount() {
+        return lockTimeoutCount.sum();
+    }
+
+    /**
+     * Returns the approximate number of entries in this cache.
+     *
+     * @return estimated cache size
+     */
+    public long getEstimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public boolean isStatsEnabled() {
+        return statsEnabled;
+    }
+
     // For testing purposes only.
     public Integer getInitialCapacity() {
         return initialCapacity;
@@ -109,6 +741,16 @@ public class CaffeineCache {
         return maximumSize;
     }
 
+    // For testing purposes only.
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    // For testing purposes only.
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
     // For testing purposes only.
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -119,18 +761,63 @@ public class CaffeineCache {
         return expireAfterAccess;
     }
 
-    private static class MappingSupplier implements Supplier<Object> {
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    // For testing purposes only.
+    public void setTicker(Ticker ticker) {
+        this.ticker = ticker;
+    }
+
+    // For testing purposes only.
+    public void setRefreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Loads the values of the keys missing from the cache in a single operation.
+     */
+    @FunctionalInterface
+    public interface BulkValuesLoader {
+
+        Map<?, ?> load(Set<Object> missingKeys) throws Exception;
+    }
+
+    /**
+     * Cached value wrapper used when the refresh is enabled, tracking the time the value was written in the cache.
+     */
+    private static class RefreshableValue {
+
+        private final Object value;
+        private final long writeTime;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        public RefreshableValue(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+
+        public boolean startRefreshIfStale(long now, long refreshAfterWriteNanos) {
+            return now - writeTime >= refreshAfterWriteNanos && refreshing.compareAndSet(false, true);
+        }
+    }
+
+    private class MappingSupplier implements Supplier<Object> {
 
+        private final Object key;
         private final Callable<?> valueLoader;
 
-        public MappingSupplier(Callable<?> valueLoader) {
+        public MappingSupplier(Object key, Callable<?> valueLoader) {
+            this.key = key;
             this.valueLoader = valueLoader;
         }
 
         @Override
         public Object get() {
             try {
-                return toCacheValue(valueLoader.call());
+                return toStoredValue(key, valueLoader.call());
             } catch (RuntimeException e) {
                 throw e;
             } catch (Exception e) {
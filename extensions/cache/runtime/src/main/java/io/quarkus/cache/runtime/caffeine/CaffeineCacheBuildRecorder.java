@@ -6,7 +6,10 @@ import java.util.Set;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.cache.runtime.CacheBackend;
 import io.quarkus.cache.runtime.CacheRepository;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -22,9 +25,10 @@ public class CaffeineCacheBuildRecorder {
         for (CaffeineCacheInfo cacheInfo : cacheInfos) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf(
-                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
-                        cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
-                        cacheInfo.expireAfterAccess);
+                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [maximumWeight=%s], [weigher=%s], [offHeap=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s] and [statsEnabled=%s]",
+                        cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                        cacheInfo.weigher, cacheInfo.offHeap, cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess,
+                        cacheInfo.refreshAfterWrite, cacheInfo.statsEnabled);
             }
             CaffeineCache cache = new CaffeineCache(cacheInfo);
             caches.put(cacheInfo.name, cache);
@@ -32,4 +36,16 @@ public class CaffeineCacheBuildRecorder {
 
         beanContainer.instance(CacheRepository.class).setCaches(caches);
     }
+
+    public void setBackend(BeanContainer beanContainer) {
+        InstanceHandle<CacheBackend> backend = Arc.container().instance(CacheBackend.class);
+        if (backend.isAvailable()) {
+            CacheRepository cacheRepository = beanContainer.instance(CacheRepository.class);
+            for (String cacheName : cacheRepository.getCacheNames()) {
+                LOGGER.debugf("Using Caffeine cache [%s] as a near cache of backend [%s]", cacheName,
+                        backend.getBean().getBeanClass().getName());
+                cacheRepository.getCache(cacheName).setBackend(backend.get());
+            }
+        }
+    }
 }
@@ -0,0 +1,183 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Cached value serialized into a direct {@link ByteBuffer}, outside of the Java heap. Only the small wrapper object is
+ * allocated on the heap, so the cached values do not increase the garbage collection pause times. A new copy of the value is
+ * deserialized each time it is read from the cache.
+ * <p>
+ * The direct memory is freed as soon as the value is removed from the cache and the pending reads are complete, rather than
+ * when the garbage collector reclaims the buffer, which may only happen long after the eviction.
+ */
+final class OffHeapValue {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapValue.class);
+
+    /**
+     * Returned by {@link #deserialize()} when the value was released before it could be read.
+     */
+    static final Object RELEASED = new Object();
+
+    private static final Consumer<ByteBuffer> DEALLOCATOR = deallocator();
+
+    private final ByteBuffer buffer;
+    private final int weight;
+    // One reference is held by the cache, and one by each read in progress.
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private OffHeapValue(ByteBuffer buffer, int weight) {
+        this.buffer = buffer;
+        this.weight = weight;
+    }
+
+    /**
+     * Serializes the given value into a direct byte buffer.
+     *
+     * @param cacheName cache name, used in the error messages
+     * @param value value to serialize
+     * @param weight weight of the value, or a negative number if the weight is the serialized size in bytes
+     * @return off-heap value
+     */
+    static OffHeapValue serialize(String cacheName, Object value, int weight) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (NotSerializableException e) {
+            throw new IllegalArgumentException("The values of the off-heap cache [" + cacheName + "] must be serializable: "
+                    + value.getClass().getName(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] array = bytes.toByteArray();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(array.length);
+        buffer.put(array);
+        buffer.flip();
+        return new OffHeapValue(buffer, weight < 0 ? array.length : weight);
+    }
+
+    /**
+     * @return a new copy of the value, or {@link #RELEASED} if the value was removed from the cache and released
+     */
+    Object deserialize() {
+        if (!retain()) {
+            return RELEASED;
+        }
+        byte[] array;
+        try {
+            // The buffer is duplicated so that concurrent reads don't share the same position.
+            ByteBuffer source = buffer.duplicate();
+            array = new byte[source.remaining()];
+            source.get(array);
+        } finally {
+            release();
+        }
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(array))) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    private boolean retain() {
+        for (;;) {
+            int count = references.get();
+            if (count == 0) {
+                return false;
+            }
+            if (references.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the reference held by the cache once the value is removed from it, or the reference of a read.
+     */
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            DEALLOCATOR.accept(buffer);
+        }
+    }
+
+    /**
+     * There is no public API to free a direct buffer: the cleaner of the buffer is invoked through {@code Unsafe} on Java 9+
+     * and directly on Java 8. If neither is available, the memory is freed by the garbage collector.
+     */
+    private static Consumer<ByteBuffer> deallocator() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 8
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1);
+            Method cleaner = buffer.getClass().getMethod("cleaner");
+            cleaner.setAccessible(true);
+            Method clean = cleaner.getReturnType().getMethod("clean");
+            clean.setAccessible(true);
+            return direct -> invoke(clean, invoke(cleaner, direct, null), null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Unable to free the direct buffers explicitly, they will be freed by the garbage collector", e);
+            return buffer -> {
+            };
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object argument) {
+        try {
+            return argument == null ? method.invoke(target) : method.invoke(target, argument);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to free a direct buffer", e);
+        }
+    }
+
+    /**
+     * The application classes may not be visible from the class loader of this extension.
+     */
+    private static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Falls back to the default resolution.
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+public class CaffeineCacheCounter implements Counter {
+
+    private String cacheName;
+    private String metric;
+    private volatile CaffeineCache cache;
+
+    public CaffeineCacheCounter() {
+    }
+
+    /**
+     * @param cacheName Which cache should be queried for metric
+     * @param metric Name of the statistic that should be retrieved from the cache. This has nothing to do with the metric name
+     *        from MP Metrics point of view!
+     */
+    public CaffeineCacheCounter(String cacheName, String metric) {
+        this.cacheName = cacheName;
+        this.metric = metric;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public long getCount() {
+        CaffeineCache cache = getCache();
+        if ("lockTimeouts".equals(metric)) {
+            return cache.getLockTimeoutCount();
+        }
+        CacheStats stats = cache.getStats();
+        switch (metric) {
+            case "hits":
+                return stats.hitCount();
+            case "misses":
+                return stats.missCount();
+            case "loadSuccesses":
+                return stats.loadSuccessCount();
+            case "loadFailures":
+                return stats.loadFailureCount();
+            case "evictions":
+                return stats.evictionCount();
+            default:
+                throw new IllegalArgumentException("Unknown cache metric");
+        }
+    }
+
+    @Override
+    public void inc() {
+        throw new IllegalStateException(
+                "Cache metrics values are computed from Caffeine statistics objects and should not be updated manually");
+    }
+
+    @Override
+    public void inc(long n) {
+        throw new IllegalStateException(
+                "Cache metrics values are computed from Caffeine statistics objects and should not be updated manually");
+    }
+
+    private CaffeineCache getCache() {
+        CaffeineCache cacheLocal = cache;
+        if (cacheLocal == null) {
+            synchronized (this) {
+                cacheLocal = cache;
+                if (cacheLocal == null) {
+                    cache = cacheLocal = Arc.container().instance(CacheRepository.class).get().getCache(cacheName);
+                }
+            }
+        }
+        return cacheLocal;
+    }
+}
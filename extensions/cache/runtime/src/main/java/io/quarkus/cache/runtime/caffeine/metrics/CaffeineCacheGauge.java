@@ -0,0 +1,79 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+public class CaffeineCacheGauge implements Gauge<Number> {
+
+    private String cacheName;
+    private String metric;
+    private volatile CaffeineCache cache;
+
+    public CaffeineCacheGauge() {
+    }
+
+    /**
+     * @param cacheName Which cache should be queried for metric
+     * @param metric Name of the statistic that should be retrieved from the cache. This has nothing to do with the metric name
+     *        from MP Metrics point of view!
+     */
+    public CaffeineCacheGauge(String cacheName, String metric) {
+        this.cacheName = cacheName;
+        this.metric = metric;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public Number getValue() {
+        CaffeineCache cache = getCache();
+        if ("size".equals(metric)) {
+            return cache.getEstimatedSize();
+        }
+        CacheStats stats = cache.getStats();
+        switch (metric) {
+            case "hitRatio":
+                return stats.hitRate();
+            case "loadTimeAverage":
+                return TimeUnit.NANOSECONDS.toMillis((long) stats.averageLoadPenalty());
+            case "loadTimeTotal":
+                return TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime());
+            default:
+                throw new IllegalArgumentException("Unknown cache metric");
+        }
+    }
+
+    private CaffeineCache getCache() {
+        CaffeineCache cacheLocal = cache;
+        if (cacheLocal == null) {
+            synchronized (this) {
+                cacheLocal = cache;
+                if (cacheLocal == null) {
+                    cache = cacheLocal = Arc.container().instance(CacheRepository.class).get().getCache(cacheName);
+                }
+            }
+        }
+        return cacheLocal;
+    }
+}
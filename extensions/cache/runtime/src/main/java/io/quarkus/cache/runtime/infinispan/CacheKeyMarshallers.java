@@ -0,0 +1,114 @@
+package io.quarkus.cache.runtime.infinispan;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.infinispan.protostream.FileDescriptorSource;
+import org.infinispan.protostream.MessageMarshaller;
+import org.infinispan.protostream.SerializationContext;
+import org.infinispan.protostream.WrappedMessage;
+
+import io.quarkus.cache.runtime.CacheKeyBuilder;
+import io.quarkus.cache.runtime.CacheKeyBuilder.CompositeCacheKey;
+import io.quarkus.cache.runtime.CacheKeyBuilder.DefaultCacheKey;
+
+/**
+ * ProtoStream marshallers of the keys built by {@link CacheKeyBuilder}, which is the default marshaller of the
+ * infinispan-client extension. The elements of a composite key are wrapped so that they can be of any type known by the
+ * ProtoStream serialization context: scalars, strings or application types with a registered marshaller.
+ * <p>
+ * They are registered by {@link InfinispanCacheBackend} in the serialization context of the {@code RemoteCacheManager}.
+ */
+final class CacheKeyMarshallers {
+
+    static final String PROTO_FILE_NAME = "quarkus-cache-keys.proto";
+    // A null element of a composite key cannot be wrapped, its position is written instead.
+    static final String PROTO_FILE = "package quarkus.cache;\n"
+            + "\n"
+            + "import \"org/infinispan/protostream/message-wrapping.proto\";\n"
+            + "\n"
+            + "message DefaultCacheKey {\n"
+            + "  required string cacheName = 1;\n"
+            + "}\n"
+            + "\n"
+            + "message CompositeCacheKey {\n"
+            + "  repeated org.infinispan.protostream.WrappedMessage keyElements = 1;\n"
+            + "  repeated uint32 nullElements = 2;\n"
+            + "}\n";
+
+    private CacheKeyMarshallers() {
+    }
+
+    static void register(SerializationContext serializationContext) {
+        serializationContext.registerProtoFiles(FileDescriptorSource.fromString(PROTO_FILE_NAME, PROTO_FILE));
+        serializationContext.registerMarshaller(new DefaultCacheKeyMarshaller());
+        serializationContext.registerMarshaller(new CompositeCacheKeyMarshaller());
+    }
+
+    static class DefaultCacheKeyMarshaller implements MessageMarshaller<DefaultCacheKey> {
+
+        @Override
+        public DefaultCacheKey readFrom(ProtoStreamReader reader) throws IOException {
+            return (DefaultCacheKey) CacheKeyBuilder.buildDefault(reader.readString("cacheName"));
+        }
+
+        @Override
+        public void writeTo(ProtoStreamWriter writer, DefaultCacheKey key) throws IOException {
+            writer.writeString("cacheName", key.getCacheName());
+        }
+
+        @Override
+        public Class<? extends DefaultCacheKey> getJavaClass() {
+            return DefaultCacheKey.class;
+        }
+
+        @Override
+        public String getTypeName() {
+            return "quarkus.cache.DefaultCacheKey";
+        }
+    }
+
+    static class CompositeCacheKeyMarshaller implements MessageMarshaller<CompositeCacheKey> {
+
+        @Override
+        public CompositeCacheKey readFrom(ProtoStreamReader reader) throws IOException {
+            List<WrappedMessage> wrappedElements = reader.readCollection("keyElements", new ArrayList<>(),
+                    WrappedMessage.class);
+            List<Integer> nullElements = reader.readCollection("nullElements", new ArrayList<>(), Integer.class);
+            List<Object> keyElements = new ArrayList<>(wrappedElements.size() + nullElements.size());
+            Iterator<WrappedMessage> it = wrappedElements.iterator();
+            for (int i = 0; i < wrappedElements.size() + nullElements.size(); i++) {
+                keyElements.add(nullElements.contains(i) ? null : it.next().getValue());
+            }
+            return new CompositeCacheKey(keyElements);
+        }
+
+        @Override
+        public void writeTo(ProtoStreamWriter writer, CompositeCacheKey key) throws IOException {
+            List<Object> keyElements = key.getKeyElements();
+            List<WrappedMessage> wrappedElements = new ArrayList<>(keyElements.size());
+            List<Integer> nullElements = new ArrayList<>();
+            for (int i = 0; i < keyElements.size(); i++) {
+                if (keyElements.get(i) == null) {
+                    nullElements.add(i);
+                } else {
+                    wrappedElements.add(new WrappedMessage(keyElements.get(i)));
+                }
+            }
+            writer.writeCollection("keyElements", wrappedElements, WrappedMessage.class);
+            writer.writeCollection("nullElements", nullElements, Integer.class);
+        }
+
+        @Override
+        public Class<? extends CompositeCacheKey> getJavaClass() {
+            return CompositeCacheKey.class;
+        }
+
+        @Override
+        public String getTypeName() {
+            return "quarkus.cache.CompositeCacheKey";
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package io.quarkus.cache.runtime.infinispan;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryCreated;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryModified;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryRemoved;
+import org.infinispan.client.hotrod.annotation.ClientCacheFailover;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryCreatedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+import org.infinispan.client.hotrod.marshall.ProtoStreamMarshaller;
+import org.infinispan.commons.marshall.Marshaller;
+
+import io.quarkus.cache.runtime.CacheBackend;
+
+/**
+ * {@link CacheBackend} storing the entries in the remote caches of an Infinispan server, using the {@link RemoteCacheManager}
+ * produced by the infinispan-client extension. Each Quarkus cache is stored in the remote cache with the same name, which
+ * must exist on the server.
+ * <p>
+ * The keys built by Quarkus for the no-args and multiple-args cached methods are supported by the default ProtoStream
+ * marshaller thanks to {@link CacheKeyMarshallers}, the other keys and the values must be supported by the marshaller of
+ * the infinispan-client extension.
+ * <p>
+ * This bean is only registered, as an application scoped bean, when the infinispan cache backend is configured.
+ */
+public class InfinispanCacheBackend implements CacheBackend {
+
+    /*
+     * Removing all entries from a remote cache does not notify the client listeners. A new epoch is written to this key
+     * after a cache is cleared so that the event tells all near caches to invalidate all of their entries. Each
+     * invalidation writes its own epoch, so that concurrent invalidations are all notified.
+     */
+    static final String INVALIDATE_ALL_KEY = "io.quarkus.cache.invalidate-all";
+
+    private final Map<String, RemoteCache<Object, Object>> remoteCaches = new ConcurrentHashMap<>();
+    private final Map<String, InvalidationListener> listeners = new ConcurrentHashMap<>();
+
+    @Inject
+    RemoteCacheManager remoteCacheManager;
+
+    @PostConstruct
+    void registerKeyMarshallers() {
+        Marshaller marshaller = remoteCacheManager.getMarshaller();
+        if (marshaller instanceof ProtoStreamMarshaller) {
+            CacheKeyMarshallers.register(((ProtoStreamMarshaller) marshaller).getSerializationContext());
+        }
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        return getRemoteCache(cacheName).get(key);
+    }
+
+    @Override
+    public Map<Object, Object> getAll(String cacheName, Collection<?> keys) {
+        return getRemoteCache(cacheName).getAll(new LinkedHashSet<>(keys));
+    }
+
+    @Override
+    public CompletionStage<Object> getAsync(String cacheName, Object key) {
+        return getRemoteCache(cacheName).getAsync(key);
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration lifespan) {
+        RemoteCache<Object, Object> remoteCache = getRemoteCache(cacheName);
+        InvalidationListener listener = listeners.get(cacheName);
+        writeStarted(listener, key);
+        try {
+            if (lifespan == null) {
+                remoteCache.put(key, value);
+            } else {
+                remoteCache.put(key, value, lifespan.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            writeFailed(listener, key);
+            throw e;
+        }
+    }
+
+    @Override
+    public void putAll(String cacheName, Map<?, ?> values, Duration lifespan) {
+        RemoteCache<Object, Object> remoteCache = getRemoteCache(cacheName);
+        InvalidationListener listener = listeners.get(cacheName);
+        values.keySet().forEach(key -> writeStarted(listener, key));
+        try {
+            if (lifespan == null) {
+                remoteCache.putAll(values);
+            } else {
+                remoteCache.putAll(values, lifespan.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            values.keySet().forEach(key -> writeFailed(listener, key));
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> putAsync(String cacheName, Object key, Object value, Duration lifespan) {
+        RemoteCache<Object, Object> remoteCache = getRemoteCache(cacheName);
+        InvalidationListener listener = listeners.get(cacheName);
+        writeStarted(listener, key);
+        CompletionStage<Object> put;
+        try {
+            if (lifespan == null) {
+                put = remoteCache.putAsync(key, value);
+            } else {
+                put = remoteCache.putAsync(key, value, lifespan.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            writeFailed(listener, key);
+            throw e;
+        }
+        return put.handle((previousValue, failure) -> {
+            if (failure != null) {
+                writeFailed(listener, key);
+                throw failure instanceof CompletionException ? (CompletionException) failure
+                        : new CompletionException(failure);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void invalidate(String cacheName, Object key) {
+        getRemoteCache(cacheName).remove(key);
+    }
+
+    @Override
+    public void invalidateAll(String cacheName) {
+        RemoteCache<Object, Object> remoteCache = getRemoteCache(cacheName);
+        remoteCache.clear();
+        remoteCache.put(INVALIDATE_ALL_KEY, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public void addListener(String cacheName, Listener listener) {
+        InvalidationListener invalidationListener = new InvalidationListener(listener);
+        getRemoteCache(cacheName).addClientListener(invalidationListener);
+        listeners.put(cacheName, invalidationListener);
+    }
+
+    private static void writeStarted(InvalidationListener listener, Object key) {
+        if (listener != null) {
+            listener.writeStarted(key);
+        }
+    }
+
+    private static void writeFailed(InvalidationListener listener, Object key) {
+        if (listener != null) {
+            listener.writeEnded(key);
+        }
+    }
+
+    private RemoteCache<Object, Object> getRemoteCache(String cacheName) {
+        return remoteCaches.computeIfAbsent(cacheName, name -> {
+            RemoteCache<Object, Object> remoteCache = remoteCacheManager.getCache(name);
+            if (remoteCache == null) {
+                throw new IllegalStateException("Remote cache [" + name + "] not found on the Infinispan server");
+            }
+            return remoteCache;
+        });
+    }
+
+    /**
+     * Invalidates the entries of a near cache which are written or removed by any application instance, except for the
+     * writes of this instance whose value is already in the near cache.
+     */
+    @ClientListener
+    public static class InvalidationListener {
+
+        private final Listener listener;
+        // Number of writes of this instance per key whose event has not been received yet.
+        private final ConcurrentMap<Object, Integer> pendingWrites = new ConcurrentHashMap<>();
+
+        public InvalidationListener(Listener listener) {
+            this.listener = listener;
+        }
+
+        void writeStarted(Object key) {
+            pendingWrites.merge(key, 1, Integer::sum);
+        }
+
+        /**
+         * @return {@code true} if a write of this instance was pending for the given key
+         */
+        boolean writeEnded(Object key) {
+            boolean[] pending = { false };
+            pendingWrites.computeIfPresent(key, (k, count) -> {
+                pending[0] = true;
+                return count == 1 ? null : count - 1;
+            });
+            return pending[0];
+        }
+
+        @ClientCacheEntryCreated
+        public void onCreated(ClientCacheEntryCreatedEvent<Object> event) {
+            onWritten(event.getKey());
+        }
+
+        @ClientCacheEntryModified
+        public void onModified(ClientCacheEntryModifiedEvent<Object> event) {
+            onWritten(event.getKey());
+        }
+
+        private void onWritten(Object key) {
+            if (INVALIDATE_ALL_KEY.equals(key)) {
+                listener.onInvalidateAll();
+            } else if (!writeEnded(key)) {
+                /*
+                 * The events of a key are received in the order of the writes, so a pending write may only consume the
+                 * event of an older write from another instance. The event of its own write then invalidates the entry.
+                 */
+                listener.onInvalidate(key);
+            }
+        }
+
+        @ClientCacheEntryRemoved
+        public void onRemoved(ClientCacheEntryRemovedEvent<Object> event) {
+            if (INVALIDATE_ALL_KEY.equals(event.getKey())) {
+                listener.onInvalidateAll();
+            } else {
+                listener.onInvalidate(event.getKey());
+            }
+        }
+
+        @ClientCacheFailover
+        public void onFailover(ClientCacheFailoverEvent event) {
+            // Some events may have been missed while the client was switching to another server.
+            pendingWrites.clear();
+            listener.onInvalidateAll();
+        }
+    }
+}
@@ -54,12 +54,24 @@ public class OidcTenantConfig {
     @ConfigItem
     public Optional<String> introspectionPath = Optional.empty();
 
+    /**
+     * Introspection cache configuration
+     */
+    @ConfigItem
+    public IntrospectionCache introspectionCache = new IntrospectionCache();
+
     /**
      * Relative path of the OIDC service returning a JWK set.
      */
     @ConfigItem
     public Optional<String> jwksPath = Optional.empty();
 
+    /**
+     * JWK set refresh configuration
+     */
+    @ConfigItem
+    public Jwks jwks = new Jwks();
+
     /**
      * Relative path of the OIDC end_session_endpoint.
      */
@@ -207,6 +219,14 @@ public class OidcTenantConfig {
         this.introspectionPath = Optional.of(introspectionPath);
     }
 
+    public IntrospectionCache getIntrospectionCache() {
+        return introspectionCache;
+    }
+
+    public void setIntrospectionCache(IntrospectionCache introspectionCache) {
+        this.introspectionCache = introspectionCache;
+    }
+
     public Optional<String> getJwksPath() {
         return jwksPath;
     }
@@ -215,6 +235,14 @@ public class OidcTenantConfig {
         this.jwksPath = Optional.of(jwksPath);
     }
 
+    public Jwks getJwks() {
+        return jwks;
+    }
+
+    public void setJwks(Jwks jwks) {
+        this.jwks = jwks;
+    }
+
     public Optional<String> getEndSessionPath() {
         return endSessionPath;
     }
@@ -559,6 +587,94 @@ public class OidcTenantConfig {
         }
     }
 
+    @ConfigGroup
+    public static class Jwks {
+
+        /**
+         * Interval at which the JWK set is refreshed in the background, so that the keys added by a key rotation are
+         * known before the tokens signed with them are received.
+         * The JWK set is not refreshed periodically if the interval is zero.
+         */
+        @ConfigItem(defaultValue = "10M")
+        public Duration refreshInterval = Duration.ofMinutes(10);
+
+        /**
+         * Minimum time between two refreshes of the JWK set caused by tokens signed with an unknown key.
+         * The requests with such tokens share a single refresh, and a key still unknown after a refresh does not
+         * cause another refresh until the JWK set is refreshed again, so that random key identifiers cannot be used to
+         * send a flood of requests to the OpenID Connect server.
+         */
+        @ConfigItem(defaultValue = "10S")
+        public Duration forcedRefreshInterval = Duration.ofSeconds(10);
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getForcedRefreshInterval() {
+            return forcedRefreshInterval;
+        }
+
+        public void setForcedRefreshInterval(Duration forcedRefreshInterval) {
+            this.forcedRefreshInterval = forcedRefreshInterval;
+        }
+    }
+
+    @ConfigGroup
+    public static class IntrospectionCache {
+
+        /**
+         * If enabled, the result of the introspection of an opaque access token is cached until the token expires, so that
+         * a token sent with several requests is only introspected once.
+         * A token revoked by the OpenID Connect server may then be accepted until its cached result expires.
+         * <p>
+         * The results are kept in memory, unless an application scoped bean implementing
+         * {@link io.quarkus.oidc.TokenIntrospectionCache} is registered.
+         */
+        @ConfigItem
+        public boolean enabled;
+
+        /**
+         * The maximum number of cached introspection results.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxSize = 1000;
+
+        /**
+         * The maximum time an introspection result is cached for, if the token does not expire before.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive = Duration.ofMinutes(3);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
     @ConfigGroup
     public static class Token {
 
@@ -0,0 +1,36 @@
+package io.quarkus.oidc;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * <p>
+ * A cache of the results of the RFC7662 introspection of opaque access tokens.
+ *
+ * <p>
+ * When the introspection cache of a tenant is enabled, the results are kept in memory by default. Register an
+ * application scoped bean implementing this interface to keep them in a backend shared by several instances of the
+ * application instead.
+ */
+public interface TokenIntrospectionCache {
+
+    /**
+     * Returns the cached introspection result of a token.
+     *
+     * @param config the tenant configuration
+     * @param token the opaque access token
+     * @return the introspection result, or a {@code null} item if it is not cached or has expired
+     */
+    Uni<JsonObject> getIntrospection(OidcTenantConfig config, String token);
+
+    /**
+     * Caches the introspection result of an active token.
+     *
+     * @param config the tenant configuration
+     * @param token the opaque access token
+     * @param introspection the introspection result
+     * @param expiresAt the time after which the result must not be returned, in milliseconds since the epoch
+     * @return a {@code Uni} completed when the result is cached
+     */
+    Uni<Void> addIntrospection(OidcTenantConfig config, String token, JsonObject introspection, long expiresAt);
+}
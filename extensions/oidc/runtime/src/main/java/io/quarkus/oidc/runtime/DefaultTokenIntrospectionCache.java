@@ -0,0 +1,48 @@
+package io.quarkus.oidc.runtime;
+
+import io.quarkus.oidc.OidcTenantConfig;
+import io.quarkus.oidc.TokenIntrospectionCache;
+import io.quarkus.security.runtime.ExpiringCache;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A bounded in-memory cache of the introspection results of a tenant.
+ * <p>
+ * The entries are keyed by a SHA-256 digest of the token, so that the tokens themselves are not kept in memory.
+ */
+class DefaultTokenIntrospectionCache implements TokenIntrospectionCache {
+
+    private final ExpiringCache<JsonObject> entries;
+
+    DefaultTokenIntrospectionCache(int maxSize) {
+        this.entries = new ExpiringCache<>(maxSize);
+    }
+
+    @Override
+    public Uni<JsonObject> getIntrospection(OidcTenantConfig config, String token) {
+        return Uni.createFrom().item(get(key(token)));
+    }
+
+    @Override
+    public Uni<Void> addIntrospection(OidcTenantConfig config, String token, JsonObject introspection, long expiresAt) {
+        put(key(token), introspection, expiresAt);
+        return Uni.createFrom().voidItem();
+    }
+
+    JsonObject get(String key) {
+        return entries.get(key);
+    }
+
+    void put(String key, JsonObject introspection, long expiresAt) {
+        entries.put(key, introspection, expiresAt);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    static String key(String token) {
+        return ExpiringCache.digest(token);
+    }
+}
@@ -0,0 +1,137 @@
+package io.quarkus.oidc.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.oidc.OidcTenantConfig;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.oauth2.OAuth2Auth;
+
+/**
+ * Refreshes the JWK set of a tenant periodically, and when a token is signed with an unknown key.
+ * <p>
+ * The refreshes never block: the requests with a token signed with an unknown key share a single refresh and verify
+ * their token again once it completes. A key that is still unknown after a refresh is remembered until the next
+ * refresh, so that tokens with random key identifiers are rejected without contacting the OpenID Connect server, and
+ * the refreshes caused by unknown keys are at least the forced refresh interval apart.
+ */
+class JwksRefresher {
+
+    private static final Logger LOG = Logger.getLogger(JwksRefresher.class);
+
+    /**
+     * The maximum number of unknown key identifiers that are remembered
+     */
+    private static final int MAX_UNKNOWN_KEYS = 1000;
+
+    private final Vertx vertx;
+    private final OAuth2Auth auth;
+    private final String tenantId;
+    private final long forcedRefreshInterval;
+    private final Set<String> unknownKeys = ConcurrentHashMap.newKeySet();
+
+    private CompletableFuture<Void> refresh;
+    private long lastRefresh;
+    private long timerId = -1;
+
+    JwksRefresher(Vertx vertx, OAuth2Auth auth, OidcTenantConfig.Jwks config, String tenantId) {
+        this.vertx = vertx;
+        this.auth = auth;
+        this.tenantId = tenantId;
+        this.forcedRefreshInterval = config.forcedRefreshInterval.toMillis();
+        this.lastRefresh = System.currentTimeMillis();
+        long refreshInterval = config.refreshInterval.toMillis();
+        if (refreshInterval > 0) {
+            timerId = vertx.setPeriodic(refreshInterval, id -> refresh());
+        }
+    }
+
+    /**
+     * Cancels the periodic refresh.
+     */
+    void close() {
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+
+    /**
+     * Called when a token could not be verified.
+     *
+     * @return a stage completed when the JWK set is refreshed, or null if the token should not be verified again
+     */
+    CompletionStage<Void> refreshForUnknownKey(String token) {
+        String keyId = getKeyId(token);
+        if (keyId == null || unknownKeys.contains(keyId)) {
+            return null;
+        }
+        synchronized (this) {
+            if (refresh != null) {
+                return refresh;
+            }
+            if (System.currentTimeMillis() - lastRefresh < forcedRefreshInterval) {
+                return null;
+            }
+            return refresh();
+        }
+    }
+
+    /**
+     * Called when a token could still not be verified after the JWK set was refreshed.
+     */
+    void keyNotFound(String token) {
+        String keyId = getKeyId(token);
+        if (keyId != null && unknownKeys.size() < MAX_UNKNOWN_KEYS) {
+            unknownKeys.add(keyId);
+        }
+    }
+
+    private synchronized CompletableFuture<Void> refresh() {
+        if (refresh != null) {
+            return refresh;
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        refresh = result;
+        lastRefresh = System.currentTimeMillis();
+        auth.loadJWK(event -> {
+            synchronized (JwksRefresher.this) {
+                refresh = null;
+                if (event.succeeded()) {
+                    unknownKeys.clear();
+                }
+            }
+            if (event.succeeded()) {
+                LOG.debugf("JWK set of the %s tenant refreshed", tenantId);
+                result.complete(null);
+            } else {
+                LOG.warnf(event.cause(), "Failed to refresh the JWK set of the %s tenant", tenantId);
+                result.completeExceptionally(event.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return the key identifier in the header of the token, or null if it has none or is not a JWT
+     */
+    static String getKeyId(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            String header = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            return new JsonObject(header).getString("kid");
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
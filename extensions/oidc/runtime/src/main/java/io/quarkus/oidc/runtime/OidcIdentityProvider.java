@@ -2,12 +2,21 @@ package io.quarkus.oidc.runtime;
 
 import static io.quarkus.oidc.runtime.OidcUtils.validateAndCreateIdentity;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.jwt.Claims;
+
+import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
@@ -17,8 +26,14 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.oauth2.AccessToken;
+import io.vertx.ext.auth.oauth2.OAuth2ClientOptions;
+import io.vertx.ext.auth.oauth2.OAuth2Response;
+import io.vertx.ext.auth.oauth2.impl.OAuth2API;
 import io.vertx.ext.auth.oauth2.impl.OAuth2AuthProviderImpl;
 import io.vertx.ext.jwt.JWT;
 import io.vertx.ext.web.RoutingContext;
@@ -28,6 +43,9 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     @Inject
     DefaultTenantConfigResolver tenantResolver;
 
+    @Inject
+    Instance<TokenIntrospectionCache> sharedIntrospectionCache;
+
     @Override
     public Class<TokenAuthenticationRequest> getRequestType() {
         return TokenAuthenticationRequest.class;
@@ -67,29 +85,163 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
         }
     }
 
-    @SuppressWarnings("deprecation")
     private Uni<SecurityIdentity> validateTokenWithOidcServer(TokenAuthenticationRequest request,
             TenantConfigContext resolvedContext) {
 
+        if (OidcUtils.isOpaqueToken(request.getToken().getToken())
+                && ((OAuth2AuthProviderImpl) resolvedContext.auth).getConfig().getIntrospectionPath() != null) {
+            return introspectToken(request, resolvedContext);
+        }
+
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
-                resolvedContext.auth.decodeToken(request.getToken().getToken(),
-                        new Handler<AsyncResult<AccessToken>>() {
+                decodeToken(request, resolvedContext, uniEmitter, false);
+            }
+        });
+    }
+
+    @SuppressWarnings("deprecation")
+    private void decodeToken(TokenAuthenticationRequest request, TenantConfigContext resolvedContext,
+            UniEmitter<? super SecurityIdentity> uniEmitter, boolean jwksRefreshed) {
+        resolvedContext.auth.decodeToken(request.getToken().getToken(),
+                new Handler<AsyncResult<AccessToken>>() {
+                    @Override
+                    public void handle(AsyncResult<AccessToken> event) {
+                        if (event.failed()) {
+                            JwksRefresher jwks = resolvedContext.jwks;
+                            if (jwks != null && !jwksRefreshed) {
+                                // the token may be signed with a key added by a key rotation
+                                CompletionStage<Void> refresh = jwks.refreshForUnknownKey(request.getToken().getToken());
+                                if (refresh != null) {
+                                    refresh.whenComplete(new BiConsumer<Void, Throwable>() {
+                                        @Override
+                                        public void accept(Void result, Throwable failure) {
+                                            if (failure != null) {
+                                                uniEmitter.fail(new AuthenticationFailedException(event.cause()));
+                                            } else {
+                                                decodeToken(request, resolvedContext, uniEmitter, true);
+                                            }
+                                        }
+                                    });
+                                    return;
+                                }
+                            } else if (jwks != null) {
+                                jwks.keyNotFound(request.getToken().getToken());
+                            }
+                            uniEmitter.fail(new AuthenticationFailedException(event.cause()));
+                            return;
+                        }
+                        JsonObject tokenJson = event.result().accessToken();
+                        try {
+                            uniEmitter.complete(
+                                    validateAndCreateIdentity(request.getToken(), resolvedContext.oidcConfig,
+                                            tokenJson));
+                        } catch (Throwable ex) {
+                            uniEmitter.fail(ex);
+                        }
+                    }
+                });
+    }
+
+    private Uni<SecurityIdentity> introspectToken(TokenAuthenticationRequest request,
+            TenantConfigContext resolvedContext) {
+        TokenIntrospectionCache cache = null;
+        if (resolvedContext.introspectionCache != null) {
+            cache = sharedIntrospectionCache.isResolvable() ? sharedIntrospectionCache.get()
+                    : resolvedContext.introspectionCache;
+        }
+        Uni<JsonObject> introspection;
+        if (cache == null) {
+            introspection = introspectTokenWithOidcServer(request, resolvedContext, null);
+        } else {
+            TokenIntrospectionCache resolvedCache = cache;
+            introspection = cache.getIntrospection(resolvedContext.oidcConfig, request.getToken().getToken())
+                    .onItem().produceUni(new Function<JsonObject, Uni<? extends JsonObject>>() {
+                        @Override
+                        public Uni<? extends JsonObject> apply(JsonObject cached) {
+                            if (cached != null) {
+                                return Uni.createFrom().item(cached);
+                            }
+                            return introspectTokenWithOidcServer(request, resolvedContext, resolvedCache);
+                        }
+                    });
+        }
+        return introspection.onItem().apply(new Function<JsonObject, SecurityIdentity>() {
+            @Override
+            public SecurityIdentity apply(JsonObject tokenJson) {
+                return validateAndCreateIdentity(request.getToken(), resolvedContext.oidcConfig, tokenJson);
+            }
+        });
+    }
+
+    private Uni<JsonObject> introspectTokenWithOidcServer(TokenAuthenticationRequest request,
+            TenantConfigContext resolvedContext, TokenIntrospectionCache cache) {
+        String token = request.getToken().getToken();
+        OAuth2AuthProviderImpl auth = (OAuth2AuthProviderImpl) resolvedContext.auth;
+        OAuth2ClientOptions options = auth.getConfig();
+        // The introspection request is sent as OAuth2Auth#introspectToken does, but its response is used as is:
+        // the AccessToken it produces only keeps a few of the introspected claims, and the roles are not among them
+        JsonObject headers = new JsonObject();
+        JsonObject form = new JsonObject().put("token", token).put("token_type_hint", "access_token");
+        if (options.getClientSecret() != null) {
+            String credentials = options.getClientID() + ":" + options.getClientSecret();
+            headers.put(HttpHeaders.AUTHORIZATION.toString(),
+                    "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        } else if (options.getClientID() != null) {
+            form.put("client_id", options.getClientID());
+        }
+        if (options.getHeaders() != null) {
+            headers.mergeIn(options.getHeaders());
+        }
+        headers.put(HttpHeaders.CONTENT_TYPE.toString(), HttpHeaders.APPLICATION_X_WWW_FORM_URLENCODED.toString());
+        headers.put(HttpHeaders.ACCEPT.toString(), "application/json");
+        Uni<JsonObject> introspection = Uni.createFrom().emitter(new Consumer<UniEmitter<? super JsonObject>>() {
+            @Override
+            public void accept(UniEmitter<? super JsonObject> uniEmitter) {
+                OAuth2API.fetch(auth.getVertx(), options, HttpMethod.POST, options.getIntrospectionPath(), headers,
+                        Buffer.buffer(OAuth2API.stringify(form)), new Handler<AsyncResult<OAuth2Response>>() {
                             @Override
-                            public void handle(AsyncResult<AccessToken> event) {
+                            public void handle(AsyncResult<OAuth2Response> event) {
                                 if (event.failed()) {
                                     uniEmitter.fail(new AuthenticationFailedException(event.cause()));
                                     return;
                                 }
-                                JsonObject tokenJson = event.result().accessToken();
-                                try {
-                                    uniEmitter.complete(
-                                            validateAndCreateIdentity(request.getToken(), resolvedContext.oidcConfig,
-                                                    tokenJson));
-                                } catch (Throwable ex) {
-                                    uniEmitter.fail(ex);
+                                OAuth2Response response = event.result();
+                                if (response.statusCode() != 200 || response.body() == null
+                                        || !response.is("application/json")) {
+                                    uniEmitter.fail(new AuthenticationFailedException(
+                                            "Token introspection has failed with status " + response.statusCode()));
+                                    return;
+                                }
+                                JsonObject tokenJson = response.jsonObject();
+                                if (!tokenJson.getBoolean("active", false)) {
+                                    uniEmitter.fail(new AuthenticationFailedException("Token is not active"));
+                                    return;
                                 }
+                                uniEmitter.complete(tokenJson);
+                            }
+                        });
+            }
+        });
+        if (cache == null) {
+            return introspection;
+        }
+        return introspection.onItem().produceUni(new Function<JsonObject, Uni<? extends JsonObject>>() {
+            @Override
+            public Uni<? extends JsonObject> apply(JsonObject tokenJson) {
+                // the result is not cached for longer than the token is valid
+                long expiresAt = System.currentTimeMillis()
+                        + resolvedContext.oidcConfig.introspectionCache.timeToLive.toMillis();
+                Long exp = tokenJson.getLong(Claims.exp.name());
+                if (exp != null) {
+                    expiresAt = Math.min(expiresAt, exp * 1000);
+                }
+                return cache.addIntrospection(resolvedContext.oidcConfig, token, tokenJson, expiresAt)
+                        .onItem().apply(new Function<Void, JsonObject>() {
+                            @Override
+                            public JsonObject apply(Void ignored) {
+                                return tokenJson;
                             }
                         });
             }
@@ -1,10 +1,12 @@
 package io.quarkus.oidc.runtime;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -16,6 +18,8 @@ import io.quarkus.oidc.OidcTenantConfig.ApplicationType;
 import io.quarkus.oidc.OidcTenantConfig.Credentials;
 import io.quarkus.oidc.OidcTenantConfig.Credentials.Secret;
 import io.quarkus.oidc.OidcTenantConfig.Tls.Verification;
+import io.quarkus.oidc.TokenIntrospectionCache;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.vertx.core.AsyncResult;
@@ -35,8 +39,18 @@ public class OidcRecorder {
 
     private static final Logger LOG = Logger.getLogger(OidcRecorder.class);
 
-    public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx) {
+    public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, ShutdownContext shutdownContext) {
         final Vertx vertxValue = vertx.get();
+        final List<JwksRefresher> jwksRefreshers = new CopyOnWriteArrayList<>();
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                for (JwksRefresher jwks : jwksRefreshers) {
+                    jwks.close();
+                }
+                jwksRefreshers.clear();
+            }
+        });
         Map<String, TenantConfigContext> tenantsConfig = new HashMap<>();
 
         for (Map.Entry<String, OidcTenantConfig> tenant : config.namedTenants.entrySet()) {
@@ -48,9 +62,10 @@ public class OidcRecorder {
                 throw new OIDCException("Configuration has 2 different tenant-id values: '"
                         + tenant.getKey() + "' and '" + tenant.getValue().getTenantId().get() + "'");
             }
-            tenantsConfig.put(tenant.getKey(), createTenantContext(vertxValue, tenant.getValue(), tenant.getKey()));
+            tenantsConfig.put(tenant.getKey(),
+                    createTenantContext(vertxValue, jwksRefreshers, tenant.getValue(), tenant.getKey()));
         }
-        TenantConfigContext tenantContext = createTenantContext(vertxValue, config.defaultTenant, "Default");
+        TenantConfigContext tenantContext = createTenantContext(vertxValue, jwksRefreshers, config.defaultTenant, "Default");
         return new Supplier<TenantConfigBean>() {
             @Override
             public TenantConfigBean get() {
@@ -60,14 +75,15 @@ public class OidcRecorder {
                             public TenantConfigContext apply(OidcTenantConfig config) {
                                 // OidcTenantConfig resolved by TenantConfigResolver must have its optional tenantId
                                 // initialized which is also enforced by DefaultTenantConfigResolver
-                                return createTenantContext(vertxValue, config, config.getTenantId().get());
+                                return createTenantContext(vertxValue, jwksRefreshers, config, config.getTenantId().get());
                             }
                         });
             }
         };
     }
 
-    private TenantConfigContext createTenantContext(Vertx vertx, OidcTenantConfig oidcConfig, String tenantId) {
+    private TenantConfigContext createTenantContext(Vertx vertx, List<JwksRefresher> jwksRefreshers,
+            OidcTenantConfig oidcConfig, String tenantId) {
         if (!oidcConfig.tenantEnabled) {
             LOG.debugf("%s tenant configuration is disabled", tenantId);
             return null;
@@ -210,7 +226,17 @@ public class OidcRecorder {
             }
         }
 
-        return new TenantConfigContext(auth, oidcConfig);
+        OAuth2ClientOptions discoveredOptions = OAuth2AuthProviderImpl.class.cast(auth).getConfig();
+        JwksRefresher jwks = null;
+        if (discoveredOptions.getJwkPath() != null) {
+            jwks = new JwksRefresher(vertx, auth, oidcConfig.jwks, tenantId);
+            jwksRefreshers.add(jwks);
+        }
+        TokenIntrospectionCache introspectionCache = null;
+        if (discoveredOptions.getIntrospectionPath() != null && oidcConfig.introspectionCache.enabled) {
+            introspectionCache = new DefaultTokenIntrospectionCache(oidcConfig.introspectionCache.maxSize);
+        }
+        return new TenantConfigContext(auth, oidcConfig, jwks, introspectionCache);
     }
 
     @SuppressWarnings("deprecation")
@@ -32,6 +32,20 @@ public final class OidcUtils {
 
     }
 
+    /**
+     * @return true if the token is not a JWT, in which case it can only be verified by introspecting it
+     */
+    public static boolean isOpaqueToken(String token) {
+        int dots = 0;
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) == '.') {
+                dots++;
+            }
+        }
+        // a signed JWT has 3 parts, an encrypted one has 5 parts
+        return dots != 2 && dots != 4;
+    }
+
     public static boolean validateClaims(OidcTenantConfig.Token tokenConfig, JsonObject json) {
         if (tokenConfig.issuer.isPresent()) {
             String issuer = json.getString(Claims.iss.name());
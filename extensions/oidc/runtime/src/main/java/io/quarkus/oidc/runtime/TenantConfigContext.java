@@ -1,6 +1,7 @@
 package io.quarkus.oidc.runtime;
 
 import io.quarkus.oidc.OidcTenantConfig;
+import io.quarkus.oidc.TokenIntrospectionCache;
 import io.vertx.ext.auth.oauth2.OAuth2Auth;
 
 class TenantConfigContext {
@@ -13,10 +14,25 @@ class TenantConfigContext {
      * Tenant configuration
      */
     final OidcTenantConfig oidcConfig;
+    /**
+     * Refreshes the JWK set, null if the tokens are verified with a public key
+     */
+    final JwksRefresher jwks;
+    /**
+     * Caches the introspection results of opaque tokens, null if the tokens are not introspected or the cache is disabled
+     */
+    final TokenIntrospectionCache introspectionCache;
 
     TenantConfigContext(OAuth2Auth auth, OidcTenantConfig config) {
+        this(auth, config, null, null);
+    }
+
+    TenantConfigContext(OAuth2Auth auth, OidcTenantConfig config, JwksRefresher jwks,
+            TokenIntrospectionCache introspectionCache) {
         this.auth = auth;
         this.oidcConfig = config;
+        this.jwks = jwks;
+        this.introspectionCache = introspectionCache;
     }
 
 }
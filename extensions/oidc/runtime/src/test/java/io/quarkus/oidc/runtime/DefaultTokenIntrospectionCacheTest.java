@@ -0,0 +1,57 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class DefaultTokenIntrospectionCacheTest {
+
+    @Test
+    public void testGetIntrospection() {
+        DefaultTokenIntrospectionCache cache = new DefaultTokenIntrospectionCache(10);
+        JsonObject introspection = new JsonObject().put("active", true).put("sub", "alice");
+        long expiresAt = System.currentTimeMillis() + 60000;
+        cache.addIntrospection(null, "token1", introspection, expiresAt).await().indefinitely();
+
+        assertSame(introspection, cache.getIntrospection(null, "token1").await().indefinitely());
+        assertNull(cache.getIntrospection(null, "token2").await().indefinitely());
+    }
+
+    @Test
+    public void testExpiredIntrospectionIsNotReturned() {
+        DefaultTokenIntrospectionCache cache = new DefaultTokenIntrospectionCache(10);
+        String key = DefaultTokenIntrospectionCache.key("token1");
+        cache.put(key, new JsonObject(), System.currentTimeMillis() - 1);
+        assertEquals(0, cache.size());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        DefaultTokenIntrospectionCache cache = new DefaultTokenIntrospectionCache(10);
+        long expiresAt = System.currentTimeMillis() + 60000;
+        for (int i = 0; i < 25; i++) {
+            cache.put(DefaultTokenIntrospectionCache.key("token" + i), new JsonObject(), expiresAt);
+            assertTrue(cache.size() <= 10);
+        }
+    }
+
+    @Test
+    public void testFrequentlyUsedIntrospectionIsKept() {
+        DefaultTokenIntrospectionCache cache = new DefaultTokenIntrospectionCache(10);
+        long expiresAt = System.currentTimeMillis() + 60000;
+        String hot = DefaultTokenIntrospectionCache.key("hot");
+        cache.put(hot, new JsonObject(), expiresAt);
+        for (int i = 0; i < 100; i++) {
+            assertNotNull(cache.get(hot));
+            cache.put(DefaultTokenIntrospectionCache.key("token" + i), new JsonObject(), expiresAt);
+        }
+        assertNotNull(cache.get(hot));
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.OidcTenantConfig;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.ext.auth.oauth2.OAuth2Auth;
+
+public class JwksRefresherTest {
+
+    private final List<Handler<AsyncResult<Void>>> loads = new ArrayList<>();
+
+    @Test
+    public void testGetKeyId() {
+        assertEquals("key1", JwksRefresher.getKeyId(token("key1")));
+        assertNull(JwksRefresher.getKeyId(token(null)));
+        assertNull(JwksRefresher.getKeyId("opaque"));
+        assertNull(JwksRefresher.getKeyId("!!!.payload.signature"));
+    }
+
+    @Test
+    public void testSingleRefreshForUnknownKeys() {
+        JwksRefresher refresher = refresher(Duration.ZERO);
+
+        CompletionStage<Void> first = refresher.refreshForUnknownKey(token("key1"));
+        assertNotNull(first);
+        assertSame(first, refresher.refreshForUnknownKey(token("key2")));
+        assertEquals(1, loads.size());
+
+        loads.get(0).handle(Future.succeededFuture());
+        assertTrue(first.toCompletableFuture().isDone());
+        refresher.keyNotFound(token("key1"));
+
+        // key1 is not refreshed again until the next refresh
+        assertNull(refresher.refreshForUnknownKey(token("key1")));
+        CompletionStage<Void> second = refresher.refreshForUnknownKey(token("key2"));
+        assertNotNull(second);
+        assertEquals(2, loads.size());
+        loads.get(1).handle(Future.succeededFuture());
+        assertNotNull(refresher.refreshForUnknownKey(token("key1")));
+    }
+
+    @Test
+    public void testForcedRefreshInterval() {
+        JwksRefresher refresher = refresher(Duration.ofMinutes(1));
+        assertNull(refresher.refreshForUnknownKey(token("key1")));
+        assertNull(refresher.refreshForUnknownKey(token(null)));
+        assertTrue(loads.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private JwksRefresher refresher(Duration forcedRefreshInterval) {
+        OAuth2Auth auth = (OAuth2Auth) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { OAuth2Auth.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("loadJWK")) {
+                        loads.add((Handler<AsyncResult<Void>>) args[0]);
+                        return proxy;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        OidcTenantConfig.Jwks config = new OidcTenantConfig.Jwks();
+        config.setRefreshInterval(Duration.ZERO);
+        config.setForcedRefreshInterval(forcedRefreshInterval);
+        return new JwksRefresher(null, auth, config, "test");
+    }
+
+    private static String token(String keyId) {
+        String header = keyId == null ? "{\"alg\":\"RS256\"}" : "{\"alg\":\"RS256\",\"kid\":\"" + keyId + "\"}";
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(header.getBytes(StandardCharsets.UTF_8))
+                + ".payload.signature";
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.oidc.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -20,6 +21,14 @@ import io.vertx.core.json.JsonObject;
 
 public class OidcUtilsTest {
 
+    @Test
+    public void testOpaqueToken() {
+        assertTrue(OidcUtils.isOpaqueToken("2YotnFZFEjr1zCsicMWpAA"));
+        assertTrue(OidcUtils.isOpaqueToken("a.b"));
+        assertFalse(OidcUtils.isOpaqueToken("header.payload.signature"));
+        assertFalse(OidcUtils.isOpaqueToken("header.key.iv.ciphertext.tag"));
+    }
+
     @Test
     public void testTokenWithCorrectIssuer() throws Exception {
         OidcTenantConfig.Token tokenClaims = OidcTenantConfig.Token.fromIssuer("https://server.example.com");
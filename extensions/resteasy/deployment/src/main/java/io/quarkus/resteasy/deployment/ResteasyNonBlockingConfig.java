@@ -0,0 +1,18 @@
+package io.quarkus.resteasy.deployment;
+
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy.non-blocking", phase = ConfigPhase.BUILD_TIME)
+public class ResteasyNonBlockingConfig {
+
+    /**
+     * If this is true then the resource methods that return a {@code CompletionStage} or a {@code Uni} are
+     * invoked on the IO thread, as if they were annotated with {@link NonBlocking}. Such methods must not block
+     * before returning.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean asyncMethods;
+}
@@ -3,17 +3,39 @@ package io.quarkus.resteasy.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -23,20 +45,32 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.runtime.NonBlocking;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
+import io.quarkus.resteasy.runtime.standalone.ResteasyVertxConfig;
+import io.quarkus.resteasy.runtime.standalone.VertxByteArrayReader;
+import io.quarkus.resteasy.runtime.standalone.VertxFileReader;
+import io.quarkus.resteasy.runtime.standalone.metrics.VertxOutputCounter;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
 import io.quarkus.runtime.util.ClassPathUtils;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.StaticResourcesConfig;
 import io.vertx.core.Handler;
+import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 
@@ -45,6 +79,12 @@ public class ResteasyStandaloneBuildStep {
     protected static final String META_INF_RESOURCES_SLASH = "META-INF/resources/";
     protected static final String META_INF_RESOURCES = "META-INF/resources";
 
+    private static final DotName NON_BLOCKING = DotName.createSimple(NonBlocking.class.getName());
+    private static final Set<DotName> ASYNC_RETURN_TYPES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("java.util.concurrent.CompletionStage"),
+            DotName.createSimple("java.util.concurrent.CompletableFuture"),
+            DotName.createSimple("io.smallrye.mutiny.Uni")));
+
     public static final class ResteasyStandaloneBuildItem extends SimpleBuildItem {
 
         final String deploymentRootPath;
@@ -59,6 +99,41 @@ public class ResteasyStandaloneBuildStep {
 
     }
 
+    /**
+     * Install the readers that consume the streamed request bodies without intermediate copies.
+     */
+    @BuildStep
+    void registerStreamingReaders(Capabilities capabilities, BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        if (capabilities.isCapabilityPresent(Capabilities.SERVLET)) {
+            return;
+        }
+        providers.produce(new ResteasyJaxrsProviderBuildItem(VertxByteArrayReader.class.getName()));
+        providers.produce(new ResteasyJaxrsProviderBuildItem(VertxFileReader.class.getName()));
+    }
+
+    @BuildStep
+    void outputMetrics(Capabilities capabilities, BuildProducer<MetricBuildItem> metrics) {
+        if (capabilities.isCapabilityPresent(Capabilities.SERVLET)
+                || !capabilities.isCapabilityPresent(Capabilities.METRICS)) {
+            return;
+        }
+        metrics.produce(createCounter("resteasy.response.writes",
+                "Number of buffers of the response bodies written to the connections", "writes"));
+        metrics.produce(createCounter("resteasy.response.flushes.deferred",
+                "Number of flushes of the response bodies deferred because too little was buffered", "deferredFlushes"));
+    }
+
+    private static MetricBuildItem createCounter(String metricName, String description, String metric) {
+        return new MetricBuildItem(Metadata.builder()
+                .withName(metricName)
+                .withDescription(description)
+                .withType(MetricType.COUNTER)
+                .build(),
+                new VertxOutputCounter(metric),
+                true,
+                "resteasy");
+    }
+
     @BuildStep()
     @Record(STATIC_INIT)
     public void staticInit(ResteasyStandaloneRecorder recorder,
@@ -67,12 +142,42 @@ public class ResteasyStandaloneBuildStep {
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
             ResteasyInjectionReadyBuildItem resteasyInjectionReady,
             HttpBuildTimeConfig httpConfig,
-            BuildProducer<ResteasyStandaloneBuildItem> standalone) throws Exception {
+            CombinedIndexBuildItem combinedIndex,
+            ResteasyNonBlockingConfig nonBlockingConfig,
+            BuildProducer<ResteasyStandaloneBuildItem> standalone,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws Exception {
         if (capabilities.isCapabilityPresent(Capabilities.SERVLET)) {
             return;
         }
 
-        Set<String> knownPaths = getClasspathResources(applicationArchivesBuildItem);
+        StaticResourcesConfig staticResources = httpConfig.staticResources;
+        Map<String, byte[]> precompressed = new HashMap<>();
+        Set<String> knownPaths = getClasspathResources(applicationArchivesBuildItem,
+                staticResources.precompress ? new Precompressor(staticResources, precompressed) : null);
+        Set<String> compressedPaths = new HashSet<>();
+        if (staticResources.precompress) {
+            for (String path : knownPaths) {
+                // Variants shipped with the application
+                if ((path.endsWith(".gz") || path.endsWith(".br"))
+                        && knownPaths.contains(path.substring(0, path.length() - 3))) {
+                    compressedPaths.add(path);
+                }
+            }
+            for (Map.Entry<String, byte[]> entry : precompressed.entrySet()) {
+                String variant = entry.getKey() + ".gz";
+                if (compressedPaths.add(variant)) {
+                    generatedResources.produce(new GeneratedResourceBuildItem(META_INF_RESOURCES + variant, entry.getValue()));
+                }
+            }
+        }
+        // Resolved at build time, the runtime has no public API to do so
+        Map<String, String> contentTypes = new HashMap<>();
+        for (String path : knownPaths) {
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType != null) {
+                contentTypes.put(path, contentType);
+            }
+        }
         String deploymentRootPath = null;
         // The context path + the resources path
         String rootPath = httpConfig.rootPath;
@@ -91,10 +196,11 @@ public class ResteasyStandaloneBuildStep {
                 }
                 rootPath += deploymentRootPath;
             }
-            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths, compressedPaths, contentTypes,
+                    getNonBlockingMethods(combinedIndex.getIndex(), nonBlockingConfig));
 
         } else if (!knownPaths.isEmpty()) {
-            recorder.staticInit(null, rootPath, knownPaths);
+            recorder.staticInit(null, rootPath, knownPaths, compressedPaths, contentTypes, Collections.emptySet());
         }
 
         if (deployment != null || !knownPaths.isEmpty()) {
@@ -102,30 +208,81 @@ public class ResteasyStandaloneBuildStep {
         }
     }
 
+    /**
+     * Find the resource methods that can be invoked on the IO thread, either annotated with {@link NonBlocking} or
+     * returning an asynchronous type if enabled.
+     *
+     * @return the identifiers of the methods, for each class that can declare them at runtime
+     */
+    private Set<String> getNonBlockingMethods(IndexView index, ResteasyNonBlockingConfig config) {
+        Set<String> nonBlockingMethods = new HashSet<>();
+        for (DotName methodAnnotation : ResteasyDotNames.JAXRS_METHOD_ANNOTATIONS) {
+            for (AnnotationInstance instance : index.getAnnotations(methodAnnotation)) {
+                if (instance.target().kind() != AnnotationTarget.Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = instance.target().asMethod();
+                ClassInfo declaringClass = method.declaringClass();
+                if (!method.hasAnnotation(NON_BLOCKING) && declaringClass.classAnnotation(NON_BLOCKING) == null
+                        && !(config.asyncMethods && ASYNC_RETURN_TYPES.contains(method.returnType().name()))) {
+                    continue;
+                }
+                String signature = getSignature(method);
+                nonBlockingMethods.add(declaringClass.name() + signature);
+                // The method may be implemented or inherited
+                Collection<ClassInfo> subclasses = Modifier.isInterface(declaringClass.flags())
+                        ? index.getAllKnownImplementors(declaringClass.name())
+                        : index.getAllKnownSubclasses(declaringClass.name());
+                for (ClassInfo subclass : subclasses) {
+                    nonBlockingMethods.add(subclass.name() + signature);
+                }
+            }
+        }
+        return nonBlockingMethods;
+    }
+
+    /**
+     * @return the signature in the format of {@code VertxRequestHandler#methodId(Method)}, without the class name
+     */
+    private static String getSignature(MethodInfo method) {
+        StringBuilder signature = new StringBuilder();
+        signature.append('#').append(method.name()).append('(');
+        List<Type> parameters = method.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(parameters.get(i).name());
+        }
+        return signature.append(')').toString();
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
      * @param applicationArchivesBuildItem
+     * @param fileConsumer consumes the path and the content of each file, may be {@code null}
      * @return
      * @throws Exception
      */
-    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem) throws Exception {
+    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            BiConsumer<String, Path> fileConsumer) throws Exception {
         Set<String> knownPaths = new HashSet<>();
         for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
             Path resource = i.getChildPath(META_INF_RESOURCES);
             if (resource != null && Files.exists(resource)) {
-                collectKnownPaths(resource, knownPaths);
+                collectKnownPaths(resource, knownPaths, fileConsumer);
             }
         }
 
         ClassPathUtils.consumeAsPaths(META_INF_RESOURCES, resource -> {
-            collectKnownPaths(resource, knownPaths);
+            collectKnownPaths(resource, knownPaths, fileConsumer);
         });
 
         return knownPaths;
     }
 
-    private void collectKnownPaths(Path resource, Set<String> knownPaths) {
+    private void collectKnownPaths(Path resource, Set<String> knownPaths, BiConsumer<String, Path> fileConsumer) {
         try {
             Files.walkFileTree(resource, new SimpleFileVisitor<Path>() {
                 @Override
@@ -140,7 +297,9 @@ public class ResteasyStandaloneBuildStep {
                     }
                     // Windows has a backslash
                     file = file.replace('\\', '/');
-                    knownPaths.add(file);
+                    if (knownPaths.add(file) && fileConsumer != null) {
+                        fileConsumer.accept(file, p);
+                    }
                     return FileVisitResult.CONTINUE;
                 }
             });
@@ -149,6 +308,53 @@ public class ResteasyStandaloneBuildStep {
         }
     }
 
+    /**
+     * Compresses the static resources that have a compressible media type with gzip.
+     */
+    static final class Precompressor implements BiConsumer<String, Path> {
+
+        private final Set<String> mediaTypes;
+        private final long minSize;
+        private final Map<String, byte[]> compressed;
+
+        Precompressor(StaticResourcesConfig config, Map<String, byte[]> compressed) {
+            this.mediaTypes = new HashSet<>();
+            for (String mediaType : config.precompressMediaTypes) {
+                mediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+            }
+            this.minSize = config.precompressMinSize.asLongValue();
+            this.compressed = compressed;
+        }
+
+        @Override
+        public void accept(String file, Path path) {
+            String mediaType = MimeMapping.getMimeTypeForFilename(file);
+            if (mediaType == null || !mediaTypes.contains(mediaType.toLowerCase(Locale.ROOT))) {
+                return;
+            }
+            try {
+                if (Files.size(path) < minSize) {
+                    return;
+                }
+                byte[] content = Files.readAllBytes(path);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                    {
+                        def.setLevel(Deflater.BEST_COMPRESSION);
+                    }
+                }) {
+                    gzip.write(content);
+                }
+                // Only keep the variant if it is worth it
+                if (out.size() < content.length) {
+                    compressed.put(file, out.toByteArray());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void boot(ShutdownContextBuildItem shutdown,
@@ -161,7 +367,9 @@ public class ResteasyStandaloneBuildStep {
             ResteasyStandaloneBuildItem standalone,
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
             ExecutorBuildItem executorBuildItem,
-            HttpConfiguration httpConfiguration) throws Exception {
+            HttpConfiguration httpConfiguration,
+            HttpBuildTimeConfig httpBuildTimeConfig,
+            ResteasyVertxConfig vertxConfig) throws Exception {
 
         if (standalone == null) {
             return;
@@ -173,7 +381,7 @@ public class ResteasyStandaloneBuildStep {
         if (!isDefaultOrNullDeploymentPath) {
             // We need to register a special handler for non-default deployment path (specified as application path or resteasyConfig.path)
             Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue(),
-                    executorBuildItem.getExecutorProxy(), httpConfiguration);
+                    executorBuildItem.getExecutorProxy(), httpConfiguration, vertxConfig);
             // Exact match for resources matched to the root path
             routes.produce(new RouteBuildItem(standalone.deploymentRootPath, handler, false));
             String matchPath = standalone.deploymentRootPath;
@@ -190,7 +398,8 @@ public class ResteasyStandaloneBuildStep {
         Consumer<Route> ut = recorder.start(vertx.getVertx(),
                 shutdown,
                 beanContainer.getValue(),
-                isVirtual, isDefaultOrNullDeploymentPath, executorBuildItem.getExecutorProxy(), httpConfiguration);
+                isVirtual, isDefaultOrNullDeploymentPath, executorBuildItem.getExecutorProxy(), httpConfiguration,
+                httpBuildTimeConfig, vertxConfig);
 
         defaultRoutes.produce(new DefaultRouteBuildItem(ut));
     }
@@ -0,0 +1,45 @@
+package io.quarkus.resteasy.test.asyncio;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingDispatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.non-blocking.async-methods=true"),
+                            "application.properties"));
+
+    @Test
+    public void testDispatchedOnIoThread() {
+        RestAssured.get("/non-blocking/annotated").then().statusCode(200).body(is("io"));
+        RestAssured.get("/non-blocking/param/42").then().statusCode(200).body(is("io-42"));
+        RestAssured.get("/non-blocking/async").then().statusCode(200).body(is("io"));
+    }
+
+    @Test
+    public void testLargeResponseOnIoThread() {
+        byte[] body = RestAssured.get("/non-blocking/large").then().statusCode(200).extract().asByteArray();
+        Assertions.assertEquals(NonBlockingResource.LARGE_SIZE, body.length);
+    }
+
+    @Test
+    public void testDispatchedOnWorkerThread() {
+        RestAssured.get("/non-blocking/blocking").then().statusCode(200).body(is("worker"));
+        // The body has to be read
+        RestAssured.given().body("hello").post("/non-blocking/annotated").then().statusCode(200)
+                .body(is("worker-hello"));
+        RestAssured.get("/non-blocking/missing").then().statusCode(404);
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkus.resteasy.test.asyncio;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.test.utils.TestIdentityController;
+import io.quarkus.security.test.utils.TestIdentityProvider;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingLazyAuthTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingSecuredResource.class, TestIdentityProvider.class,
+                            TestIdentityController.class)
+                    .addAsResource(new StringAsset("quarkus.http.auth.proactive=false\n"
+                            + "quarkus.http.auth.permission.authenticated.paths=/non-blocking-secured/authenticated\n"
+                            + "quarkus.http.auth.permission.authenticated.policy=authenticated\n"),
+                            "application.properties"));
+
+    @BeforeAll
+    public static void setupUsers() {
+        TestIdentityController.resetRoles()
+                .add("user", "user", "user")
+                .add("admin", "admin", "admin");
+    }
+
+    @Test
+    public void testLazyIdentityIsAuthenticatedOnWorkerThread() {
+        // The identity provider could block, so the identity is not authenticated on the IO thread
+        RestAssured.given().auth().preemptive().basic("user", "user").get("/non-blocking-secured/roles")
+                .then().statusCode(200).body(is("worker-user"));
+        RestAssured.given().auth().preemptive().basic("admin", "admin").get("/non-blocking-secured/roles")
+                .then().statusCode(403);
+        RestAssured.get("/non-blocking-secured/roles").then().statusCode(401);
+    }
+
+    @Test
+    public void testAuthenticatedIdentityOnIoThread() {
+        // The HTTP permission check has already authenticated the identity
+        RestAssured.given().auth().preemptive().basic("user", "user").get("/non-blocking-secured/authenticated")
+                .then().statusCode(200).body(is("io-user"));
+        RestAssured.get("/non-blocking-secured/authenticated").then().statusCode(401);
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.resteasy.test.asyncio;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import java.net.URI;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingPreMatchingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class, RewritingFilter.class));
+
+    @Test
+    public void testRewrittenRequestIsDispatchedOnWorkerThread() {
+        // The request is rewritten to the blocking method, which must not be invoked on the IO thread
+        RestAssured.get("/non-blocking/annotated").then().statusCode(200).body(is("worker"));
+    }
+
+    @PreMatching
+    @Provider
+    public static class RewritingFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            URI uri = requestContext.getUriInfo().getRequestUri();
+            if (uri.getPath().endsWith("/annotated")) {
+                requestContext.setRequestUri(uri.resolve("blocking"));
+            }
+        }
+    }
+}
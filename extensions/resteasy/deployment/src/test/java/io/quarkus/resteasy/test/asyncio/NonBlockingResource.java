@@ -0,0 +1,65 @@
+package io.quarkus.resteasy.test.asyncio;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.vertx.core.Context;
+
+@Path("non-blocking")
+public class NonBlockingResource {
+
+    static final int LARGE_SIZE = 1024 * 1024;
+
+    @NonBlocking
+    @GET
+    @Path("annotated")
+    public String annotated() {
+        return thread();
+    }
+
+    @NonBlocking
+    @GET
+    @Path("param/{id}")
+    public String param(@PathParam("id") String id) {
+        return thread() + "-" + id;
+    }
+
+    @NonBlocking
+    @POST
+    @Path("annotated")
+    public String post(String body) {
+        return thread() + "-" + body;
+    }
+
+    @NonBlocking
+    @GET
+    @Path("large")
+    public String large() {
+        char[] value = new char[LARGE_SIZE];
+        Arrays.fill(value, 'a');
+        return new String(value);
+    }
+
+    @GET
+    @Path("blocking")
+    public String blocking() {
+        return thread();
+    }
+
+    @GET
+    @Path("async")
+    public CompletionStage<String> async() {
+        return CompletableFuture.completedFuture(thread());
+    }
+
+    private static String thread() {
+        return Context.isOnEventLoopThread() ? "io" : "worker";
+    }
+}
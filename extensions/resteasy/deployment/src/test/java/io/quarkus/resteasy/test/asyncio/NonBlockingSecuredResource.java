@@ -0,0 +1,36 @@
+package io.quarkus.resteasy.test.asyncio;
+
+import javax.annotation.security.RolesAllowed;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.vertx.core.Context;
+
+@Path("non-blocking-secured")
+@NonBlocking
+public class NonBlockingSecuredResource {
+
+    @Inject
+    SecurityIdentity identity;
+
+    @RolesAllowed("user")
+    @GET
+    @Path("roles")
+    public String roles() {
+        return thread() + "-" + identity.getPrincipal().getName();
+    }
+
+    @RolesAllowed("user")
+    @GET
+    @Path("authenticated")
+    public String authenticated() {
+        return thread() + "-" + identity.getPrincipal().getName();
+    }
+
+    private static String thread() {
+        return Context.isOnEventLoopThread() ? "io" : "worker";
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.resteasy.test.files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class InMemoryStaticResourcesTest {
+
+    private static final String SCRIPT;
+
+    static {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("console.log('hello');\n");
+        }
+        SCRIPT = builder.toString();
+    }
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource(new StringAsset("index"), "resources/index.html")
+                    .addAsManifestResource(new StringAsset("hello"), "resources/other/hello.txt")
+                    .addAsManifestResource(new StringAsset(SCRIPT), "resources/app.js")
+                    .addAsResource(new StringAsset("quarkus.http.static-resources.in-memory=true\n"
+                            + "quarkus.http.static-resources.precompress=true\n"
+                            + "quarkus.http.static-resources.cache-control=max-age=60"), "application.properties"));
+
+    @Test
+    public void testServedFromMemory() {
+        RestAssured.get("/other/hello.txt").then().statusCode(200)
+                .header("Content-Type", "text/plain;charset=UTF-8")
+                .header("Cache-Control", "max-age=60")
+                .header("ETag", not(nullValue()))
+                .body(is("hello"));
+        RestAssured.get("/").then().statusCode(200).body(is("index"));
+        RestAssured.get("/index.html").then().statusCode(200).body(is("index"));
+        RestAssured.head("/other/hello.txt").then().statusCode(200).header("Content-Length", "5");
+        RestAssured.get("/missing.txt").then().statusCode(404);
+    }
+
+    @Test
+    public void testConditionalRequest() {
+        String etag = RestAssured.get("/other/hello.txt").header("ETag");
+        RestAssured.given().header("If-None-Match", etag).get("/other/hello.txt").then().statusCode(304)
+                .header("ETag", etag);
+        RestAssured.given().header("If-None-Match", "\"other\", W/" + etag).get("/other/hello.txt").then()
+                .statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"other\"").get("/other/hello.txt").then().statusCode(200)
+                .body(is("hello"));
+    }
+
+    @Test
+    public void testCompressedVariant() {
+        String etag = RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/app.js").then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "accept-encoding")
+                .body(is(SCRIPT)).extract().header("ETag");
+        String gzipEtag = RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip")
+                .get("/app.js").then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("ETag", not(etag)).extract().header("ETag");
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", gzipEtag).get("/app.js").then()
+                .statusCode(304);
+    }
+}
@@ -0,0 +1,120 @@
+package io.quarkus.resteasy.test.files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String SCRIPT = repeat("console.log('hello');\n", 100);
+    private static final String STYLE = repeat("body { color: red; }\n", 100);
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource(new StringAsset(SCRIPT), "resources/app.js")
+                    .addAsManifestResource(new StringAsset(STYLE), "resources/app.css")
+                    .addAsManifestResource(new StringAsset("brotli"), "resources/app.css.br")
+                    .addAsManifestResource(new StringAsset("small"), "resources/small.txt")
+                    .addAsResource(new StringAsset("quarkus.http.static-resources.precompress=true"),
+                            "application.properties"));
+
+    @Test
+    public void testGzipVariant() throws IOException {
+        Response response = request("gzip, deflate").get("/app.js");
+        response.then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", is("application/javascript"))
+                .header("Vary", "accept-encoding");
+        try (InputStream in = new GZIPInputStream(response.asInputStream())) {
+            assertEquals(SCRIPT, read(in));
+        }
+        request("br;q=0, gzip;q=0").get("/app.js").then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(SCRIPT));
+    }
+
+    @Test
+    public void testShippedVariant() {
+        request("gzip, br").get("/app.css").then().statusCode(200)
+                .header("Content-Encoding", "br")
+                .body(is("brotli"));
+        request("gzip").get("/app.css").then().statusCode(200)
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    public void testConditionalRequests() {
+        Response response = request("gzip").get("/app.js");
+        response.then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Cache-Control", "public, max-age=86400");
+        String etag = response.header("ETag");
+        request("gzip").header("If-None-Match", etag).get("/app.js").then().statusCode(304);
+        request("gzip").header("If-None-Match", "\"other\"").get("/app.js").then().statusCode(200);
+
+        response = request("br").get("/app.css");
+        response.then().statusCode(200)
+                .header("ETag", notNullValue())
+                .header("Last-Modified", notNullValue());
+        request("br").header("If-Modified-Since", response.header("Last-Modified")).get("/app.css").then()
+                .statusCode(304)
+                .header("Content-Encoding", nullValue());
+    }
+
+    @Test
+    public void testOriginal() {
+        RestAssured.given().config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/app.js").then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "accept-encoding")
+                .body(is(SCRIPT));
+        // Too small to be compressed
+        request("gzip").get("/small.txt").then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is("small"));
+    }
+
+    private static RequestSpecification request(String acceptEncoding) {
+        return RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", acceptEncoding);
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[1024];
+        int r;
+        while ((r = in.read(buf)) > 0) {
+            out.write(buf, 0, r);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.resteasy.test.output;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+@Path("/chatty")
+public class ChattyResource {
+
+    @GET
+    @Path("/{count}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public StreamingOutput chunks(@PathParam("count") int count) {
+        return output -> {
+            byte[] chunk = "0123456789".getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < count; i++) {
+                output.write(chunk);
+                output.flush();
+            }
+        };
+    }
+
+    @GET
+    @Path("/sized/{count}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response sized(@PathParam("count") int count) {
+        StreamingOutput body = output -> {
+            byte[] chunk = "0123456789".getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < count; i++) {
+                output.write(chunk);
+            }
+            // The response has been sent in full once its length was reached
+            throw new IOException("Written past the end of the response");
+        };
+        return Response.ok(body).header(HttpHeaders.CONTENT_LENGTH, count * 10).build();
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkus.resteasy.test.output;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.runtime.standalone.VertxOutputMetrics;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class FlushCoalescingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ChattyResource.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.vertx.flush-threshold=4K\n"
+                            + "quarkus.resteasy.vertx.response-buffer-size=8K"), "application.properties"));
+
+    @Test
+    public void testSmallResponseIsSentAtOnce() {
+        long deferred = VertxOutputMetrics.getDeferredFlushes();
+        long writes = VertxOutputMetrics.getWrites();
+        // 10 flushes of 10 bytes end up in a single write, with a known length
+        RestAssured.get("/chatty/10").then().statusCode(200)
+                .header("Content-Length", is("100"))
+                .header("Transfer-Encoding", nullValue())
+                .body(is(repeat(10)));
+        assertTrue(VertxOutputMetrics.getDeferredFlushes() - deferred >= 10);
+        assertEquals(1, VertxOutputMetrics.getWrites() - writes);
+    }
+
+    @Test
+    public void testLargeResponse() {
+        // Larger than the buffer, the flushes past the threshold are not deferred
+        RestAssured.get("/chatty/2000").then().statusCode(200)
+                .header("Transfer-Encoding", is("chunked"))
+                .body(is(repeat(2000)));
+    }
+
+    @Test
+    public void testResponseEndsAtContentLength() {
+        // The Content-Length set by the resource is known to the stream, which ends the response once it is written
+        RestAssured.get("/chatty/sized/10").then().statusCode(200)
+                .header("Content-Length", is("100"))
+                .body(is(repeat(10)));
+    }
+
+    private static String repeat(int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append("0123456789");
+        }
+        return builder.toString();
+    }
+}
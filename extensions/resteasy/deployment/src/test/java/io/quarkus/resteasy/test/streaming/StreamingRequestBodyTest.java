@@ -0,0 +1,68 @@
+package io.quarkus.resteasy.test.streaming;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
+import io.restassured.RestAssured;
+
+public class StreamingRequestBodyTest {
+
+    private static final int SIZE = 1024 * 1024;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StreamingResource.class, StreamingResource.Streamed.class,
+                            StreamingResource.Buffered.class)
+                    .addAsResource(new StringAsset("quarkus.http.body.streaming-paths=/stream/*"),
+                            "application.properties"))
+            .addBuildChainCustomizer(buildCustomizer());
+
+    static Consumer<BuildChainBuilder> buildCustomizer() {
+        return new Consumer<BuildChainBuilder>() {
+
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+
+                    @Override
+                    public void execute(BuildContext context) {
+                        context.produce(new RequireBodyHandlerBuildItem());
+                    }
+                }).produces(RequireBodyHandlerBuildItem.class).build();
+            }
+        };
+    }
+
+    @Test
+    public void testStreamedBody() {
+        byte[] body = body();
+        RestAssured.given().body(body).post("/stream/bytes").then().statusCode(200).body(is(SIZE + ":false"));
+        RestAssured.given().body(body).post("/stream/file").then().statusCode(200).body(is(String.valueOf(SIZE)));
+        RestAssured.given().body(body).post("/stream/input").then().statusCode(200).body(is(String.valueOf(SIZE)));
+    }
+
+    @Test
+    public void testBufferedBody() {
+        RestAssured.given().body(body()).post("/buffered/bytes").then().statusCode(200).body(is(SIZE + ":true"));
+    }
+
+    private static byte[] body() {
+        byte[] body = new byte[SIZE];
+        Arrays.fill(body, (byte) 'a');
+        return body;
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkus.resteasy.test.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Context;
+
+import io.vertx.ext.web.RoutingContext;
+
+public class StreamingResource {
+
+    @Path("/stream")
+    public static class Streamed {
+
+        @POST
+        @Path("/bytes")
+        public String bytes(byte[] body, @Context RoutingContext context) {
+            return body.length + ":" + (context.getBody() != null);
+        }
+
+        @POST
+        @Path("/file")
+        public String file(File body) {
+            return String.valueOf(body.length());
+        }
+
+        @POST
+        @Path("/input")
+        public String input(InputStream body) throws IOException {
+            byte[] buffer = new byte[1024];
+            long count = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                count += read;
+            }
+            return String.valueOf(count);
+        }
+    }
+
+    @Path("/buffered")
+    public static class Buffered {
+
+        @POST
+        @Path("/bytes")
+        public String bytes(byte[] body, @Context RoutingContext context) {
+            return body.length + ":" + (context.getBody() != null);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.resteasy.runtime;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a JAX-RS resource method never blocks, so that it can be invoked on the IO thread rather than on a worker
+ * thread.
+ * <p>
+ * If declared on a resource class, all the resource methods of the class are considered non-blocking. Requests that have a
+ * body which has not been read yet are always dispatched to a worker thread, and so are the requests whose identity has not
+ * been authenticated yet when {@code quarkus.http.auth.proactive} is disabled.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface NonBlocking {
+
+}
@@ -0,0 +1,233 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources found at build time from memory.
+ * <p>
+ * All the resources, and their precompressed variants, are read once when the handler is created. The content, the
+ * {@code ETag} and the other response headers are computed at that time so that a request is answered on the IO thread
+ * without touching the class loader, including the conditional requests that are answered with {@code 304 Not Modified}.
+ */
+class IndexedStaticHandler {
+
+    private static final Logger log = Logger.getLogger(IndexedStaticHandler.class);
+
+    private static final String INDEX_HTML = "/index.html";
+
+    private final Map<String, Resource> resources;
+
+    private IndexedStaticHandler(Map<String, Resource> resources) {
+        this.resources = resources;
+    }
+
+    /**
+     * @param root the root of the resources on the classpath
+     * @param knownPaths the paths of the resources, relative to the root
+     * @param compressedPaths the paths of the {@code .gz} and {@code .br} variants of the resources
+     * @param contentTypes the content types of the resources, by path
+     * @param cacheControl the value of the {@code Cache-Control} header
+     * @param direct whether the content is stored in direct buffers
+     * @param classLoader the class loader used to read the resources
+     */
+    static IndexedStaticHandler load(String root, Set<String> knownPaths, Set<String> compressedPaths,
+            Map<String, String> contentTypes, String cacheControl, boolean direct, ClassLoader classLoader) {
+        Map<String, Resource> resources = new HashMap<>();
+        CharSequence cacheControlValue = cacheControl.isEmpty() ? null : HttpHeaders.createOptimized(cacheControl);
+        long size = 0;
+        for (String path : knownPaths) {
+            if (path.endsWith("/")) {
+                // Directory index, registered with the index file
+                continue;
+            }
+            byte[] content = read(classLoader, root + path);
+            if (content == null) {
+                continue;
+            }
+            Representation gzip = null;
+            Representation br = null;
+            if (compressedPaths.contains(path + ".gz")) {
+                gzip = createRepresentation(read(classLoader, root + path + ".gz"), "-gz", direct);
+            }
+            if (compressedPaths.contains(path + ".br")) {
+                br = createRepresentation(read(classLoader, root + path + ".br"), "-br", direct);
+            }
+            String contentType = contentTypes.get(path);
+            if (contentType != null && contentType.startsWith("text")) {
+                contentType += ";charset=UTF-8";
+            }
+            Resource resource = new Resource(createRepresentation(content, "", direct), gzip, br,
+                    contentType == null ? null : HttpHeaders.createOptimized(contentType), cacheControlValue);
+            resources.put(path, resource);
+            if (path.equals(INDEX_HTML)) {
+                resources.put("/", resource);
+            }
+            size += content.length;
+        }
+        log.debugf("Loaded %s static resources in memory (%s bytes)", resources.size(), size);
+        return new IndexedStaticHandler(Collections.unmodifiableMap(resources));
+    }
+
+    /**
+     * @param ctx the routing context
+     * @param path the path of the requested resource, relative to the mount point
+     * @return {@code true} if the response is sent by this handler
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        Resource resource = resources.get(path);
+        if (resource == null) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        Representation representation = resource.identity;
+        CharSequence encoding = null;
+        if (resource.isCompressed()) {
+            headers.set(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+            String acceptEncoding = ctx.request().getHeader(HttpHeaderNames.ACCEPT_ENCODING);
+            if (acceptEncoding != null) {
+                if (resource.br != null && PrecompressedResourceHandler.isAccepted(acceptEncoding,
+                        PrecompressedResourceHandler.BR)) {
+                    representation = resource.br;
+                    encoding = PrecompressedResourceHandler.BR;
+                } else if (resource.gzip != null && PrecompressedResourceHandler.isAccepted(acceptEncoding,
+                        PrecompressedResourceHandler.GZIP)) {
+                    representation = resource.gzip;
+                    encoding = PrecompressedResourceHandler.GZIP;
+                }
+            }
+        }
+        headers.set(HttpHeaderNames.ETAG, representation.etag);
+        if (resource.cacheControl != null) {
+            headers.set(HttpHeaderNames.CACHE_CONTROL, resource.cacheControl);
+        }
+        String ifNoneMatch = ctx.request().getHeader(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, representation.etagValue)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+        if (resource.contentType != null) {
+            headers.set(HttpHeaderNames.CONTENT_TYPE, resource.contentType);
+        }
+        if (encoding != null) {
+            headers.set(HttpHeaderNames.CONTENT_ENCODING, encoding);
+        }
+        headers.set(HttpHeaderNames.CONTENT_LENGTH, representation.contentLength);
+        if (method == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(representation.content);
+        }
+        return true;
+    }
+
+    /**
+     * Weak comparison, as defined for {@code If-None-Match}.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Representation createRepresentation(byte[] content, String suffix, boolean direct) {
+        if (content == null) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, content.length);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + content.length + suffix + "\"";
+        ByteBuf buf = direct ? Unpooled.directBuffer(content.length) : Unpooled.buffer(content.length);
+        buf.writeBytes(content);
+        return new Representation(Buffer.buffer(buf), etag);
+    }
+
+    private static byte[] read(ClassLoader classLoader, String name) {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            log.warnf(e, "Unable to read the static resource %s", name);
+            return null;
+        }
+    }
+
+    static final class Resource {
+
+        final Representation identity;
+        final Representation gzip;
+        final Representation br;
+        final CharSequence contentType;
+        final CharSequence cacheControl;
+
+        Resource(Representation identity, Representation gzip, Representation br, CharSequence contentType,
+                CharSequence cacheControl) {
+            this.identity = identity;
+            this.gzip = gzip;
+            this.br = br;
+            this.contentType = contentType;
+            this.cacheControl = cacheControl;
+        }
+
+        boolean isCompressed() {
+            return gzip != null || br != null;
+        }
+    }
+
+    static final class Representation {
+
+        final Buffer content;
+        final String etagValue;
+        final CharSequence etag;
+        final CharSequence contentLength;
+
+        Representation(Buffer content, String etag) {
+            this.content = content;
+            this.etagValue = etag;
+            this.etag = HttpHeaders.createOptimized(etag);
+            this.contentLength = HttpHeaders.createOptimized(String.valueOf(content.length()));
+        }
+    }
+}
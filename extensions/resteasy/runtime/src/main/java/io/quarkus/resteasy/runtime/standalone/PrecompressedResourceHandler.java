@@ -0,0 +1,244 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.resteasy.runtime.standalone.IndexedStaticHandler.Representation;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the {@code br} or {@code gzip} variant of a static resource to the clients that accept it.
+ * <p>
+ * The variants are found at build time, either shipped with the application or generated during the build. A variant is
+ * read from the classpath on a worker thread the first time it is requested and kept in memory afterwards, with its
+ * {@code ETag} and {@code Last-Modified} values so that the conditional requests are answered with
+ * {@code 304 Not Modified}.
+ */
+class PrecompressedResourceHandler {
+
+    static final String BR = "br";
+    static final String GZIP = "gzip";
+
+    private static final String INDEX_HTML = "index.html";
+
+    private final String root;
+    private final Set<String> compressedPaths;
+    private final Map<String, String> contentTypes;
+    private final CharSequence cacheControl;
+    private final ClassLoader classLoader;
+    private final ConcurrentMap<String, Variant> cache;
+
+    /**
+     * @param root the root of the resources on the classpath
+     * @param compressedPaths the paths of the {@code .gz} and {@code .br} variants of the resources
+     * @param contentTypes the content types of the resources, by path
+     * @param cacheControl the value of the {@code Cache-Control} header
+     * @param classLoader the class loader used to read the variants
+     */
+    PrecompressedResourceHandler(String root, Set<String> compressedPaths, Map<String, String> contentTypes,
+            String cacheControl, ClassLoader classLoader) {
+        this.root = root;
+        this.compressedPaths = compressedPaths;
+        this.contentTypes = contentTypes;
+        this.cacheControl = cacheControl.isEmpty() ? null : HttpHeaders.createOptimized(cacheControl);
+        this.classLoader = classLoader;
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param ctx the routing context
+     * @param path the path of the requested resource, relative to the mount point
+     * @return {@code true} if the response is sent by this handler, {@code false} if the original resource should be served
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        if (path.endsWith("/")) {
+            path += INDEX_HTML;
+        }
+        boolean hasBr = compressedPaths.contains(path + ".br");
+        boolean hasGzip = compressedPaths.contains(path + ".gz");
+        if (!hasBr && !hasGzip) {
+            return false;
+        }
+        // The response depends on the Accept-Encoding header even if the original resource is served
+        ctx.response().headers().set(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+        String acceptEncoding = ctx.request().getHeader(HttpHeaderNames.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        String encoding;
+        if (hasBr && isAccepted(acceptEncoding, BR)) {
+            encoding = BR;
+        } else if (hasGzip && isAccepted(acceptEncoding, GZIP)) {
+            encoding = GZIP;
+        } else {
+            return false;
+        }
+        String variant = path + (encoding.equals(BR) ? ".br" : ".gz");
+        String contentType = contentTypes.get(path);
+        Variant content = cache.get(variant);
+        if (content != null) {
+            send(ctx, content, contentType, encoding);
+            return true;
+        }
+        ctx.vertx().executeBlocking(future -> {
+            try {
+                future.complete(read(variant, encoding.equals(BR) ? "-br" : "-gz"));
+            } catch (IOException e) {
+                future.fail(e);
+            }
+        }, false, new Handler<AsyncResult<Variant>>() {
+            @Override
+            public void handle(AsyncResult<Variant> result) {
+                if (result.failed()) {
+                    ctx.fail(result.cause());
+                } else if (result.result() == null) {
+                    ctx.next();
+                } else {
+                    cache.putIfAbsent(variant, result.result());
+                    send(ctx, result.result(), contentType, encoding);
+                }
+            }
+        });
+        return true;
+    }
+
+    private Variant read(String variant, String etagSuffix) throws IOException {
+        URL url = classLoader.getResource(root + variant);
+        if (url == null) {
+            return null;
+        }
+        URLConnection connection = url.openConnection();
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            return new Variant(IndexedStaticHandler.createRepresentation(out.toByteArray(), etagSuffix, false),
+                    connection.getLastModified());
+        }
+    }
+
+    private void send(RoutingContext ctx, Variant variant, String contentType, String encoding) {
+        HttpServerRequest request = ctx.request();
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        Representation representation = variant.representation;
+        headers.set(HttpHeaderNames.ETAG, representation.etag);
+        if (variant.lastModifiedHeader != null) {
+            headers.set(HttpHeaderNames.LAST_MODIFIED, variant.lastModifiedHeader);
+        }
+        if (cacheControl != null) {
+            headers.set(HttpHeaderNames.CACHE_CONTROL, cacheControl);
+        }
+        if (isNotModified(request, variant)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                contentType += ";charset=UTF-8";
+            }
+            headers.set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        }
+        headers.set(HttpHeaderNames.CONTENT_ENCODING, encoding);
+        headers.set(HttpHeaderNames.CONTENT_LENGTH, representation.contentLength);
+        if (request.method() == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(representation.content);
+        }
+    }
+
+    /**
+     * {@code If-Modified-Since} is only evaluated if the request has no {@code If-None-Match} header, as defined in
+     * RFC 7232.
+     */
+    private static boolean isNotModified(HttpServerRequest request, Variant variant) {
+        String ifNoneMatch = request.getHeader(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return IndexedStaticHandler.matches(ifNoneMatch, variant.representation.etagValue);
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaderNames.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null && variant.lastModified > 0) {
+            Date date = DateFormatter.parseHttpDate(ifModifiedSince);
+            // The header has a precision of one second
+            return date != null && variant.lastModified / 1000 <= date.getTime() / 1000;
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the given encoding is listed in the header, or matched by {@code *}, without a zero quality
+     *         value
+     */
+    static boolean isAccepted(String acceptEncoding, String encoding) {
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            int paramsIndex = part.indexOf(';');
+            String name = (paramsIndex == -1 ? part : part.substring(0, paramsIndex)).trim();
+            if (name.equalsIgnoreCase(encoding)) {
+                return isAcceptable(part, paramsIndex);
+            } else if (name.equals("*")) {
+                wildcard = isAcceptable(part, paramsIndex);
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    private static boolean isAcceptable(String part, int paramsIndex) {
+        if (paramsIndex == -1) {
+            return true;
+        }
+        String params = part.substring(paramsIndex + 1).trim();
+        if (params.startsWith("q=")) {
+            try {
+                return Double.parseDouble(params.substring(2).trim()) > 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Variant {
+
+        final Representation representation;
+        final long lastModified;
+        final CharSequence lastModifiedHeader;
+
+        /**
+         * @param lastModified the last modification time of the variant in milliseconds, or {@code 0} if unknown
+         */
+        Variant(Representation representation, long lastModified) {
+            this.representation = representation;
+            this.lastModified = lastModified;
+            this.lastModifiedHeader = lastModified > 0
+                    ? HttpHeaders.createOptimized(DateFormatter.format(new Date(lastModified)))
+                    : null;
+        }
+    }
+}
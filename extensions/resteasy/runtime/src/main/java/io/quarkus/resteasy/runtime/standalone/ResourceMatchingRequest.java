@@ -0,0 +1,183 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.plugins.server.BaseHttpRequest;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+import org.jboss.resteasy.spi.ResteasyAsynchronousResponse;
+import org.jboss.resteasy.spi.RunnableWithException;
+
+/**
+ * A request that only carries what is needed to find the resource method that would serve it.
+ */
+class ResourceMatchingRequest extends BaseHttpRequest {
+
+    private final ResteasyHttpHeaders httpHeaders;
+    private String httpMethod;
+    private Map<String, Object> attributes;
+    private boolean forwarded;
+
+    ResourceMatchingRequest(ResteasyUriInfo uri, ResteasyHttpHeaders httpHeaders, String httpMethod) {
+        super(uri);
+        this.httpHeaders = httpHeaders;
+        this.httpMethod = httpMethod;
+    }
+
+    @Override
+    public HttpHeaders getHttpHeaders() {
+        return httpHeaders;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getMutableHeaders() {
+        return httpHeaders.getMutableHeaders();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return null;
+    }
+
+    @Override
+    public void setInputStream(InputStream stream) {
+    }
+
+    @Override
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public void setHttpMethod(String method) {
+        this.httpMethod = method;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) {
+        return attributes == null ? null : attributes.get(attribute);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<>();
+        }
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        if (attributes != null) {
+            attributes.remove(name);
+        }
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return attributes == null ? Collections.emptyEnumeration() : Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public ResteasyAsynchronousContext getAsyncContext() {
+        return NotSuspendableContext.INSTANCE;
+    }
+
+    @Override
+    public void forward(String path) {
+        forwarded = true;
+    }
+
+    @Override
+    public boolean wasForwarded() {
+        return forwarded;
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return null;
+    }
+
+    /**
+     * The request is never dispatched, so it cannot be suspended.
+     */
+    private static final class NotSuspendableContext implements ResteasyAsynchronousContext {
+
+        static final NotSuspendableContext INSTANCE = new NotSuspendableContext();
+
+        @Override
+        public void initialRequestStarted() {
+        }
+
+        @Override
+        public void initialRequestEnded() {
+        }
+
+        @Override
+        public boolean isOnInitialRequest() {
+            return true;
+        }
+
+        @Override
+        public boolean isSuspended() {
+            return false;
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse getAsyncResponse() {
+            return null;
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend() throws IllegalStateException {
+            throw new IllegalStateException("A request that is only matched cannot be suspended");
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend(long millis) throws IllegalStateException {
+            return suspend();
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend(long time, TimeUnit unit) throws IllegalStateException {
+            return suspend();
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public CompletionStage<Void> executeBlockingIo(RunnableWithException f, boolean hasInterceptors) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            try {
+                f.run();
+                result.complete(null);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+
+        @Override
+        public CompletionStage<Void> executeAsyncIo(CompletionStage<Void> f) {
+            return f;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
@@ -15,7 +16,9 @@ import io.netty.buffer.PooledByteBufAllocator;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.StaticResourcesConfig;
 import io.quarkus.vertx.http.runtime.ThreadLocalHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -31,12 +34,10 @@ public class ResteasyStandaloneRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
-    /**
-     * TODO: configuration
-     */
     protected static final int BUFFER_SIZE = 8 * 1024;
 
     private static boolean useDirect = true;
+    private static int bufferSize = BUFFER_SIZE;
 
     //TODO: clean this up
     private static BufferAllocator ALLOCATOR = new BufferAllocator() {
@@ -47,7 +48,7 @@ public class ResteasyStandaloneRecorder {
 
         @Override
         public ByteBuf allocateBuffer(boolean direct) {
-            return allocateBuffer(direct, BUFFER_SIZE);
+            return allocateBuffer(direct, bufferSize);
         }
 
         @Override
@@ -66,7 +67,7 @@ public class ResteasyStandaloneRecorder {
 
         @Override
         public int getBufferSize() {
-            return BUFFER_SIZE;
+            return bufferSize;
         }
     };
 
@@ -78,14 +79,21 @@ public class ResteasyStandaloneRecorder {
 
     private static ResteasyDeployment deployment;
     private static Set<String> knownPaths;
+    private static Set<String> compressedPaths;
+    private static Map<String, String> contentTypes;
+    private static Set<String> nonBlockingMethods;
     private static String contextPath;
 
-    public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
+    public void staticInit(ResteasyDeployment dep, String path, Set<String> known, Set<String> compressed,
+            Map<String, String> types, Set<String> nonBlocking) {
         if (dep != null) {
             deployment = dep;
             deployment.start();
         }
         knownPaths = known;
+        compressedPaths = compressed;
+        contentTypes = types;
+        nonBlockingMethods = nonBlocking;
         contextPath = path;
     }
 
@@ -93,7 +101,8 @@ public class ResteasyStandaloneRecorder {
             ShutdownContext shutdown,
             BeanContainer beanContainer,
             boolean isVirtual, boolean isDefaultResourcesPath,
-            Executor executor, HttpConfiguration httpConfiguration) {
+            Executor executor, HttpConfiguration httpConfiguration, HttpBuildTimeConfig httpBuildTimeConfig,
+            ResteasyVertxConfig vertxConfig) {
 
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -132,6 +141,19 @@ public class ResteasyStandaloneRecorder {
             }
         }
         if (!knownPaths.isEmpty()) {
+            StaticResourcesConfig staticResourcesConfig = httpBuildTimeConfig.staticResources;
+            if (staticResourcesConfig.inMemory && hotDeploymentResourcePaths == null) {
+                IndexedStaticHandler indexedHandler = IndexedStaticHandler.load(META_INF_RESOURCES, knownPaths,
+                        compressedPaths, contentTypes, staticResourcesConfig.cacheControl, useDirect,
+                        Thread.currentThread().getContextClassLoader());
+                handlers.add(ctx -> {
+                    String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
+                            : ctx.normalisedPath().substring(ctx.mountPoint().length());
+                    if (!indexedHandler.handle(ctx, rel)) {
+                        ctx.next();
+                    }
+                });
+            }
             ThreadLocalHandler staticHandler = new ThreadLocalHandler(new Supplier<Handler<RoutingContext>>() {
                 @Override
                 public Handler<RoutingContext> get() {
@@ -139,10 +161,16 @@ public class ResteasyStandaloneRecorder {
                             .setDefaultContentEncoding("UTF-8");
                 }
             });
+            PrecompressedResourceHandler precompressedHandler = compressedPaths.isEmpty() ? null
+                    : new PrecompressedResourceHandler(META_INF_RESOURCES, compressedPaths, contentTypes,
+                            httpBuildTimeConfig.staticResources.cacheControl, Thread.currentThread().getContextClassLoader());
             handlers.add(ctx -> {
                 String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
                         : ctx.normalisedPath().substring(ctx.mountPoint().length());
                 if (knownPaths.contains(rel)) {
+                    if (precompressedHandler != null && precompressedHandler.handle(ctx, rel)) {
+                        return;
+                    }
                     staticHandler.handle(ctx);
                 } else {
                     ctx.next();
@@ -151,7 +179,7 @@ public class ResteasyStandaloneRecorder {
         }
 
         if (deployment != null && isDefaultResourcesPath) {
-            handlers.add(vertxRequestHandler(vertx, beanContainer, executor, httpConfiguration));
+            handlers.add(vertxRequestHandler(vertx, beanContainer, executor, httpConfiguration, vertxConfig));
         }
         return new Consumer<Route>() {
 
@@ -165,10 +193,12 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(Supplier<Vertx> vertx,
-            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout) {
+            BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout, ResteasyVertxConfig vertxConfig) {
         if (deployment != null) {
+            bufferSize = (int) vertxConfig.responseBufferSize.asLongValue();
             return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, ALLOCATOR, executor,
-                    readTimeout.readTimeout.toMillis());
+                    readTimeout.readTimeout.toMillis(), nonBlockingMethods,
+                    (int) vertxConfig.flushThreshold.asLongValue());
         }
         return null;
     }
@@ -0,0 +1,32 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Settings of the responses written by RESTEasy on top of Vert.x
+ */
+@ConfigRoot(name = "resteasy.vertx", phase = ConfigPhase.RUN_TIME)
+public class ResteasyVertxConfig {
+
+    /**
+     * The size of the buffers the response bodies are written to before being sent. Responses with a smaller
+     * {@code Content-Length} use a buffer of their own size.
+     */
+    @ConfigItem(defaultValue = "8K")
+    public MemorySize responseBufferSize;
+
+    /**
+     * The flushes requested by the application while less than this amount of the response body is buffered are
+     * deferred: the buffered data is sent with the next full buffer or at the end of the response. Serializers that
+     * flush after each small write then produce a single write, and a response that fits in a buffer gets a
+     * {@code Content-Length} instead of being chunked.
+     * <p>
+     * {@code 0} sends the buffered data on every flush. Server-sent events are never deferred, but other streaming
+     * responses that rely on explicit flushes to reach the client should keep the default.
+     */
+    @ConfigItem(defaultValue = "0")
+    public MemorySize flushThreshold;
+}
@@ -0,0 +1,98 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.plugins.providers.ByteArrayProvider;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.http.runtime.VertxInputStream;
+
+/**
+ * Reads a streamed request body of a known length straight from the buffers received by Vert.x into an array of the
+ * right size.
+ * <p>
+ * The declared length is only trusted up to {@link #MAX_INITIAL_CAPACITY}: the array grows as the data arrives beyond
+ * that, so that a client cannot make the server allocate memory for a body it never sends.
+ * <p>
+ * Any other request body is read by the RESTEasy provider.
+ */
+@Provider
+@Consumes("*/*")
+@Priority(Priorities.USER + 100)
+public class VertxByteArrayReader implements MessageBodyReader<byte[]> {
+
+    private static final int MAX_INITIAL_CAPACITY = 64 * 1024;
+    // Some VMs reserve header words in an array.
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final ByteArrayProvider delegate = new ByteArrayProvider();
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return delegate.isReadable(type, genericType, annotations, mediaType);
+    }
+
+    @Override
+    public byte[] readFrom(Class<byte[]> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        long length = contentLength(httpHeaders);
+        if (!(entityStream instanceof VertxInputStream) || length < 0 || length > MAX_ARRAY_SIZE) {
+            return delegate.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        }
+        VertxInputStream in = (VertxInputStream) entityStream;
+        byte[] bytes = new byte[(int) Math.min(length, MAX_INITIAL_CAPACITY)];
+        int position = 0;
+        ByteBuf buffer;
+        while ((buffer = in.readBuffer()) != null) {
+            try {
+                int readable = buffer.readableBytes();
+                if (readable > bytes.length - position) {
+                    bytes = Arrays.copyOf(bytes, newCapacity(bytes.length, position, readable, length));
+                }
+                buffer.readBytes(bytes, position, readable);
+                position += readable;
+            } finally {
+                buffer.release();
+            }
+        }
+        return position == bytes.length ? bytes : Arrays.copyOf(bytes, position);
+    }
+
+    /**
+     * Doubles the capacity up to the declared length, or grows it to the required size if the body is longer than
+     * declared.
+     */
+    private static int newCapacity(int capacity, int position, int readable, long length) throws IOException {
+        if (readable > MAX_ARRAY_SIZE - position) {
+            throw new IOException("Request body too large");
+        }
+        int required = position + readable;
+        long doubled = Math.min(Math.min((long) capacity * 2, length), MAX_ARRAY_SIZE);
+        return (int) Math.max(required, doubled);
+    }
+
+    private static long contentLength(MultivaluedMap<String, String> httpHeaders) {
+        String length = httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH);
+        if (length == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(length.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
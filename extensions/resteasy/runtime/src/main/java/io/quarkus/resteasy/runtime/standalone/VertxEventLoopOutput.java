@@ -0,0 +1,51 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * The output of the requests dispatched on the IO thread. The IO thread cannot wait for the write queue to drain, so
+ * the data is queued by Vert.x instead: a non-blocking resource method is expected to produce a bounded response.
+ * <p>
+ * The writes from a worker thread, e.g. when an asynchronous response is resumed, are blocking as usual.
+ */
+public class VertxEventLoopOutput extends VertxBlockingOutput {
+
+    public VertxEventLoopOutput(HttpServerRequest request) {
+        super(request);
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        if (!Context.isOnEventLoopThread()) {
+            super.write(data, last);
+            return;
+        }
+        try {
+            if (throwable != null) {
+                throw new IOException(throwable);
+            }
+            if (last) {
+                if (data == null) {
+                    request.response().end();
+                } else {
+                    request.response().end(createBuffer(data));
+                }
+            } else {
+                request.response().write(createBuffer(data));
+            }
+        } catch (Exception e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw new IOException("Failed to write", e);
+        } finally {
+            if (last) {
+                terminateResponse();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.plugins.providers.FileProvider;
+import org.jboss.resteasy.plugins.server.Cleanables;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.http.runtime.VertxInputStream;
+
+/**
+ * Writes a streamed request body to a temporary file straight from the buffers received by Vert.x.
+ * <p>
+ * As with the RESTEasy provider, the file is deleted once the request is complete. Any other request body is read by the
+ * RESTEasy provider.
+ */
+@Provider
+@Consumes("*/*")
+@Priority(Priorities.USER + 100)
+public class VertxFileReader implements MessageBodyReader<File> {
+
+    private final FileProvider delegate = new FileProvider();
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return delegate.isReadable(type, genericType, annotations, mediaType);
+    }
+
+    @Override
+    public File readFrom(Class<File> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        if (!(entityStream instanceof VertxInputStream)) {
+            return delegate.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        }
+        VertxInputStream in = (VertxInputStream) entityStream;
+        File file = File.createTempFile("pfx", "sfx");
+        Cleanables cleanables = ResteasyContext.getContextData(Cleanables.class);
+        if (cleanables != null) {
+            cleanables.addCleanable(file::delete);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            ByteBuf buffer;
+            while ((buffer = in.readBuffer()) != null) {
+                try {
+                    while (buffer.isReadable()) {
+                        buffer.readBytes(channel, buffer.readableBytes());
+                    }
+                } finally {
+                    buffer.release();
+                }
+            }
+        }
+        return file;
+    }
+}
@@ -35,9 +35,15 @@ public class VertxHttpResponse implements HttpResponse {
 
     public VertxHttpResponse(HttpServerRequest request, ResteasyProviderFactory providerFactory,
             final HttpMethod method, BufferAllocator allocator, VertxOutput output) {
+        this(request, providerFactory, method, allocator, output, 0);
+    }
+
+    public VertxHttpResponse(HttpServerRequest request, ResteasyProviderFactory providerFactory,
+            final HttpMethod method, BufferAllocator allocator, VertxOutput output, int flushThreshold) {
         outputHeaders = new MultivaluedMapImpl<String, Object>();
         this.method = method;
-        os = (method == null || !method.equals(HttpMethod.HEAD)) ? new VertxOutputStream(this, allocator)
+        os = (method == null || !method.equals(HttpMethod.HEAD))
+                ? new VertxOutputStream(this, allocator, flushThreshold)
                 : null;
         this.request = request;
         this.response = request.response();
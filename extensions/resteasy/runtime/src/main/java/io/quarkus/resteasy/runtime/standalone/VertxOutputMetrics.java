@@ -0,0 +1,32 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the writes of the response bodies to the connection.
+ * <p>
+ * Each write is handed to Vert.x separately and usually ends up in its own system call, so these counters show how well
+ * the buffering of the responses works.
+ */
+public final class VertxOutputMetrics {
+
+    static final LongAdder WRITES = new LongAdder();
+    static final LongAdder DEFERRED_FLUSHES = new LongAdder();
+
+    private VertxOutputMetrics() {
+    }
+
+    /**
+     * @return the number of buffers written to the connection
+     */
+    public static long getWrites() {
+        return WRITES.sum();
+    }
+
+    /**
+     * @return the number of flushes deferred because too little was buffered
+     */
+    public static long getDeferredFlushes() {
+        return DEFERRED_FLUSHES.sum();
+    }
+}
@@ -12,11 +12,15 @@ import io.netty.buffer.ByteBuf;
 
 public class VertxOutputStream extends AsyncOutputStream {
 
+    private static final String EVENT_STREAM = "text/event-stream";
+    private static final long UNKNOWN_LENGTH = -2;
+
     private final VertxHttpResponse response;
     private final BufferAllocator allocator;
+    private final int flushThreshold;
     private ByteBuf pooledBuffer;
     private long written;
-    private final long contentLength;
+    private long contentLength = UNKNOWN_LENGTH;
 
     private boolean closed;
 
@@ -25,10 +29,19 @@ public class VertxOutputStream extends AsyncOutputStream {
      *
      */
     public VertxOutputStream(VertxHttpResponse response, BufferAllocator allocator) {
+        this(response, allocator, 0);
+    }
+
+    /**
+     * Construct a new instance. No write timeout is configured.
+     *
+     * @param flushThreshold the flushes requested while less than this number of bytes is buffered are deferred until
+     *        the buffer is full or the stream is closed
+     */
+    public VertxOutputStream(VertxHttpResponse response, BufferAllocator allocator, int flushThreshold) {
         this.allocator = allocator;
         this.response = response;
-        Object length = response.getOutputHeaders().getFirst(HttpHeaders.CONTENT_LENGTH);
-        this.contentLength = length == null ? -1 : Long.parseLong(length.toString());
+        this.flushThreshold = flushThreshold;
     }
 
     /**
@@ -61,18 +74,20 @@ public class VertxOutputStream extends AsyncOutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = allocator.allocateBuffer();
+                pooledBuffer = buffer = allocateBuffer(0);
             }
             while (rem > 0) {
-                int toWrite = Math.min(rem, buffer.writableBytes());
-                buffer.writeBytes(b, idx, toWrite);
-                rem -= toWrite;
-                idx += toWrite;
                 if (!buffer.isWritable()) {
+                    // the full buffer is only written once there is more to send, so that it can end the response
                     ByteBuf tmpBuf = buffer;
-                    this.pooledBuffer = buffer = allocator.allocateBuffer();
+                    this.pooledBuffer = buffer = allocateBuffer(len - rem);
+                    VertxOutputMetrics.WRITES.increment();
                     response.writeBlocking(tmpBuf, false);
                 }
+                int toWrite = Math.min(rem, buffer.writableBytes());
+                buffer.writeBytes(b, idx, toWrite);
+                rem -= toWrite;
+                idx += toWrite;
             }
         } catch (Exception e) {
             if (buffer != null && buffer.refCnt() > 0) {
@@ -85,6 +100,7 @@ public class VertxOutputStream extends AsyncOutputStream {
 
     void updateWritten(final long len) throws IOException {
         this.written += len;
+        long contentLength = contentLength();
         if (contentLength != -1 && this.written >= contentLength) {
             flush();
             close();
@@ -98,8 +114,12 @@ public class VertxOutputStream extends AsyncOutputStream {
         if (closed) {
             throw new IOException("Stream is closed");
         }
+        if (isDeferred()) {
+            return;
+        }
         try {
             if (pooledBuffer != null) {
+                VertxOutputMetrics.WRITES.increment();
                 response.writeBlocking(pooledBuffer, false);
                 pooledBuffer = null;
             }
@@ -119,6 +139,9 @@ public class VertxOutputStream extends AsyncOutputStream {
         if (closed)
             return;
         try {
+            if (pooledBuffer != null) {
+                VertxOutputMetrics.WRITES.increment();
+            }
             response.writeBlocking(pooledBuffer, true);
         } catch (Exception e) {
             throw new IOException(e);
@@ -130,6 +153,9 @@ public class VertxOutputStream extends AsyncOutputStream {
 
     @Override
     public CompletionStage<Void> asyncFlush() {
+        if (!closed && isDeferred()) {
+            return CompletableFuture.completedFuture(null);
+        }
         return asyncFlush(false);
     }
 
@@ -142,6 +168,7 @@ public class VertxOutputStream extends AsyncOutputStream {
         if (pooledBuffer != null) {
             ByteBuf sentBuffer = pooledBuffer;
             pooledBuffer = null;
+            VertxOutputMetrics.WRITES.increment();
             CompletionStage<Void> ret = response.writeNonBlocking(sentBuffer, isLast);
             return ret.whenComplete((v, t) -> {
                 if (t != null)
@@ -167,28 +194,84 @@ public class VertxOutputStream extends AsyncOutputStream {
         ByteBuf buffer = pooledBuffer;
         CompletionStage<Void> ret = CompletableFuture.completedFuture(null);
         if (buffer == null) {
-            pooledBuffer = buffer = allocator.allocateBuffer();
+            pooledBuffer = buffer = allocateBuffer(0);
         }
         while (rem > 0) {
-            int toWrite = Math.min(rem, buffer.writableBytes());
-            buffer.writeBytes(b, idx, toWrite);
-            rem -= toWrite;
-            idx += toWrite;
             if (!buffer.isWritable()) {
                 ByteBuf tmpBuf = buffer;
-                this.pooledBuffer = buffer = allocator.allocateBuffer();
+                this.pooledBuffer = buffer = allocateBuffer(len - rem);
+                VertxOutputMetrics.WRITES.increment();
                 ret = ret.thenCompose(v -> response.writeNonBlocking(tmpBuf, false)
                         .whenComplete((v2, t) -> {
                             if (t != null)
                                 tmpBuf.release();
                         }));
             }
+            int toWrite = Math.min(rem, buffer.writableBytes());
+            buffer.writeBytes(b, idx, toWrite);
+            rem -= toWrite;
+            idx += toWrite;
         }
         return ret.thenCompose(v -> asyncUpdateWritten(len));
     }
 
+    /**
+     * Allocates a buffer no larger than the rest of the response, when its length is known, so that small responses
+     * use the smaller size classes of the pooled allocator.
+     *
+     * @param pending the number of bytes of the current write already copied to the previous buffers
+     */
+    private ByteBuf allocateBuffer(long pending) {
+        long contentLength = contentLength();
+        if (contentLength != -1) {
+            long remaining = contentLength - written - pending;
+            if (remaining > 0 && remaining < allocator.getBufferSize()) {
+                return allocator.allocateBuffer((int) remaining);
+            }
+        }
+        return allocator.allocateBuffer();
+    }
+
+    /**
+     * The stream is created with the response, before the resource method and the message body writer had a chance to set
+     * the headers, so the length is only read once the body is written.
+     *
+     * @return the value of the Content-Length header, or -1 if it is not set or is not a number
+     */
+    private long contentLength() {
+        if (contentLength == UNKNOWN_LENGTH) {
+            Object length = response.getOutputHeaders().getFirst(HttpHeaders.CONTENT_LENGTH);
+            contentLength = -1;
+            if (length != null) {
+                try {
+                    contentLength = Long.parseLong(length.toString());
+                } catch (NumberFormatException e) {
+                    // The length is left to Vert.x
+                }
+            }
+        }
+        return contentLength;
+    }
+
+    /**
+     * @return {@code true} if the flush can be deferred as too little is buffered to be worth a write
+     */
+    private boolean isDeferred() {
+        if (flushThreshold <= 0 || pooledBuffer == null || pooledBuffer.readableBytes() >= flushThreshold) {
+            return false;
+        }
+        Object contentType = response.getOutputHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null && contentType.toString().startsWith(EVENT_STREAM)) {
+            // Each event has to reach the client when it is sent
+            return false;
+        }
+        VertxOutputMetrics.DEFERRED_FLUSHES.increment();
+        return true;
+    }
+
     CompletionStage<Void> asyncUpdateWritten(final long len) {
         this.written += len;
+        long contentLength = contentLength();
         if (contentLength != -1 && this.written >= contentLength) {
             return asyncFlush(true).thenAccept(v -> {
                 closed = true;
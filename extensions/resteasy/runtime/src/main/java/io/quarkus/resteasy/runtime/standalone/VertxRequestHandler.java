@@ -3,22 +3,35 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.CDI;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.SecurityContext;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.core.AcceptHeaderByFileSuffixFilter;
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.specimpl.MultivaluedTreeMap;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.resteasy.runtime.SecurityContextFilter;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.VertxInputStream;
@@ -26,8 +39,11 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -45,12 +61,33 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
     protected final long readTimeout;
+    // The identifiers of the resource methods that can be invoked on the IO thread
+    protected final Set<String> nonBlockingMethods;
+    protected final ConcurrentMap<Method, Boolean> nonBlockingCache;
+    protected final int flushThreshold;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator, Executor executor, long readTimeout) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, executor, readTimeout, Collections.emptySet());
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, Executor executor, long readTimeout, Set<String> nonBlockingMethods) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, executor, readTimeout, nonBlockingMethods, 0);
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, Executor executor, long readTimeout, Set<String> nonBlockingMethods,
+            int flushThreshold) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -59,6 +96,10 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         this.allocator = allocator;
         this.executor = executor;
         this.readTimeout = readTimeout;
+        this.nonBlockingMethods = nonBlockingMethods.isEmpty() || hasPreMatchingFilters(deployment) ? Collections.emptySet()
+                : nonBlockingMethods;
+        this.flushThreshold = flushThreshold;
+        this.nonBlockingCache = new ConcurrentHashMap<>();
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
@@ -80,6 +121,15 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             return;
         }
 
+        if (isNonBlocking(request)) {
+            try {
+                dispatch(request, is, new VertxEventLoopOutput(request.request()));
+            } catch (Throwable e) {
+                request.fail(e);
+            }
+            return;
+        }
+
         executor.execute(new Runnable() {
             @Override
             public void run() {
@@ -92,6 +142,111 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         });
     }
 
+    /**
+     * @return {@code true} if the request can be dispatched on the current IO thread
+     */
+    private boolean isNonBlocking(RoutingContext routingContext) {
+        if (nonBlockingMethods.isEmpty()) {
+            return false;
+        }
+        if (!(routingContext.user() instanceof QuarkusHttpUser)
+                && routingContext.get(QuarkusHttpUser.DEFERRED_IDENTITY_KEY) != null) {
+            // The identity is authenticated lazily and may be needed by the resource method, the providers may block
+            return false;
+        }
+        HttpServerRequest request = routingContext.request();
+        if (routingContext.getBody() == null && hasBody(request)) {
+            // Reading the body would block
+            return false;
+        }
+        // Only the headers used to select the resource method are needed
+        MultivaluedMap<String, String> requestHeaders = new MultivaluedTreeMap<>();
+        String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            requestHeaders.add(HttpHeaders.CONTENT_TYPE.toString(), contentType);
+        }
+        for (String accept : request.headers().getAll(HttpHeaders.ACCEPT)) {
+            requestHeaders.add(HttpHeaders.ACCEPT.toString(), accept);
+        }
+        ResourceMatchingRequest matchingRequest = new ResourceMatchingRequest(VertxUtil.extractUriInfo(request, rootPath),
+                new ResteasyHttpHeaders(requestHeaders), request.rawMethod());
+        ResourceInvoker invoker;
+        try {
+            invoker = dispatcher.getDispatcher().getRegistry().getResourceInvoker(matchingRequest);
+        } catch (RuntimeException e) {
+            // Not found, not allowed, etc. are handled by the regular dispatch
+            return false;
+        }
+        if (invoker == null || invoker.getMethod() == null || matchingRequest.wasForwarded()) {
+            return false;
+        }
+        Method method = invoker.getMethod();
+        Boolean nonBlocking = nonBlockingCache.get(method);
+        if (nonBlocking == null) {
+            nonBlocking = nonBlockingMethods.contains(methodId(method));
+            nonBlockingCache.put(method, nonBlocking);
+        }
+        return nonBlocking;
+    }
+
+    /**
+     * The request is matched before the {@link PreMatching} filters run, which may change the URI or the method: the
+     * non-blocking dispatch is disabled if the application has such filters. The built-in filters that leave the URI and
+     * the method unchanged are ignored.
+     */
+    private static boolean hasPreMatchingFilters(ResteasyDeployment deployment) {
+        ContainerRequestFilter[] filters = deployment.getProviderFactory().getContainerRequestFilterRegistry().preMatch();
+        if (filters != null) {
+            for (ContainerRequestFilter filter : filters) {
+                if (filter instanceof SecurityContextFilter) {
+                    continue;
+                }
+                if (filter instanceof AcceptHeaderByFileSuffixFilter && isEmpty(deployment.getMediaTypeMappings())
+                        && isEmpty(deployment.getLanguageExtensions())) {
+                    continue;
+                }
+                log.debugf("Non-blocking resource methods are dispatched to the worker pool because of the @PreMatching"
+                        + " filter %s", filter.getClass().getName());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
+    }
+
+    private static boolean hasBody(HttpServerRequest request) {
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            return !contentLength.equals("0");
+        }
+        if (request.version() == HttpVersion.HTTP_2) {
+            // The body of an HTTP/2 request is not delimited by a header
+            HttpMethod method = request.method();
+            return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS
+                    && method != HttpMethod.DELETE;
+        }
+        return request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null;
+    }
+
+    /**
+     * @return the identifier of a method, in the format used at build time
+     */
+    static String methodId(Method method) {
+        StringBuilder id = new StringBuilder();
+        id.append(method.getDeclaringClass().getName()).append('#').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                id.append(',');
+            }
+            id.append(parameterTypes[i].getName());
+        }
+        return id.append(')').toString();
+    }
+
     private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
@@ -108,7 +263,7 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             ResteasyHttpHeaders headers = VertxUtil.extractHttpHeaders(request);
             HttpServerResponse response = request.response();
             VertxHttpResponse vertxResponse = new VertxHttpResponse(request, dispatcher.getProviderFactory(),
-                    request.method(), allocator, output);
+                    request.method(), allocator, output, flushThreshold);
 
             // using a supplier to make the remote Address resolution lazy: often it's not needed and it's not very cheap to create.
             LazyHostSupplier hostSupplier = new LazyHostSupplier(request);
@@ -0,0 +1,53 @@
+package io.quarkus.resteasy.runtime.standalone.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import io.quarkus.resteasy.runtime.standalone.VertxOutputMetrics;
+
+public class VertxOutputCounter implements Counter {
+
+    private String metric;
+
+    public VertxOutputCounter() {
+    }
+
+    /**
+     * @param metric Name of the statistic that should be retrieved from {@link VertxOutputMetrics}. This has nothing to do
+     *        with the metric name from MP Metrics point of view!
+     */
+    public VertxOutputCounter(String metric) {
+        this.metric = metric;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public long getCount() {
+        switch (metric) {
+            case "writes":
+                return VertxOutputMetrics.getWrites();
+            case "deferredFlushes":
+                return VertxOutputMetrics.getDeferredFlushes();
+            default:
+                throw new IllegalArgumentException("Unknown response output metric");
+        }
+    }
+
+    @Override
+    public void inc() {
+        throw new IllegalStateException("Response output metrics are computed by the output streams and should not be "
+                + "updated manually");
+    }
+
+    @Override
+    public void inc(long n) {
+        throw new IllegalStateException("Response output metrics are computed by the output streams and should not be "
+                + "updated manually");
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.security.test.identity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class IdentityCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CountingIdentityProvider.class)
+                    .addAsResource(new StringAsset("quarkus.security.identity-cache.enabled=true\n"),
+                            "application.properties"));
+
+    @Inject
+    IdentityProviderManager identityProviderManager;
+
+    @Inject
+    IdentityCache identityCache;
+
+    @Inject
+    CountingIdentityProvider identityProvider;
+
+    @Test
+    public void testCredentialsAreVerifiedOnce() {
+        identityCache.invalidateAll();
+        int verifications = identityProvider.getVerifications();
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("alice", authenticate("alice", "secret").getPrincipal().getName());
+        }
+        Assertions.assertEquals(1, identityProvider.getVerifications() - verifications);
+
+        // a wrong password is verified, and never cached
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(AuthenticationFailedException.class, () -> authenticate("alice", "wrong"));
+        }
+        Assertions.assertEquals(3, identityProvider.getVerifications() - verifications);
+
+        identityCache.invalidate("alice");
+        Assertions.assertEquals(0, identityCache.getSize());
+        authenticate("alice", "secret");
+        Assertions.assertEquals(4, identityProvider.getVerifications() - verifications);
+    }
+
+    private SecurityIdentity authenticate(String username, String password) {
+        return identityProviderManager.authenticateBlocking(
+                new UsernamePasswordAuthenticationRequest(username, new PasswordCredential(password.toCharArray())));
+    }
+
+    @ApplicationScoped
+    public static class CountingIdentityProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
+
+        private final AtomicInteger verifications = new AtomicInteger();
+
+        int getVerifications() {
+            return verifications.get();
+        }
+
+        @Override
+        public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+            return UsernamePasswordAuthenticationRequest.class;
+        }
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                AuthenticationRequestContext context) {
+            verifications.incrementAndGet();
+            if (!"secret".equals(new String(request.getPassword().getPassword()))) {
+                return Uni.createFrom().failure(new AuthenticationFailedException());
+            }
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal(request.getUsername()))
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.security.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * A bounded cache whose entries expire at their own time, e.g. the expiration time of the token they were built from.
+ * <p>
+ * The entries are kept in a Caffeine cache, which evicts the least likely to be used again when the maximum size is
+ * reached. The cache maintenance runs on the calling thread.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class ExpiringCache<V> {
+
+    private final Cache<String, Entry<V>> cache;
+
+    public ExpiringCache(int maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new EntryExpiry<V>())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * @return the value with the given key, or null if it is not cached or has expired
+     */
+    public V get(String key) {
+        Entry<V> entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * @param expiresAt the time after which the value must not be returned, in milliseconds since the epoch
+     */
+    public void put(String key, V value, long expiresAt) {
+        if (expiresAt > System.currentTimeMillis()) {
+            cache.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public void removeIf(Predicate<V> filter) {
+        cache.asMap().values().removeIf(e -> filter.test(e.value));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        cache.cleanUp();
+        return (int) cache.estimatedSize();
+    }
+
+    /**
+     * @return a SHA-256 digest of the given token, so that the token itself does not have to be kept in memory
+     */
+    public static String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class EntryExpiry<V> implements Expiry<String, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry<V> entry, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
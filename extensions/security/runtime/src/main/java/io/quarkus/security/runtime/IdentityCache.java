@@ -0,0 +1,144 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A bounded cache of the identities authenticated with a username and a password, enabled with
+ * {@code quarkus.security.identity-cache.enabled}.
+ * <p>
+ * The entries are keyed by a SHA-256 digest of the credentials salted with a random value generated at startup, so that
+ * the passwords are not kept in memory. Inject this bean to invalidate the identity of a user whose password or roles
+ * have changed in the identity store.
+ */
+@ApplicationScoped
+public class IdentityCache {
+
+    private final byte[] salt = new byte[16];
+
+    private volatile ExpiringCache<Entry> entries;
+    private volatile long timeToLive;
+
+    public IdentityCache() {
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * @param timeToLive the time after which an identity expires, in milliseconds
+     */
+    void enable(int maxSize, long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.entries = maxSize > 0 && timeToLive > 0 ? new ExpiringCache<>(maxSize) : null;
+    }
+
+    boolean isEnabled() {
+        return entries != null;
+    }
+
+    /**
+     * Returns the cached identity authenticated with the given credentials, or authenticates them and caches the
+     * resulting identity.
+     */
+    Uni<SecurityIdentity> getIdentity(UsernamePasswordAuthenticationRequest request,
+            Supplier<Uni<SecurityIdentity>> authenticate) {
+        String key = key(request);
+        SecurityIdentity identity = get(key);
+        if (identity != null) {
+            return Uni.createFrom().item(identity);
+        }
+        String username = request.getUsername();
+        return authenticate.get().onItem().invoke(new Consumer<SecurityIdentity>() {
+            @Override
+            public void accept(SecurityIdentity identity) {
+                if (identity != null) {
+                    put(key, username, identity);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes the identities of the given user.
+     *
+     * @param username the name the user authenticates with
+     */
+    public void invalidate(String username) {
+        ExpiringCache<Entry> entries = this.entries;
+        if (entries != null) {
+            entries.removeIf(e -> e.username.equals(username));
+        }
+    }
+
+    /**
+     * Removes all the identities.
+     */
+    public void invalidateAll() {
+        ExpiringCache<Entry> entries = this.entries;
+        if (entries != null) {
+            entries.invalidateAll();
+        }
+    }
+
+    public int getSize() {
+        ExpiringCache<Entry> entries = this.entries;
+        return entries == null ? 0 : entries.size();
+    }
+
+    String key(UsernamePasswordAuthenticationRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(salt);
+        byte[] username = request.getUsername().getBytes(StandardCharsets.UTF_8);
+        // the length of the username is hashed too, so that different credentials cannot have the same input
+        digest.update(ByteBuffer.allocate(4).putInt(0, username.length));
+        digest.update(username);
+        ByteBuffer password = StandardCharsets.UTF_8.encode(CharBuffer.wrap(request.getPassword().getPassword()));
+        digest.update(password.duplicate());
+        if (password.hasArray()) {
+            Arrays.fill(password.array(), (byte) 0);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    SecurityIdentity get(String key) {
+        ExpiringCache<Entry> entries = this.entries;
+        Entry entry = entries == null ? null : entries.get(key);
+        return entry == null ? null : entry.identity;
+    }
+
+    void put(String key, String username, SecurityIdentity identity) {
+        ExpiringCache<Entry> entries = this.entries;
+        if (entries != null) {
+            entries.put(key, new Entry(username, identity), System.currentTimeMillis() + timeToLive);
+        }
+    }
+
+    private static final class Entry {
+
+        final String username;
+        final SecurityIdentity identity;
+
+        Entry(String username, SecurityIdentity identity) {
+            this.username = username;
+            this.identity = identity;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class IdentityCacheConfig {
+
+    /**
+     * If enabled, the identity authenticated with a username and a password is cached, so that the identity providers
+     * only look the user up and verify the password once for a client sending the same credentials with every request.
+     * <p>
+     * A password changed or a user removed in the identity store is only noticed once the cached identity expires or is
+     * invalidated with {@link IdentityCache}.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The maximum number of cached identities.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * The time after which a cached identity expires.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public Duration timeToLive;
+}
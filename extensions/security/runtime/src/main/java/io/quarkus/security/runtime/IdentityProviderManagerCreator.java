@@ -25,6 +25,9 @@ public class IdentityProviderManagerCreator {
     @Inject
     Instance<SecurityIdentityAugmentor> augmentors;
 
+    @Inject
+    IdentityCache identityCache;
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm() {
@@ -42,6 +45,7 @@ public class IdentityProviderManagerCreator {
         for (SecurityIdentityAugmentor i : augmentors) {
             builder.addSecurityIdentityAugmenter(i);
         }
+        builder.setIdentityCache(identityCache);
         builder.setBlockingExecutor(new Executor() {
             @Override
             public void execute(Runnable command) {
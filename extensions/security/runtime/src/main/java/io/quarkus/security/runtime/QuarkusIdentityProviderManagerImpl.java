@@ -21,6 +21,7 @@ import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.SecurityIdentityAugmentor;
 import io.quarkus.security.identity.request.AnonymousAuthenticationRequest;
 import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 
@@ -33,6 +34,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers;
     private final List<SecurityIdentityAugmentor> augmenters;
     private final Executor blockingExecutor;
+    private final IdentityCache identityCache;
 
     private final AuthenticationRequestContext blockingRequestContext = new AuthenticationRequestContext() {
         @Override
@@ -74,6 +76,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         this.providers = builder.providers;
         this.augmenters = builder.augmenters;
         this.blockingExecutor = builder.blockingExecutor;
+        this.identityCache = builder.identityCache;
     }
 
     /**
@@ -91,7 +94,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return Uni.createFrom().failure(new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request));
         }
-        return handleProvider(0, (List) providers, request, blockingRequestContext);
+        return authenticate((List) providers, request, blockingRequestContext);
     }
 
     /**
@@ -109,7 +112,29 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
-        return (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext).await().indefinitely();
+        return (SecurityIdentity) authenticate((List) providers, request, blockingRequestContext).await().indefinitely();
+    }
+
+    private <T extends AuthenticationRequest> Uni<SecurityIdentity> authenticate(List<IdentityProvider<T>> providers,
+            T request, AuthenticationRequestContext context) {
+        Uni<SecurityIdentity> identity;
+        if (identityCache != null && identityCache.isEnabled() && request instanceof UsernamePasswordAuthenticationRequest) {
+            identity = identityCache.getIdentity((UsernamePasswordAuthenticationRequest) request,
+                    new Supplier<Uni<SecurityIdentity>>() {
+                        @Override
+                        public Uni<SecurityIdentity> get() {
+                            return handleProvider(0, providers, request, context);
+                        }
+                    });
+        } else {
+            identity = handleProvider(0, providers, request, context);
+        }
+        return identity.flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
+            @Override
+            public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
+                return handleIdentityFromProvider(0, securityIdentity, context);
+            }
+        });
     }
 
     private <T extends AuthenticationRequest> Uni<SecurityIdentity> handleProvider(int pos,
@@ -120,7 +145,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return Uni.createFrom().failure(new AuthenticationFailedException());
         }
         IdentityProvider<T> current = providers.get(pos);
-        Uni<SecurityIdentity> cs = current.authenticate(request, context)
+        return current.authenticate(request, context)
                 .onItem().produceUni(new Function<SecurityIdentity, Uni<SecurityIdentity>>() {
                     @Override
                     public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
@@ -130,12 +155,6 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
                         return handleProvider(pos + 1, providers, request, context);
                     }
                 });
-        return cs.flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
-            @Override
-            public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
-                return handleIdentityFromProvider(0, securityIdentity, context);
-            }
-        });
     }
 
     private Uni<SecurityIdentity> handleIdentityFromProvider(int pos, SecurityIdentity identity,
@@ -172,6 +191,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers = new HashMap<>();
         private final List<SecurityIdentityAugmentor> augmenters = new ArrayList<>();
         private Executor blockingExecutor;
+        private IdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -208,6 +228,15 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return this;
         }
 
+        /**
+         * @param identityCache The cache of the identities authenticated with a username and a password
+         * @return this builder
+         */
+        public Builder setIdentityCache(IdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
@@ -0,0 +1,16 @@
+package io.quarkus.security.runtime;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class SecurityRecorder {
+
+    public void configureIdentityCache(BeanContainer beanContainer, SecurityRuntimeConfig config) {
+        IdentityCacheConfig identityCache = config.identityCache;
+        if (identityCache.enabled) {
+            beanContainer.instance(IdentityCache.class).enable(identityCache.maxSize,
+                    identityCache.timeToLive.toMillis());
+        }
+    }
+}
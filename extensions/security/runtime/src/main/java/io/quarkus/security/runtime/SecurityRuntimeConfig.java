@@ -0,0 +1,15 @@
+package io.quarkus.security.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "security", phase = ConfigPhase.RUN_TIME)
+public class SecurityRuntimeConfig {
+
+    /**
+     * The cache of the identities authenticated with a username and a password
+     */
+    @ConfigItem
+    public IdentityCacheConfig identityCache;
+}
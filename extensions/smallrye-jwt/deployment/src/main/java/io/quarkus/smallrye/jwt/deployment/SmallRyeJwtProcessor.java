@@ -8,6 +8,9 @@ import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.jwt.Claim;
 import org.eclipse.microprofile.jwt.Claims;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.DotName;
@@ -15,6 +18,7 @@ import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem.BeanConfiguratorBuildItem;
 import io.quarkus.arc.processor.BeanConfigurator;
@@ -25,15 +29,22 @@ import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.security.deployment.JCAProviderBuildItem;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRecorder;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
 import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
 import io.quarkus.smallrye.jwt.runtime.auth.JwtPrincipalProducer;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
 import io.quarkus.smallrye.jwt.runtime.auth.RawOptionalClaimCreator;
+import io.quarkus.smallrye.jwt.runtime.metrics.TokenCacheCounter;
+import io.quarkus.smallrye.jwt.runtime.metrics.TokenCacheHitRatioGauge;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.auth.cdi.ClaimValueProducer;
 import io.smallrye.jwt.auth.cdi.CommonJwtProducer;
@@ -49,6 +60,8 @@ class SmallRyeJwtProcessor {
 
     private static final Logger log = Logger.getLogger(SmallRyeJwtProcessor.class.getName());
 
+    private static final String CONFIG_ROOT_NAME = "smallrye-jwt";
+
     private static final DotName CLAIM_NAME = DotName.createSimple(Claim.class.getName());
     private static final DotName CLAIMS_NAME = DotName.createSimple(Claims.class.getName());
 
@@ -126,6 +139,47 @@ class SmallRyeJwtProcessor {
         return new JCAProviderBuildItem(config.rsaSigProvider);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureTokenCache(SmallRyeJwtRecorder recorder, BeanContainerBuildItem beanContainer,
+            SmallRyeJwtRuntimeConfig runtimeConfig) {
+        if (config.enabled) {
+            recorder.configureTokenCache(beanContainer.getValue(), runtimeConfig);
+        }
+    }
+
+    @BuildStep
+    void tokenCacheMetrics(Capabilities capabilities, BuildProducer<MetricBuildItem> metrics) {
+        if (!config.enabled || !capabilities.isCapabilityPresent(Capabilities.METRICS)) {
+            return;
+        }
+        metrics.produce(new MetricBuildItem(Metadata.builder()
+                .withName("jwt.token-cache.hits")
+                .withDescription("Number of times an authenticated token was found in the cache of the verified tokens")
+                .withType(MetricType.COUNTER)
+                .build(),
+                new TokenCacheCounter(true),
+                true,
+                CONFIG_ROOT_NAME));
+        metrics.produce(new MetricBuildItem(Metadata.builder()
+                .withName("jwt.token-cache.misses")
+                .withDescription("Number of times an authenticated token was not found in the cache of the verified tokens")
+                .withType(MetricType.COUNTER)
+                .build(),
+                new TokenCacheCounter(false),
+                true,
+                CONFIG_ROOT_NAME));
+        metrics.produce(new MetricBuildItem(Metadata.builder()
+                .withName("jwt.token-cache.hit.ratio")
+                .withDescription("Ratio of authenticated tokens found in the cache of the verified tokens")
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.NONE)
+                .build(),
+                new TokenCacheHitRatioGauge(),
+                true,
+                CONFIG_ROOT_NAME));
+    }
+
     @BuildStep
     void registerOptionalClaimProducer(BeanRegistrationPhaseBuildItem beanRegistrationPhase,
             BuildProducer<BeanConfiguratorBuildItem> beanConfigurator) {
@@ -0,0 +1,64 @@
+package io.quarkus.jwt.test;
+
+import java.net.HttpURLConnection;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.TokenCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class TokenCacheUnitTest {
+
+    private static final String APP_PROPS = "" +
+            "mp.jwt.verify.publickey.location=/publicKey.pem\n" +
+            "mp.jwt.verify.issuer=https://server.example.com\n" +
+            "quarkus.smallrye-jwt.token-cache.enabled=true\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RolesEndpoint.class, GreetingService.class, TokenUtils.class)
+                    .addAsResource("publicKey.pem")
+                    .addAsResource("privateKey.pem")
+                    .addAsResource("Token1.json")
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties"));
+
+    @Inject
+    MpJwtValidator validator;
+
+    @Test
+    public void testTokenIsVerifiedOnce() throws Exception {
+        TokenCache cache = validator.getTokenCache();
+        Assertions.assertNotNull(cache);
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+
+        String token = TokenUtils.generateTokenString("/Token1.json");
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().auth().oauth2(token)
+                    .when().get("/endp/authenticated")
+                    .then().statusCode(HttpURLConnection.HTTP_OK);
+        }
+        Assertions.assertEquals(2, cache.getHitCount() - hits);
+        Assertions.assertEquals(1, cache.getMissCount() - misses);
+
+        // An invalid token is never cached
+        String invalid = token.substring(0, token.length() - 4) + "AAAA";
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().auth().oauth2(invalid)
+                    .when().get("/endp/authenticated")
+                    .then().statusCode(HttpURLConnection.HTTP_UNAUTHORIZED);
+        }
+        Assertions.assertEquals(2, cache.getHitCount() - hits);
+        Assertions.assertEquals(3, cache.getMissCount() - misses);
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.TokenCache;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    public void configureTokenCache(BeanContainer beanContainer, SmallRyeJwtRuntimeConfig config) {
+        TokenCacheConfig tokenCache = config.tokenCache;
+        if (tokenCache.enabled) {
+            beanContainer.instance(MpJwtValidator.class)
+                    .setTokenCache(new TokenCache(tokenCache.maxSize, tokenCache.timeToLive.toMillis()));
+        }
+    }
+}
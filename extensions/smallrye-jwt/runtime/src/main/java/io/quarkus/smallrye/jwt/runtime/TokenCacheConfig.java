@@ -0,0 +1,29 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class TokenCacheConfig {
+
+    /**
+     * If enabled, the identity built from a verified token is cached until the token expires, so that the signature of a
+     * token sent with several requests is only verified once.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The maximum number of cached tokens.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * The maximum time a token is cached for, if it does not expire before.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration timeToLive;
+}
@@ -9,6 +9,7 @@ import javax.inject.Inject;
 import org.jboss.logging.Logger;
 import org.jose4j.jwt.JwtClaims;
 import org.jose4j.jwt.MalformedClaimException;
+import org.jose4j.jwt.NumericDate;
 import org.jose4j.jwt.consumer.JwtContext;
 
 import io.quarkus.security.AuthenticationFailedException;
@@ -35,6 +36,8 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     private final DefaultJWTTokenParser parser = new DefaultJWTTokenParser();
 
+    private volatile TokenCache tokenCache;
+
     public MpJwtValidator() {
         authContextInfo = null;
     }
@@ -52,11 +55,22 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     @Override
     public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String token = request.getToken().getToken();
+        TokenCache cache = tokenCache;
+        String key = null;
+        if (cache != null) {
+            key = cache.key(token);
+            SecurityIdentity identity = cache.get(key);
+            if (identity != null) {
+                return Uni.createFrom().item(identity);
+            }
+        }
+        String cacheKey = key;
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
                 try {
-                    JwtContext jwtContext = parser.parse(request.getToken().getToken(), authContextInfo);
+                    JwtContext jwtContext = parser.parse(token, authContextInfo);
 
                     JwtClaims claims = jwtContext.getJwtClaims();
                     String name = claims.getClaimValue("upn", String.class);
@@ -67,9 +81,14 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
                         }
                     }
                     QuarkusJwtCallerPrincipal principal = new QuarkusJwtCallerPrincipal(name, claims);
-                    uniEmitter.complete(QuarkusSecurityIdentity.builder().setPrincipal(principal)
+                    SecurityIdentity identity = QuarkusSecurityIdentity.builder().setPrincipal(principal)
                             .addRoles(new HashSet<>(claims.getStringListClaimValue("groups")))
-                            .addAttribute(SecurityIdentity.USER_ATTRIBUTE, principal).build());
+                            .addAttribute(SecurityIdentity.USER_ATTRIBUTE, principal).build();
+                    if (cache != null) {
+                        NumericDate expirationTime = claims.getExpirationTime();
+                        cache.put(cacheKey, identity, expirationTime != null ? expirationTime.getValueInMillis() : 0);
+                    }
+                    uniEmitter.complete(identity);
 
                 } catch (ParseException | MalformedClaimException e) {
                     log.debug("Authentication failed", e);
@@ -79,4 +98,18 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
         });
 
     }
+
+    /**
+     * Caches the identities built from the verified tokens, or disables the cache if null.
+     */
+    public void setTokenCache(TokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
+    /**
+     * @return the cache of the verified tokens, or null if it is not enabled
+     */
+    public TokenCache getTokenCache() {
+        return tokenCache;
+    }
 }
@@ -0,0 +1,71 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.ExpiringCache;
+
+/**
+ * A bounded cache of the identities built from verified tokens.
+ * <p>
+ * The entries are keyed by a SHA-256 digest of the token, so that the tokens themselves are not kept in memory, and
+ * expire with the token or after the configured time to live, whichever comes first.
+ */
+public class TokenCache {
+
+    private final ExpiringCache<SecurityIdentity> entries;
+    private final long timeToLive;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param timeToLive the maximum time an identity is cached for, in milliseconds
+     */
+    public TokenCache(int maxSize, long timeToLive) {
+        this.entries = new ExpiringCache<>(maxSize);
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return the key of the given token
+     */
+    String key(String token) {
+        return ExpiringCache.digest(token);
+    }
+
+    /**
+     * @return the identity of the token with the given key, or null if it is not cached or has expired
+     */
+    SecurityIdentity get(String key) {
+        SecurityIdentity identity = entries.get(key);
+        if (identity != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return identity;
+    }
+
+    /**
+     * @param expiresAt the expiration time of the token in milliseconds, or 0 if the token does not expire
+     */
+    void put(String key, SecurityIdentity identity, long expiresAt) {
+        long expiry = System.currentTimeMillis() + timeToLive;
+        if (expiresAt > 0) {
+            expiry = Math.min(expiry, expiresAt);
+        }
+        entries.put(key, identity, expiry);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+}
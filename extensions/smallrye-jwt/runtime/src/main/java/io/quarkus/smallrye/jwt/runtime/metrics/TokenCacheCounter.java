@@ -0,0 +1,52 @@
+package io.quarkus.smallrye.jwt.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.TokenCache;
+
+/**
+ * Counts the hits or the misses of the cache of the verified tokens.
+ */
+public class TokenCacheCounter implements Counter {
+
+    private boolean hits;
+
+    public TokenCacheCounter() {
+    }
+
+    /**
+     * @param hits whether the hits or the misses are counted
+     */
+    public TokenCacheCounter(boolean hits) {
+        this.hits = hits;
+    }
+
+    public boolean isHits() {
+        return hits;
+    }
+
+    public void setHits(boolean hits) {
+        this.hits = hits;
+    }
+
+    @Override
+    public long getCount() {
+        TokenCache cache = Arc.container().instance(MpJwtValidator.class).get().getTokenCache();
+        if (cache == null) {
+            return 0;
+        }
+        return hits ? cache.getHitCount() : cache.getMissCount();
+    }
+
+    @Override
+    public void inc() {
+        throw new IllegalStateException("The token cache metrics are counted by the cache and should not be updated manually");
+    }
+
+    @Override
+    public void inc(long n) {
+        throw new IllegalStateException("The token cache metrics are counted by the cache and should not be updated manually");
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.smallrye.jwt.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.TokenCache;
+
+/**
+ * The ratio of the authenticated tokens found in the cache of the verified tokens.
+ */
+public class TokenCacheHitRatioGauge implements Gauge<Double> {
+
+    @Override
+    public Double getValue() {
+        TokenCache cache = Arc.container().instance(MpJwtValidator.class).get().getTokenCache();
+        if (cache == null) {
+            return 0.0;
+        }
+        long hits = cache.getHitCount();
+        long requests = hits + cache.getMissCount();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -13,7 +13,10 @@ public final class FilterBuildItem extends MultiBuildItem {
 
     //predefined system priorities
     public static final int CORS = 300;
+    public static final int LOAD_SHEDDING = 275;
+    public static final int RATE_LIMIT = 250;
     public static final int AUTHENTICATION = 200;
+    public static final int PRINCIPAL_RATE_LIMIT = 150;
     public static final int AUTHORIZATION = 100;
 
     private final Handler<RoutingContext> handler;
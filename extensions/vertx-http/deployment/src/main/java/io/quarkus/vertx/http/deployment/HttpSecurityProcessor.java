@@ -1,8 +1,11 @@
 package io.quarkus.vertx.http.deployment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.inject.Singleton;
@@ -18,6 +21,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.PolicyConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
 import io.quarkus.vertx.http.runtime.security.AuthenticatedHttpSecurityPolicy;
 import io.quarkus.vertx.http.runtime.security.BasicAuthenticationMechanism;
 import io.quarkus.vertx.http.runtime.security.DenySecurityPolicy;
@@ -126,7 +130,8 @@ public class HttpSecurityProcessor {
 
             if (!buildTimeConfig.auth.permissions.isEmpty()) {
                 beanContainerListenerBuildItemBuildProducer
-                        .produce(new BeanContainerListenerBuildItem(recorder.initPermissions(buildTimeConfig, policyMap)));
+                        .produce(new BeanContainerListenerBuildItem(recorder.initPermissions(
+                                compilePermissions(buildTimeConfig.auth.permissions, policyMap.keySet()), policyMap)));
             }
         } else {
             if (!buildTimeConfig.auth.permissions.isEmpty()) {
@@ -134,4 +139,45 @@ public class HttpSecurityProcessor {
             }
         }
     }
+
+    /**
+     * Resolves the policies applied to each path and method, so that the request path and method are mapped directly to
+     * their policies at runtime.
+     * <p>
+     * The policies of the permission sets listing a method take precedence over the policies of the permission sets
+     * without methods, and the methods that are not listed for a path are denied unless a permission set without methods
+     * covers the path. The latter are stored under {@link PathMatchingHttpSecurityPolicy#OTHER_METHODS}.
+     */
+    static Map<String, Map<String, List<String>>> compilePermissions(Map<String, PolicyMappingConfig> permissions,
+            Set<String> policies) {
+        Map<String, List<PolicyMappingConfig>> pathPermissions = new HashMap<>();
+        for (Map.Entry<String, PolicyMappingConfig> entry : permissions.entrySet()) {
+            if (!policies.contains(entry.getValue().policy)) {
+                throw new RuntimeException("Unable to find HTTP security policy " + entry.getValue().policy);
+            }
+            for (String path : entry.getValue().paths.orElse(Collections.emptyList())) {
+                pathPermissions.computeIfAbsent(path, p -> new ArrayList<>()).add(entry.getValue());
+            }
+        }
+
+        Map<String, Map<String, List<String>>> compiled = new HashMap<>();
+        for (Map.Entry<String, List<PolicyMappingConfig>> entry : pathPermissions.entrySet()) {
+            Map<String, List<String>> methods = new HashMap<>();
+            List<String> noMethod = new ArrayList<>();
+            for (PolicyMappingConfig permission : entry.getValue()) {
+                List<String> permissionMethods = permission.methods.orElse(Collections.emptyList());
+                if (permissionMethods.isEmpty()) {
+                    noMethod.add(permission.policy);
+                }
+                for (String method : permissionMethods) {
+                    methods.computeIfAbsent(method, m -> new ArrayList<>()).add(permission.policy);
+                }
+            }
+            //we deny if we did not match due to method filtering
+            methods.put(PathMatchingHttpSecurityPolicy.OTHER_METHODS,
+                    noMethod.isEmpty() ? new ArrayList<>(Collections.singletonList("deny")) : noMethod);
+            compiled.put(entry.getKey(), methods);
+        }
+        return compiled;
+    }
 }
@@ -1,16 +1,20 @@
 package io.quarkus.vertx.http.deployment;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.BuildException;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.IsNormal;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -30,6 +34,7 @@ import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.core.deployment.EventLoopCountBuildItem;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
@@ -40,6 +45,9 @@ import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
 import io.quarkus.vertx.http.runtime.cors.CORSRecorder;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
+import io.quarkus.vertx.http.runtime.metrics.DroppedAccessLogCounter;
+import io.quarkus.vertx.http.runtime.ratelimit.RateLimitRecorder;
+import io.quarkus.vertx.http.runtime.shedding.LoadSheddingRecorder;
 import io.vertx.core.Handler;
 import io.vertx.core.impl.VertxImpl;
 import io.vertx.ext.web.Router;
@@ -58,6 +66,37 @@ class VertxHttpProcessor {
         return new FilterBuildItem(recorder.corsHandler(configuration), FilterBuildItem.CORS);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    List<FilterBuildItem> rateLimit(RateLimitRecorder recorder, HttpConfiguration configuration) {
+        return Arrays.asList(
+                new FilterBuildItem(recorder.rateLimitHandler(configuration, false), FilterBuildItem.RATE_LIMIT),
+                new FilterBuildItem(recorder.rateLimitHandler(configuration, true), FilterBuildItem.PRINCIPAL_RATE_LIMIT));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    FilterBuildItem loadShedding(LoadSheddingRecorder recorder, CoreVertxBuildItem vertx, ExecutorBuildItem executor,
+            HttpConfiguration configuration, ShutdownContextBuildItem shutdown) {
+        return new FilterBuildItem(recorder.loadSheddingHandler(vertx.getVertx(), executor.getExecutorProxy(),
+                configuration, shutdown), FilterBuildItem.LOAD_SHEDDING);
+    }
+
+    @BuildStep
+    void accessLogMetrics(Capabilities capabilities, BuildProducer<MetricBuildItem> metrics) {
+        if (!capabilities.isCapabilityPresent(Capabilities.METRICS)) {
+            return;
+        }
+        metrics.produce(new MetricBuildItem(Metadata.builder()
+                .withName("http.access-log.dropped")
+                .withDescription("Number of access log messages dropped because the log file could not be written fast enough")
+                .withType(MetricType.COUNTER)
+                .build(),
+                new DroppedAccessLogCounter(),
+                true,
+                "http"));
+    }
+
     @BuildStep
     AdditionalBeanBuildItem additionalBeans() {
         return AdditionalBeanBuildItem.builder()
@@ -0,0 +1,111 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.specification.RequestSpecification;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class CompressionTest {
+
+    private static final String LONG_TEXT;
+
+    static {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            builder.append("Hello compression! ");
+        }
+        LONG_TEXT = builder.toString();
+    }
+
+    @TestHTTPResource("/small")
+    URL small;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BeanRegisteringRoute.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n"
+                            + "quarkus.http.compression.min-size=100"), "application.properties"));
+
+    @Test
+    public void testCompressed() {
+        request().get("/text").then().statusCode(200).header("Content-Encoding", "gzip");
+        // Transparently decoded by the client
+        RestAssured.get("/text").then().statusCode(200).body(is(LONG_TEXT));
+        request().get("/chunked").then().statusCode(200).header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    public void testNotCompressed() {
+        request().get("/small").then().statusCode(200).header("Content-Encoding", nullValue()).body(is("small"));
+        request().get("/binary").then().statusCode(200).header("Content-Encoding", nullValue()).body(is(LONG_TEXT));
+        RestAssured.given().config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/text").then().statusCode(200).header("Content-Encoding", nullValue()).body(is(LONG_TEXT));
+    }
+
+    @Test
+    public void testHttp2NotMarked() throws Exception {
+        WebClientOptions options = new WebClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(true);
+        WebClient client = WebClient.create(VertxCoreRecorder.getVertx().get(), options);
+        CompletableFuture<HttpResponse<Buffer>> result = new CompletableFuture<>();
+        client.get(small.getPort(), "localhost", "/small").send(ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        HttpResponse<Buffer> response = result.get();
+        client.close();
+        Assertions.assertEquals(HttpVersion.HTTP_2, response.version());
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertEquals("small", response.bodyAsString());
+    }
+
+    private static RequestSpecification request() {
+        return RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip");
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        void init(@Observes Router router) {
+            router.route("/text").handler(rc -> rc.response().putHeader("Content-Type", "text/plain; charset=UTF-8")
+                    .end(LONG_TEXT));
+            router.route("/chunked").handler(rc -> rc.response().putHeader("Content-Type", "application/json")
+                    .setChunked(true).end("{\"value\":\"" + LONG_TEXT + "\"}"));
+            router.route("/small").handler(rc -> rc.response().putHeader("Content-Type", "text/plain").end("small"));
+            router.route("/binary").handler(rc -> rc.response().putHeader("Content-Type", "application/octet-stream")
+                    .end(LONG_TEXT));
+        }
+
+    }
+}
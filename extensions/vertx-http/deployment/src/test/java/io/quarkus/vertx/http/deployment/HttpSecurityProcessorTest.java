@@ -0,0 +1,72 @@
+package io.quarkus.vertx.http.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.quarkus.vertx.http.runtime.security.PathMatchingHttpSecurityPolicy;
+
+public class HttpSecurityProcessorTest {
+
+    private static final Set<String> POLICIES = new HashSet<>(Arrays.asList("permit", "deny", "authenticated", "r1"));
+
+    @Test
+    public void testMethodPrecedence() {
+        Map<String, PolicyMappingConfig> permissions = new HashMap<>();
+        permissions.put("all", permission("authenticated", null, "/api/*"));
+        permissions.put("get", permission("permit", Arrays.asList("GET", "HEAD"), "/api/*"));
+        permissions.put("post", permission("r1", Collections.singletonList("POST"), "/api/*"));
+
+        Map<String, List<String>> methods = HttpSecurityProcessor.compilePermissions(permissions, POLICIES).get("/api/*");
+        assertEquals(Collections.singletonList("permit"), methods.get("GET"));
+        assertEquals(Collections.singletonList("permit"), methods.get("HEAD"));
+        assertEquals(Collections.singletonList("r1"), methods.get("POST"));
+        // The set without methods only applies to the other methods
+        assertEquals(Collections.singletonList("authenticated"), methods.get(PathMatchingHttpSecurityPolicy.OTHER_METHODS));
+    }
+
+    @Test
+    public void testOtherMethodsAreDenied() {
+        Map<String, PolicyMappingConfig> permissions = new HashMap<>();
+        permissions.put("get", permission("permit", Collections.singletonList("GET"), "/get-only"));
+        permissions.put("r1", permission("r1", null, "/roles"));
+
+        Map<String, Map<String, List<String>>> compiled = HttpSecurityProcessor.compilePermissions(permissions, POLICIES);
+        Map<String, List<String>> methods = compiled.get("/get-only");
+        assertEquals(Collections.singletonList("permit"), methods.get("GET"));
+        assertEquals(Collections.singletonList("deny"), methods.get(PathMatchingHttpSecurityPolicy.OTHER_METHODS));
+        assertFalse(methods.containsKey("POST"));
+
+        assertEquals(Collections.singletonList("r1"),
+                compiled.get("/roles").get(PathMatchingHttpSecurityPolicy.OTHER_METHODS));
+    }
+
+    @Test
+    public void testUnknownPolicy() {
+        Map<String, PolicyMappingConfig> permissions = Collections.singletonMap("unknown",
+                permission("unknown", null, "/unknown"));
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> HttpSecurityProcessor.compilePermissions(permissions, POLICIES));
+        assertEquals("Unable to find HTTP security policy unknown", e.getMessage());
+    }
+
+    private static PolicyMappingConfig permission(String policy, List<String> methods, String... paths) {
+        PolicyMappingConfig config = new PolicyMappingConfig();
+        config.policy = policy;
+        config.methods = Optional.ofNullable(methods);
+        config.paths = Optional.of(Arrays.asList(paths));
+        return config;
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkus.vertx.http.http2;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.Router;
+
+public class Http2SettingsTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.http2-settings.max-concurrent-streams=250\n" +
+            "quarkus.http.http2-settings.initial-window-size=128K\n";
+
+    @TestHTTPResource(value = "/settings")
+    URL url;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyBean.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties"));
+
+    @Test
+    public void testPriorKnowledge() throws ExecutionException, InterruptedException {
+        HttpClientOptions options = new HttpClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(false);
+        Assertions.assertEquals("HTTP_2 250 131072 20480", get(options));
+    }
+
+    @Test
+    public void testUpgrade() throws ExecutionException, InterruptedException {
+        HttpClientOptions options = new HttpClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(true);
+        Assertions.assertEquals("HTTP_2 250 131072 20480", get(options));
+    }
+
+    /**
+     * @return the protocol of the response and the settings sent by the server
+     */
+    private String get(HttpClientOptions options) throws ExecutionException, InterruptedException {
+        HttpClient client = VertxCoreRecorder.getVertx().get().createHttpClient(options);
+        try {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            client.get(url.getPort(), "localhost", "/settings", response -> {
+                Http2Settings settings = response.request().connection().remoteSettings();
+                result.complete(response.version() + " " + settings.getMaxConcurrentStreams() + " "
+                        + settings.getInitialWindowSize() + " " + settings.getMaxHeaderListSize());
+            }).exceptionHandler(result::completeExceptionally).end();
+            return result.get();
+        } finally {
+            client.close();
+        }
+    }
+
+    @ApplicationScoped
+    static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.get("/settings").handler(rc -> rc.response().end());
+        }
+    }
+}
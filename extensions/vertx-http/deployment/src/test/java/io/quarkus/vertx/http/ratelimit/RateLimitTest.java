@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.ratelimit;
+
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+
+public class RateLimitTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.rate-limit.api.paths=/api/*\n" +
+            "quarkus.http.rate-limit.api.requests=3\n" +
+            "quarkus.http.rate-limit.api.period=1H\n" +
+            "quarkus.http.rate-limit.busy.paths=/busy\n" +
+            "quarkus.http.rate-limit.busy.key=global\n" +
+            "quarkus.http.rate-limit.busy.max-concurrent-requests=1\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties"));
+
+    static volatile CountDownLatch started;
+    static volatile CountDownLatch release;
+
+    @Test
+    public void testRateLimit() {
+        for (int i = 0; i < 3; i++) {
+            RestAssured.get("/api/hello").then().statusCode(200);
+        }
+        RestAssured.get("/api/hello").then().statusCode(429).header("Retry-After", notNullValue());
+        RestAssured.get("/other").then().statusCode(200);
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture
+                .supplyAsync(() -> RestAssured.get("/busy").then().extract().statusCode());
+        try {
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            RestAssured.get("/busy").then().statusCode(429);
+        } finally {
+            release.countDown();
+        }
+        Assertions.assertEquals(200, first.get(10, TimeUnit.SECONDS));
+
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(0);
+        RestAssured.get("/busy").then().statusCode(200);
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        void init(@Observes Router router) {
+            router.get("/api/hello").handler(rc -> rc.response().end("hello"));
+            router.get("/other").handler(rc -> rc.response().end("other"));
+            router.get("/busy").blockingHandler(rc -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                rc.response().end("done");
+            });
+        }
+    }
+}
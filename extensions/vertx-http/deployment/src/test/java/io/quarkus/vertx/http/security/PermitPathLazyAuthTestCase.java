@@ -0,0 +1,91 @@
+package io.quarkus.vertx.http.security;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.quarkus.security.test.utils.TestIdentityController;
+import io.quarkus.security.test.utils.TestIdentityProvider;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * With lazy authentication, the requests to the paths that are only covered by the permit policy never resolve the
+ * identity.
+ */
+public class PermitPathLazyAuthTestCase {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.auth.basic=true\n" +
+            "quarkus.http.auth.policy.r1.roles-allowed=test\n" +
+            "quarkus.http.auth.permission.roles1.paths=/roles1\n" +
+            "quarkus.http.auth.permission.roles1.policy=r1\n" +
+            "quarkus.http.auth.permission.permit1.paths=/permit\n" +
+            "quarkus.http.auth.permission.permit1.policy=permit\n" +
+            "quarkus.http.auth.proactive=false\n";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest().setArchiveProducer(new Supplier<JavaArchive>() {
+        @Override
+        public JavaArchive get() {
+            return ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestIdentityController.class, CountingIdentityProvider.class, PathHandler.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties");
+        }
+    });
+
+    @BeforeEach
+    public void setup() {
+        TestIdentityController.resetRoles().add("test", "test", "test");
+        CountingIdentityProvider.AUTHENTICATIONS.set(0);
+    }
+
+    @Test
+    public void testPermitPathDoesNotAuthenticate() {
+        RestAssured.given().auth().preemptive().basic("test", "test")
+                .get("/permit")
+                .then().statusCode(200).body(equalTo(":/permit"));
+        // Invalid credentials are not even checked
+        RestAssured.given().auth().preemptive().basic("test", "wrong")
+                .get("/permit")
+                .then().statusCode(200).body(equalTo(":/permit"));
+        assertEquals(0, CountingIdentityProvider.AUTHENTICATIONS.get());
+    }
+
+    @Test
+    public void testRolesPathAuthenticates() {
+        RestAssured.given().auth().preemptive().basic("test", "test")
+                .get("/roles1")
+                .then().statusCode(200).body(equalTo("test:/roles1"));
+        assertEquals(1, CountingIdentityProvider.AUTHENTICATIONS.get());
+    }
+
+    @ApplicationScoped
+    public static class CountingIdentityProvider extends TestIdentityProvider {
+
+        static final AtomicInteger AUTHENTICATIONS = new AtomicInteger();
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                AuthenticationRequestContext context) {
+            AUTHENTICATIONS.incrementAndGet();
+
+            return super.authenticate(request, context);
+        }
+    }
+}
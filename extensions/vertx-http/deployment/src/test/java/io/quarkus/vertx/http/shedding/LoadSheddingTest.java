@@ -0,0 +1,74 @@
+package io.quarkus.vertx.http.shedding;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.ExecutorRecorder;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+
+public class LoadSheddingTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.thread-pool.core-threads=1\n" +
+            "quarkus.thread-pool.max-threads=1\n" +
+            "quarkus.http.load-shedding.enabled=true\n" +
+            "quarkus.http.load-shedding.worker-queue-threshold=2\n" +
+            // Only the worker queue is tested, the event loops may be late while the application warms up
+            "quarkus.http.load-shedding.event-loop-lag-threshold=10S\n" +
+            "quarkus.http.load-shedding.priority-paths=/health\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties"));
+
+    @Test
+    public void testShedWhenWorkerQueueIsFull() {
+        RestAssured.get("/hello").then().statusCode(200);
+
+        CountDownLatch release = new CountDownLatch(1);
+        Executor executor = ExecutorRecorder.getCurrent();
+        try {
+            // One task runs, the others wait in the queue
+            for (int i = 0; i < 10; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            Awaitility.await().atMost(10, TimeUnit.SECONDS)
+                    .untilAsserted(() -> RestAssured.get("/hello").then().statusCode(503));
+            RestAssured.get("/health").then().statusCode(200);
+        } finally {
+            release.countDown();
+        }
+        Awaitility.await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> RestAssured.get("/hello").then().statusCode(200));
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        void init(@Observes Router router) {
+            router.get("/hello").handler(rc -> rc.response().end("hello"));
+            router.get("/health").handler(rc -> rc.response().end("UP"));
+        }
+    }
+}
@@ -28,6 +28,15 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "common")
     public String pattern;
 
+    /**
+     * The format of the access log messages.
+     *
+     * With 'json' each message is a JSON object with a field per variable of the pattern, the literal text of the
+     * pattern being ignored.
+     */
+    @ConfigItem(defaultValue = "text")
+    public Format format;
+
     /**
      * If logging should be done to a separate file.
      */
@@ -69,4 +78,16 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * The number of messages that can wait to be written to the log file. When the buffer is full, the messages are
+     * dropped instead of slowing down the requests.
+     */
+    @ConfigItem(defaultValue = "8192")
+    public int bufferSize;
+
+    public enum Format {
+        TEXT,
+        JSON
+    }
+
 }
@@ -1,5 +1,8 @@
 package io.quarkus.vertx.http.runtime;
 
+import java.util.List;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 
@@ -55,4 +58,17 @@ public class BodyConfig {
      */
     @ConfigItem(defaultValue = "false")
     public boolean preallocateBodyBuffer;
-}
\ No newline at end of file
+
+    /**
+     * The paths of the requests whose body is streamed to the application instead of being read in memory first.
+     * <p>
+     * When an extension requires the body handler, the body of every request is read in memory before the request is
+     * handled. The body of the requests matching one of these paths is instead read from the connection as the application
+     * consumes it, so that large uploads do not have to fit in memory. A path ending with {@code /*} matches the path and
+     * all its sub-paths, other paths are matched exactly. The paths include the HTTP root path.
+     * <p>
+     * The body of these requests is not available via {@code io.vertx.ext.web.RoutingContext.getBody()}.
+     */
+    @ConfigItem
+    public Optional<List<String>> streamingPaths;
+}
@@ -0,0 +1,47 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * HTTP response compression settings
+ */
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * The media types that are compressed by default.
+     */
+    public static final String DEFAULT_MEDIA_TYPES = "text/html,text/plain,text/css,text/xml,text/javascript,"
+            + "application/javascript,application/json,application/xml,image/svg+xml";
+
+    /**
+     * If this is true then the responses will be compressed with {@code gzip} or {@code deflate} if the client
+     * supports it.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (best compression).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * Responses with a {@code Content-Length} smaller than this value are not compressed. This does not apply to the
+     * responses sent over HTTP/2.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minSize;
+
+    /**
+     * The media types of the responses that can be compressed. Responses without a {@code Content-Type} are not
+     * compressed. This does not apply to the responses sent over HTTP/2.
+     */
+    @ConfigItem(defaultValue = DEFAULT_MEDIA_TYPES)
+    public List<String> mediaTypes;
+}
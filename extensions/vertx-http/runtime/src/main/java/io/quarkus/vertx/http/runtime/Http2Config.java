@@ -0,0 +1,56 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * HTTP/2 settings, sent to the clients when an HTTP/2 connection is established. The Vert.x defaults are used for the
+ * settings that are not set.
+ */
+@ConfigGroup
+public class Http2Config {
+
+    /**
+     * The maximum number of concurrent streams, i.e. in-flight requests, a client can open on a connection.
+     * <p>
+     * Raising it lets clients multiplex more requests over fewer connections.
+     */
+    @ConfigItem
+    public OptionalLong maxConcurrentStreams;
+
+    /**
+     * The initial flow control window of the streams, i.e. how much of a request body a client can send before the
+     * application reads it.
+     */
+    @ConfigItem
+    public Optional<MemorySize> initialWindowSize;
+
+    /**
+     * The flow control window of the connections, shared by all the streams of a connection.
+     */
+    @ConfigItem
+    public Optional<MemorySize> connectionWindowSize;
+
+    /**
+     * The size of the table used to decompress the request headers.
+     */
+    @ConfigItem
+    public Optional<MemorySize> headerTableSize;
+
+    /**
+     * The largest frame a client can send.
+     */
+    @ConfigItem
+    public Optional<MemorySize> maxFrameSize;
+
+    /**
+     * The maximum size of the request headers, uncompressed. If this is not set then
+     * {@code quarkus.http.limits.max-header-size} is used.
+     */
+    @ConfigItem
+    public Optional<MemorySize> maxHeaderListSize;
+}
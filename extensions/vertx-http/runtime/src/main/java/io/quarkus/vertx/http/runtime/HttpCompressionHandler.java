@@ -0,0 +1,135 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Restricts the compression performed by the server to the responses that are worth compressing.
+ * <p>
+ * The compression itself is done by Vert.x, which skips any response that already declares a {@code Content-Encoding}.
+ * Right before the headers are written this handler marks the responses that should be left untouched with the
+ * {@code identity} encoding: responses that are already encoded, that have a media type that is not configured or that
+ * are smaller than the minimum size.
+ * <p>
+ * On HTTP/1.x connections the marker is removed once the compressor has skipped the response, so that the clients do
+ * not receive a {@code Content-Encoding: identity} header. The remover is added to the pipeline of each connection by
+ * {@link #CONNECTION_HANDLER}.
+ * <p>
+ * On HTTP/2 connections Vert.x chooses the encoding of a response when the request is received and the marker could
+ * not be removed, so the responses are not marked: the media types and the minimum size do not apply to them and every
+ * response that the client accepts compressed is compressed.
+ */
+public class HttpCompressionHandler implements Handler<RoutingContext> {
+
+    /**
+     * The name of the compressor in the pipeline of the HTTP/1.x connections of Vert.x
+     */
+    private static final String DEFLATER = "deflater";
+    private static final String IDENTITY_REMOVER = "quarkus-identity-encoding-remover";
+
+    /**
+     * Adds the remover of the {@code identity} encoding to the HTTP/1.x connections that compress the responses.
+     */
+    public static final Handler<HttpConnection> CONNECTION_HANDLER = new Handler<HttpConnection>() {
+        @Override
+        public void handle(HttpConnection connection) {
+            if (connection instanceof ConnectionBase) {
+                ChannelPipeline pipeline = ((ConnectionBase) connection).channel().pipeline();
+                if (pipeline.get(DEFLATER) != null && pipeline.get(IDENTITY_REMOVER) == null) {
+                    pipeline.addBefore(DEFLATER, IDENTITY_REMOVER, IdentityEncodingRemover.INSTANCE);
+                }
+            }
+        }
+    };
+
+    private final Set<String> mediaTypes;
+    private final long minSize;
+
+    public HttpCompressionHandler(List<String> mediaTypes, long minSize) {
+        this.mediaTypes = new HashSet<>();
+        for (String mediaType : mediaTypes) {
+            this.mediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+        }
+        this.minSize = minSize;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        if (context.request().version() == HttpVersion.HTTP_2) {
+            context.next();
+            return;
+        }
+        context.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                MultiMap headers = context.response().headers();
+                if (!headers.contains(HttpHeaderNames.CONTENT_ENCODING) && !isCompressible(headers)) {
+                    headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+                }
+            }
+        });
+        context.next();
+    }
+
+    boolean isCompressible(MultiMap headers) {
+        String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int paramsIndex = contentType.indexOf(';');
+        if (paramsIndex != -1) {
+            contentType = contentType.substring(0, paramsIndex);
+        }
+        if (!mediaTypes.contains(contentType.trim().toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength) >= minSize;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        // Chunked response
+        return true;
+    }
+
+    /**
+     * Removes the {@code identity} encoding of the responses that went through the compressor.
+     */
+    @ChannelHandler.Sharable
+    static final class IdentityEncodingRemover extends ChannelOutboundHandlerAdapter {
+
+        static final IdentityEncodingRemover INSTANCE = new IdentityEncodingRemover();
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (msg instanceof HttpResponse) {
+                HttpHeaders headers = ((HttpResponse) msg).headers();
+                if (headers.containsValue(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY, true)) {
+                    headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+                }
+            }
+            ctx.write(msg, promise);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.vertx.http.runtime;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -9,6 +10,8 @@ import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.vertx.http.runtime.cors.CORSConfig;
+import io.quarkus.vertx.http.runtime.ratelimit.RateLimitConfig;
+import io.quarkus.vertx.http.runtime.shedding.LoadSheddingConfig;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 public class HttpConfiguration {
@@ -84,10 +87,20 @@ public class HttpConfiguration {
      * Note that for browsers to be able to use it HTTPS must be enabled,
      * and you must be running on JDK11 or above, as JDK8 does not support
      * ALPN.
+     *
+     * This only applies to HTTPS. Cleartext HTTP/2 (h2c) is always accepted on the HTTP port, either with an
+     * {@code Upgrade: h2c} request or with prior knowledge, so that clients that know the server supports HTTP/2, such
+     * as service meshes terminating TLS in a sidecar, can use it without TLS. It can only be disabled for the whole
+     * JVM with the {@code vertx.disableH2c} system property.
      */
     @ConfigItem(defaultValue = "true")
     public boolean http2;
 
+    /**
+     * HTTP/2 settings
+     */
+    public Http2Config http2Settings;
+
     /**
      * The CORS config
      */
@@ -134,6 +147,23 @@ public class HttpConfiguration {
      */
     public BodyConfig body;
 
+    /**
+     * Response compression settings
+     */
+    public CompressionConfig compression;
+
+    /**
+     * The limits on the rate and the concurrency of the requests, by name. The requests exceeding a limit are rejected
+     * with {@code 429 Too Many Requests}.
+     */
+    @ConfigItem(name = "rate-limit")
+    public Map<String, RateLimitConfig> rateLimits;
+
+    /**
+     * Load shedding settings
+     */
+    public LoadSheddingConfig loadShedding;
+
     /**
      * The encryption key that is used to store persistent logins (e.g. for form auth). Logins are stored in a persistent
      * cookie that is encrypted with AES-256 using a key derived from a SHA-256 hash of the key that is provided here.
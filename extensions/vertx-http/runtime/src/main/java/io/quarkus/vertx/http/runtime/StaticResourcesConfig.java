@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Settings of the static resources served from {@code META-INF/resources}
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * If this is true then a {@code gzip} variant of the static resources is generated at build time and served instead
+     * of the original resource to the clients that accept it. The {@code .gz} and {@code .br} variants shipped with the
+     * application are served the same way.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean precompress;
+
+    /**
+     * Static resources smaller than this value are not precompressed.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize precompressMinSize;
+
+    /**
+     * The media types of the static resources that are precompressed.
+     */
+    @ConfigItem(defaultValue = CompressionConfig.DEFAULT_MEDIA_TYPES)
+    public List<String> precompressMediaTypes;
+
+    /**
+     * If this is true then the static resources are loaded in memory when the application starts, and served with a
+     * precomputed {@code ETag}. Conditional requests are answered with {@code 304 Not Modified}.
+     * <p>
+     * The whole content of the static resources is kept in memory, so this should only be enabled if the resources are
+     * reasonably small. This is ignored in dev mode.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean inMemory;
+
+    /**
+     * The {@code Cache-Control} header of the static resources served from memory, and of the precompressed variants.
+     * No header is sent if empty.
+     */
+    @ConfigItem(defaultValue = "public, max-age=86400")
+    public String cacheControl;
+}
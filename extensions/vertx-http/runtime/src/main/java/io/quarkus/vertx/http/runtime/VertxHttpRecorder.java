@@ -6,10 +6,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -49,10 +52,12 @@ import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogFormat;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.ratelimit.RateLimitFilter;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
@@ -62,6 +67,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
@@ -235,12 +241,18 @@ public class VertxHttpRecorder {
             router.route().order(Integer.MIN_VALUE).handler(new Handler<RoutingContext>() {
                 @Override
                 public void handle(RoutingContext routingContext) {
-                    routingContext.request().resume();
+                    //the body handler resumes the request, unless the body is streamed
                     bodyHandler.handle(routingContext);
                 }
             });
         }
 
+        CompressionConfig compression = httpConfiguration.compression;
+        if (compression.enabled) {
+            router.route().order(Integer.MIN_VALUE)
+                    .handler(new HttpCompressionHandler(compression.mediaTypes, compression.minSize.asLongValue()));
+        }
+
         if (httpConfiguration.limits.maxBodySize.isPresent()) {
             long limit = httpConfiguration.limits.maxBodySize.get().asLongValue();
             Long limitObj = limit;
@@ -303,17 +315,31 @@ public class VertxHttpRecorder {
             quarkusWrapperNeeded = true;
         }
 
+        if (RateLimitFilter.isConcurrencyLimited(httpConfiguration)) {
+            // the concurrent requests are counted until they are done
+            quarkusWrapperNeeded = true;
+        }
+
         AccessLogConfig accessLog = httpConfiguration.accessLog;
         if (accessLog.enabled) {
+            AccessLogFormat format = AccessLogFormat.parse(accessLog.pattern, accessLog.format == AccessLogConfig.Format.JSON,
+                    getClass().getClassLoader());
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                receiver = DefaultAccessLogReceiver.builder()
+                        .setLogWriteExecutor(executor)
+                        .setOutputDirectory(outputDir.toPath())
+                        .setLogBaseName(accessLog.baseFileName)
+                        .setLogNameSuffix(accessLog.logSuffix)
+                        .setRotate(accessLog.rotate)
+                        .setFormat(format)
+                        .setBufferSize(accessLog.bufferSize)
+                        .build();
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
-            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern, getClass().getClassLoader());
+            AccessLogHandler handler = new AccessLogHandler(receiver, format);
             router.route().order(Integer.MIN_VALUE).handler(handler);
             quarkusWrapperNeeded = true;
         }
@@ -480,6 +506,8 @@ public class VertxHttpRecorder {
             serverOptions.setMaxChunkSize(maxChunkSize.get().asBigInteger().intValueExact());
         }
         setIdleTimeout(httpConfiguration, serverOptions);
+        setCompression(httpConfiguration, serverOptions);
+        setHttp2Settings(httpConfiguration, serverOptions);
 
         if (certFile.isPresent() && keyFile.isPresent()) {
             createPemKeyCertOptions(certFile.get(), keyFile.get(), serverOptions);
@@ -634,6 +662,8 @@ public class VertxHttpRecorder {
         options.setHost(httpConfiguration.host);
         options.setPort(httpConfiguration.determinePort(launchMode));
         setIdleTimeout(httpConfiguration, options);
+        setCompression(httpConfiguration, options);
+        setHttp2Settings(httpConfiguration, options);
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         Optional<MemorySize> maxChunkSize = httpConfiguration.limits.maxChunkSize;
         if (maxChunkSize.isPresent()) {
@@ -655,6 +685,8 @@ public class VertxHttpRecorder {
         HttpServerOptions options = new HttpServerOptions();
         options.setHost(httpConfiguration.domainSocket);
         setIdleTimeout(httpConfiguration, options);
+        setCompression(httpConfiguration, options);
+        setHttp2Settings(httpConfiguration, options);
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         Optional<MemorySize> maxChunkSize = httpConfiguration.limits.maxChunkSize;
         if (maxChunkSize.isPresent()) {
@@ -670,6 +702,35 @@ public class VertxHttpRecorder {
         options.setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
     }
 
+    private static void setCompression(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        CompressionConfig compression = httpConfiguration.compression;
+        options.setCompressionSupported(compression.enabled);
+        options.setCompressionLevel(compression.level);
+    }
+
+    private static void setHttp2Settings(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        Http2Config config = httpConfiguration.http2Settings;
+        // The Vert.x defaults, such as the limit of 100 concurrent streams, are kept for the settings that are not configured
+        Http2Settings settings = new Http2Settings(options.getInitialSettings());
+        if (config.maxConcurrentStreams.isPresent()) {
+            settings.setMaxConcurrentStreams(config.maxConcurrentStreams.getAsLong());
+        }
+        if (config.initialWindowSize.isPresent()) {
+            settings.setInitialWindowSize(config.initialWindowSize.get().asBigInteger().intValueExact());
+        }
+        if (config.headerTableSize.isPresent()) {
+            settings.setHeaderTableSize(config.headerTableSize.get().asLongValue());
+        }
+        if (config.maxFrameSize.isPresent()) {
+            settings.setMaxFrameSize(config.maxFrameSize.get().asBigInteger().intValueExact());
+        }
+        settings.setMaxHeaderListSize(config.maxHeaderListSize.orElse(httpConfiguration.limits.maxHeaderSize).asLongValue());
+        options.setInitialSettings(settings);
+        if (config.connectionWindowSize.isPresent()) {
+            options.setHttp2ConnectionWindowSize(config.connectionWindowSize.get().asBigInteger().intValueExact());
+        }
+    }
+
     public void warnIfPortChanged(HttpConfiguration config, int port) {
         if (config.port != port) {
             LOGGER.errorf(
@@ -787,6 +848,7 @@ public class VertxHttpRecorder {
 
         private void setupUnixDomainSocketHttpServer(HttpServer httpServer, HttpServerOptions options, Future<Void> startFuture,
                 AtomicInteger remainingCount) {
+            setupCompression(httpServer, options);
             httpServer.listen(SocketAddress.domainSocketAddress(options.getHost()), event -> {
                 if (event.succeeded()) {
                     if (remainingCount.decrementAndGet() == 0) {
@@ -798,8 +860,15 @@ public class VertxHttpRecorder {
             });
         }
 
+        private void setupCompression(HttpServer httpServer, HttpServerOptions options) {
+            if (options.isCompressionSupported()) {
+                httpServer.connectionHandler(HttpCompressionHandler.CONNECTION_HANDLER);
+            }
+        }
+
         private void setupTcpHttpServer(HttpServer httpServer, HttpServerOptions options, boolean https,
                 Future<Void> startFuture, AtomicInteger remainingCount) {
+            setupCompression(httpServer, options);
             httpServer.listen(options.getPort(), options.getHost(), event -> {
                 if (event.cause() != null) {
                     startFuture.fail(event.cause());
@@ -934,9 +1003,27 @@ public class VertxHttpRecorder {
         bodyHandler.setDeleteUploadedFilesOnEnd(bodyConfig.deleteUploadedFilesOnEnd);
         bodyHandler.setMergeFormAttributes(bodyConfig.mergeFormAttributes);
         bodyHandler.setPreallocateBodyBuffer(bodyConfig.preallocateBodyBuffer);
+        final Set<String> streamingPaths = new HashSet<>();
+        final List<String> streamingPrefixes = new ArrayList<>();
+        if (bodyConfig.streamingPaths.isPresent()) {
+            for (String path : bodyConfig.streamingPaths.get()) {
+                if (path.endsWith("/*")) {
+                    path = path.substring(0, path.length() - 2);
+                    streamingPaths.add(path);
+                    streamingPrefixes.add(path + "/");
+                } else {
+                    streamingPaths.add(path);
+                }
+            }
+        }
         return new Handler<RoutingContext>() {
             @Override
             public void handle(RoutingContext event) {
+                if (!streamingPaths.isEmpty() && isStreamed(event.normalisedPath())) {
+                    //the request is left paused, the body is read by the application as it consumes it
+                    event.next();
+                    return;
+                }
                 if (!Context.isOnEventLoopThread()) {
                     ((ConnectionBase) event.request().connection()).channel().eventLoop().execute(new Runnable() {
                         @Override
@@ -967,6 +1054,18 @@ public class VertxHttpRecorder {
                     }
                 }
             }
+
+            private boolean isStreamed(String path) {
+                if (streamingPaths.contains(path)) {
+                    return true;
+                }
+                for (String prefix : streamingPrefixes) {
+                    if (path.startsWith(prefix)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
         };
     }
 
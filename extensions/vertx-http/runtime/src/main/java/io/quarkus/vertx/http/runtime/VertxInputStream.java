@@ -58,6 +58,45 @@ public class VertxInputStream extends InputStream {
             throw new IOException("Stream is closed");
         }
         readIntoBuffer();
+        checkLimit();
+        if (finished) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuf buffer = pooled;
+        int copied = Math.min(len, buffer.readableBytes());
+        buffer.readBytes(b, off, copied);
+        if (!buffer.isReadable()) {
+            pooled.release();
+            pooled = null;
+        }
+        return copied;
+    }
+
+    /**
+     * Reads the next chunk of the body as it was received, without copying it.
+     * <p>
+     * The caller takes ownership of the returned buffer and must release it.
+     *
+     * @return the next chunk of the body, or {@code null} if the end of the body has been reached
+     */
+    public ByteBuf readBuffer() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        readIntoBuffer();
+        checkLimit();
+        if (finished) {
+            return null;
+        }
+        ByteBuf buffer = pooled;
+        pooled = null;
+        return buffer;
+    }
+
+    private void checkLimit() throws IOException {
         if (limit > 0 && exchange.request.bytesRead() > limit) {
             HttpServerResponse response = exchange.request.response();
             if (response.headWritten()) {
@@ -77,20 +116,6 @@ public class VertxInputStream extends InputStream {
                 throw new IOException("Request too large");
             }
         }
-        if (finished) {
-            return -1;
-        }
-        if (len == 0) {
-            return 0;
-        }
-        ByteBuf buffer = pooled;
-        int copied = Math.min(len, buffer.readableBytes());
-        buffer.readBytes(b, off, copied);
-        if (!buffer.isReadable()) {
-            pooled.release();
-            pooled = null;
-        }
-        return copied;
     }
 
     private void readIntoBuffer() throws IOException {
@@ -111,6 +136,9 @@ public class VertxInputStream extends InputStream {
         if (finished) {
             return -1;
         }
+        if (pooled != null) {
+            return pooled.readableBytes();
+        }
 
         return exchange.readBytesAvailable();
     }
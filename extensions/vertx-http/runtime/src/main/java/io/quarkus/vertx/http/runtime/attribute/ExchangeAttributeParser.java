@@ -57,6 +57,21 @@ public class ExchangeAttributeParser {
      * @return
      */
     public ExchangeAttribute parse(final String valueString) {
+        final List<ExchangeAttribute> attributes = parseTokens(valueString, null);
+        if (attributes.size() == 1) {
+            return attributes.get(0);
+        }
+        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+    }
+
+    /**
+     * Parses the provided value string into the list of its tokens, following the same rules as {@link #parse(String)}.
+     *
+     * @param valueString
+     * @param tokens if not null, receives the text of each token, or null for the escaped {@code %} and {@code $}
+     * @return the attributes of the tokens
+     */
+    public List<ExchangeAttribute> parseTokens(final String valueString, final List<String> tokens) {
         final List<ExchangeAttribute> attributes = new ArrayList<>();
         int pos = 0;
         int state = 0; //0 = literal, 1 = %, 2 = %{, 3 = $, 4 = ${
@@ -66,7 +81,7 @@ public class ExchangeAttributeParser {
                 case 0: {
                     if (c == '%' || c == '$') {
                         if (pos != i) {
-                            attributes.add(wrap(parseSingleToken(valueString.substring(pos, i))));
+                            addToken(attributes, tokens, valueString.substring(pos, i));
                             pos = i;
                         }
                         if (c == '%') {
@@ -82,11 +97,11 @@ public class ExchangeAttributeParser {
                         state = 2;
                     } else if (c == '%') {
                         //literal percent
-                        attributes.add(wrap(new ConstantExchangeAttribute("%")));
+                        addToken(attributes, tokens, null, new ConstantExchangeAttribute("%"));
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        addToken(attributes, tokens, valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -94,7 +109,7 @@ public class ExchangeAttributeParser {
                 }
                 case 2: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        addToken(attributes, tokens, valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -105,11 +120,11 @@ public class ExchangeAttributeParser {
                         state = 4;
                     } else if (c == '$') {
                         //literal dollars
-                        attributes.add(wrap(new ConstantExchangeAttribute("$")));
+                        addToken(attributes, tokens, null, new ConstantExchangeAttribute("$"));
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        addToken(attributes, tokens, valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -117,7 +132,7 @@ public class ExchangeAttributeParser {
                 }
                 case 4: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        addToken(attributes, tokens, valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -131,7 +146,7 @@ public class ExchangeAttributeParser {
             case 1:
             case 3: {
                 if (pos != valueString.length()) {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos))));
+                    addToken(attributes, tokens, valueString.substring(pos));
                 }
                 break;
             }
@@ -140,10 +155,19 @@ public class ExchangeAttributeParser {
                 throw new RuntimeException("Mismatched braces: " + valueString);
             }
         }
-        if (attributes.size() == 1) {
-            return attributes.get(0);
+        return attributes;
+    }
+
+    private void addToken(List<ExchangeAttribute> attributes, List<String> tokens, String token) {
+        addToken(attributes, tokens, token, parseSingleToken(token));
+    }
+
+    private void addToken(List<ExchangeAttribute> attributes, List<String> tokens, String token,
+            ExchangeAttribute attribute) {
+        attributes.add(wrap(attribute));
+        if (tokens != null) {
+            tokens.add(token);
         }
-        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
     }
 
     public ExchangeAttribute parseSingleToken(final String token) {
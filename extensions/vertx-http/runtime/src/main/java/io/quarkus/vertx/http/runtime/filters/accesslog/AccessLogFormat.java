@@ -0,0 +1,227 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The format of the access log messages.
+ * <p>
+ * Reading the attributes of a request and formatting them are separate steps, so that the attributes can be read on the
+ * IO thread when the request is done, and formatted later by the thread writing the log.
+ * <p>
+ * A message is either the concatenation of the attributes, or a JSON object with a field per attribute of the pattern.
+ * The literal text of the pattern is not written in JSON, and the fields are named after the attributes, e.g.
+ * {@code remote_host} for {@code %h} and {@code header_user-agent} for {@code %{i,User-Agent}}.
+ */
+public final class AccessLogFormat {
+
+    private static final Map<String, String> SHORT_TOKENS;
+
+    static {
+        Map<String, String> tokens = new HashMap<>();
+        tokens.put("%a", "remote_ip");
+        tokens.put("%A", "local_ip");
+        tokens.put("%b", "bytes_sent");
+        tokens.put("%B", "bytes_sent");
+        tokens.put("%h", "remote_host");
+        tokens.put("%H", "protocol");
+        tokens.put("%l", "ident_username");
+        tokens.put("%m", "method");
+        tokens.put("%p", "local_port");
+        tokens.put("%q", "query_string");
+        tokens.put("%r", "request_line");
+        tokens.put("%s", "response_code");
+        tokens.put("%t", "date_time");
+        tokens.put("%u", "remote_user");
+        tokens.put("%U", "request_url");
+        tokens.put("%v", "local_server_name");
+        tokens.put("%D", "response_time");
+        tokens.put("%T", "response_time_seconds");
+        tokens.put("%I", "thread_name");
+        SHORT_TOKENS = Collections.unmodifiableMap(tokens);
+    }
+
+    private final String pattern;
+    private final ExchangeAttribute[] attributes;
+    /**
+     * The JSON field names, or null if the messages are not JSON
+     */
+    private final String[] names;
+
+    private AccessLogFormat(String pattern, ExchangeAttribute[] attributes, String[] names) {
+        this.pattern = pattern;
+        this.attributes = attributes;
+        this.names = names;
+    }
+
+    /**
+     * @param pattern the pattern, or {@code common} or {@code combined}
+     * @param json whether the messages are JSON objects
+     * @param classLoader the class loader used to find the attribute builders
+     */
+    public static AccessLogFormat parse(String pattern, boolean json, ClassLoader classLoader) {
+        pattern = handleCommonNames(pattern);
+        List<String> tokens = new ArrayList<>();
+        List<ExchangeAttribute> parsed = new ExchangeAttributeParser(classLoader,
+                json ? Collections.emptyList() : Collections.singletonList(new SubstituteEmptyWrapper("-")))
+                        .parseTokens(pattern, tokens);
+        if (!json) {
+            return new AccessLogFormat(pattern, parsed.toArray(new ExchangeAttribute[0]), null);
+        }
+        List<ExchangeAttribute> attributes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < parsed.size(); i++) {
+            String name = fieldName(tokens.get(i));
+            if (name != null) {
+                attributes.add(parsed.get(i));
+                names.add(name);
+            }
+        }
+        return new AccessLogFormat(pattern, attributes.toArray(new ExchangeAttribute[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     * @return a text format made of a single attribute
+     */
+    public static AccessLogFormat of(String pattern, ExchangeAttribute attribute) {
+        return new AccessLogFormat(handleCommonNames(pattern), new ExchangeAttribute[] { attribute }, null);
+    }
+
+    static String handleCommonNames(String formatString) {
+        if (formatString.equals("common")) {
+            return "%h %l %u %t \"%r\" %s %b";
+        } else if (formatString.equals("combined")) {
+            return "%h %l %u %t \"%r\" %s %b \"%{i,Referer}\" \"%{i,User-Agent}\"";
+        }
+        return formatString;
+    }
+
+    /**
+     * @return the name of the field of the given token, or null if the token is literal text
+     */
+    static String fieldName(String token) {
+        if (token == null || !(token.startsWith("%") || token.startsWith("${"))) {
+            return null;
+        }
+        String name = SHORT_TOKENS.get(token);
+        if (name != null) {
+            return name;
+        }
+        if (token.length() > 3 && token.charAt(1) == '{' && token.endsWith("}")) {
+            String content = token.substring(2, token.length() - 1);
+            if (content.startsWith("i,")) {
+                return "header_" + content.substring(2).toLowerCase(Locale.ROOT);
+            } else if (content.startsWith("o,")) {
+                return "response_header_" + content.substring(2).toLowerCase(Locale.ROOT);
+            } else if (content.startsWith("c,")) {
+                return "cookie_" + content.substring(2);
+            } else if (content.startsWith("q,")) {
+                return "query_param_" + content.substring(2);
+            } else if (content.startsWith("time,")) {
+                return "date_time";
+            }
+            return content.toLowerCase(Locale.ROOT);
+        }
+        return token.substring(1);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return the number of values read from a request
+     */
+    int size() {
+        return attributes.length;
+    }
+
+    /**
+     * Reads the attributes of a request, without formatting them.
+     */
+    void readAttributes(RoutingContext context, String[] values) {
+        for (int i = 0; i < attributes.length; i++) {
+            values[i] = attributes[i].readAttribute(context);
+        }
+    }
+
+    /**
+     * Formats the values read by {@link #readAttributes(RoutingContext, String[])}.
+     */
+    void format(String[] values, StringBuilder sb) {
+        if (names == null) {
+            for (int i = 0; i < attributes.length; i++) {
+                if (values[i] != null) {
+                    sb.append(values[i]);
+                }
+            }
+            return;
+        }
+        sb.append('{');
+        for (int i = 0; i < attributes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            appendJsonString(sb, names[i]);
+            sb.append(':');
+            String value = values[i];
+            if (value == null || value.isEmpty()) {
+                sb.append("null");
+            } else {
+                appendJsonString(sb, value);
+            }
+        }
+        sb.append('}');
+    }
+
+    /**
+     * Reads and formats the attributes of a request.
+     */
+    public String format(RoutingContext context) {
+        String[] values = new String[attributes.length];
+        readAttributes(context, values);
+        StringBuilder sb = new StringBuilder();
+        format(values, sb);
+        return sb.toString();
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -18,11 +18,7 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
-import java.util.Collections;
-
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
-import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
-import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -87,29 +83,19 @@ import io.vertx.ext.web.RoutingContext;
 public class AccessLogHandler implements Handler<RoutingContext> {
 
     private final AccessLogReceiver accessLogReceiver;
-    private final String formatString;
-    private final ExchangeAttribute tokens;
+    private final AccessLogFormat format;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString, ClassLoader classLoader) {
-        this.accessLogReceiver = accessLogReceiver;
-        this.formatString = handleCommonNames(formatString);
-        this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
-                .parse(this.formatString);
+        this(accessLogReceiver, AccessLogFormat.parse(formatString, false, classLoader));
     }
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String formatString, final ExchangeAttribute attribute) {
-        this.accessLogReceiver = accessLogReceiver;
-        this.formatString = handleCommonNames(formatString);
-        this.tokens = attribute;
+        this(accessLogReceiver, AccessLogFormat.of(formatString, attribute));
     }
 
-    private static String handleCommonNames(String formatString) {
-        if (formatString.equals("common")) {
-            return "%h %l %u %t \"%r\" %s %b";
-        } else if (formatString.equals("combined")) {
-            return "%h %l %u %t \"%r\" %s %b \"%{i,Referer}\" \"%{i,User-Agent}\"";
-        }
-        return formatString;
+    public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final AccessLogFormat format) {
+        this.accessLogReceiver = accessLogReceiver;
+        this.format = format;
     }
 
     @Override
@@ -117,7 +103,7 @@ public class AccessLogHandler implements Handler<RoutingContext> {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(rc, format);
             }
         });
         rc.next();
@@ -126,7 +112,7 @@ public class AccessLogHandler implements Handler<RoutingContext> {
     @Override
     public String toString() {
         return "AccessLogHandler{" +
-                "formatString='" + formatString + '\'' +
+                "formatString='" + format.getPattern() + '\'' +
                 '}';
     }
 
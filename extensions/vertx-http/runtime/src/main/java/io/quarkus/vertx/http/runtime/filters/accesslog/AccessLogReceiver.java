@@ -18,6 +18,8 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import io.vertx.ext.web.RoutingContext;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +31,12 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a request that is done. This is called on the IO thread, implementations that write the log asynchronously
+     * may only read the attributes here and format them later.
+     */
+    default void logMessage(final RoutingContext context, final AccessLogFormat format) {
+        logMessage(format.format(context));
+    }
+
 }
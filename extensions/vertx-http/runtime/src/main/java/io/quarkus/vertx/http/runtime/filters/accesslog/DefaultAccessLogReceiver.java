@@ -21,7 +21,11 @@ package io.quarkus.vertx.http.runtime.filters.accesslog;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,15 +34,17 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logging.Logger;
 
+import io.vertx.ext.web.RoutingContext;
+
 /**
  * Log Receiver that stores logs in a directory under the specified file name, and rotates them after
  * midnight.
@@ -46,6 +52,11 @@ import org.jboss.logging.Logger;
  * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
  * any given time
+ * <p/>
+ * The messages are queued in a bounded ring buffer of preallocated entries. When a format is set, the web threads only
+ * read the attributes of the requests into the entries, and the messages are formatted by the worker thread. The
+ * worker thread writes the messages in batches, with a single gathering write per batch. If the buffer is full the
+ * message is dropped rather than blocking the web thread.
  *
  * @author Stuart Douglas
  */
@@ -55,9 +66,24 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     private static final String DEFAULT_LOG_SUFFIX = "log";
 
+    /**
+     * The default number of messages that can be queued
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+    private static final LongAdder droppedMessages = new LongAdder();
+
     private final Executor logWriteExecutor;
 
-    private final Deque<String> pendingMessages;
+    private final AccessLogFormat format;
+    private final Entry[] entries;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private volatile boolean dropping;
 
     //0 = not running
     //1 = queued
@@ -78,7 +104,11 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix;
 
-    private Writer writer = null;
+    private FileChannel channel = null;
+    // only used by the writing thread
+    private final StringBuilder batch = new StringBuilder();
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final List<ByteBuffer> writeBuffers = new ArrayList<>();
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
@@ -110,18 +140,25 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
             final String logNameSuffix, boolean rotate) {
-        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null);
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null, null, DEFAULT_BUFFER_SIZE);
     }
 
     private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
-            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader) {
+            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader, AccessLogFormat format,
+            int bufferSize) {
         this.logWriteExecutor = logWriteExecutor;
+        this.format = format;
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        this.entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry(i, format == null ? 0 : format.size());
+        }
+        this.mask = capacity - 1;
         this.outputDirectory = outputDirectory;
         this.logBaseName = logBaseName;
         this.rotate = rotate;
         this.fileHeaderGenerator = fileHeader;
         this.logNameSuffix = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
-        this.pendingMessages = new ConcurrentLinkedDeque<>();
         this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
         calculateChangeOverPoint();
     }
@@ -147,7 +184,68 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     @Override
     public void logMessage(final String message) {
-        this.pendingMessages.add(message);
+        Entry entry = claim();
+        if (entry != null) {
+            entry.message = message;
+            publish(entry);
+        }
+    }
+
+    @Override
+    public void logMessage(final RoutingContext context, final AccessLogFormat format) {
+        if (format != this.format) {
+            logMessage(format.format(context));
+            return;
+        }
+        Entry entry = claim();
+        if (entry != null) {
+            entry.message = null;
+            format.readAttributes(context, entry.values);
+            publish(entry);
+        }
+    }
+
+    /**
+     * @return the number of messages dropped because the buffer was full
+     */
+    public static long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * Claims the next entry of the buffer, this is a bounded multi-producer queue where each entry has a sequence number
+     * telling whether it is free for the given position.
+     *
+     * @return the entry, or null if the buffer is full
+     */
+    private Entry claim() {
+        for (;;) {
+            long position = tail.get();
+            Entry entry = entries[(int) (position & mask)];
+            long diff = entry.sequence - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return entry;
+                }
+            } else if (diff < 0) {
+                droppedMessages.increment();
+                if (!dropping) {
+                    dropping = true;
+                    log.warnf("The access log buffer is full, messages are dropped until it is written to %s",
+                            defaultLogFile);
+                }
+                schedule();
+                return null;
+            }
+        }
+    }
+
+    private void publish(Entry entry) {
+        entry.sequence = entry.sequence + 1;
+        schedule();
+    }
+
+    private void schedule() {
         int state = stateUpdater.get(this);
         if (state == 0) {
             if (stateUpdater.compareAndSet(this, 0, 1)) {
@@ -156,6 +254,11 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
+    private boolean hasPendingMessages() {
+        long position = head;
+        return entries[(int) (position & mask)].sequence == position + 1;
+    }
+
     /**
      * processes all queued log messages
      */
@@ -182,34 +285,21 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             }
         }
         initialRun = false;
-        List<String> messages = new ArrayList<>();
-        String msg;
-        //only grab at most 1000 messages at a time
-        for (int i = 0; i < 1000; ++i) {
-            msg = pendingMessages.poll();
-            if (msg == null) {
-                break;
-            }
-            messages.add(msg);
-        }
         try {
-            if (!messages.isEmpty()) {
-                writeMessage(messages);
-            }
+            writeMessages();
         } finally {
             stateUpdater.set(this, 0);
             //check to see if there is still more messages
             //if so then run this again
-            if (!pendingMessages.isEmpty() || forceLogRotation) {
+            if (hasPendingMessages() || forceLogRotation) {
                 if (stateUpdater.compareAndSet(this, 0, 1)) {
                     logWriteExecutor.execute(this);
                 }
             } else if (closed) {
                 try {
-                    if (writer != null) {
-                        writer.flush();
-                        writer.close();
-                        writer = null;
+                    if (channel != null) {
+                        channel.close();
+                        channel = null;
                     }
                 } catch (IOException e) {
                     log.error("Error writing access log", e);
@@ -225,7 +315,7 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
      * DO NOT USE THIS OUTSIDE OF A TEST
      */
     void awaitWrittenForTest() throws InterruptedException {
-        while (!pendingMessages.isEmpty() || forceLogRotation) {
+        while (hasPendingMessages() || forceLogRotation) {
             Thread.sleep(10);
         }
         while (state != 0) {
@@ -233,44 +323,100 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
-    private void writeMessage(final List<String> messages) {
+    /**
+     * Formats at most {@link #BATCH_SIZE} queued messages and writes them
+     */
+    private void writeMessages() {
+        long position = head;
+        int count = 0;
+        batch.setLength(0);
+        while (count < BATCH_SIZE) {
+            Entry entry = entries[(int) (position & mask)];
+            if (entry.sequence != position + 1) {
+                break;
+            }
+            if (entry.message != null) {
+                batch.append(entry.message);
+                entry.message = null;
+            } else {
+                format.format(entry.values, batch);
+            }
+            batch.append('\n');
+            // release the entry for the next round of the buffer
+            entry.sequence = position + entries.length;
+            position++;
+            count++;
+        }
+        head = position;
+        if (count == 0) {
+            return;
+        }
+        dropping = false;
         if (System.currentTimeMillis() > changeOverPoint) {
             doRotate();
         }
         try {
-            if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
-                        StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.APPEND, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                if (channel.size() == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.write("\n");
-                        writer.flush();
+                        batch.insert(0, header + "\n");
                     }
                 }
             }
-            for (String message : messages) {
-                writer.write(message);
-                writer.write('\n');
-            }
-            writer.flush();
+            write(batch);
         } catch (IOException e) {
             log.error("Error writing access log", e);
         }
     }
 
+    /**
+     * Encodes the messages into the write buffers, and writes all of them at once
+     */
+    private void write(CharSequence messages) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(messages);
+        encoder.reset();
+        int used = 0;
+        for (;;) {
+            if (used == writeBuffers.size()) {
+                writeBuffers.add(ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE));
+            }
+            ByteBuffer buffer = writeBuffers.get(used++);
+            buffer.clear();
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (!result.isOverflow()) {
+                encoder.flush(buffer);
+                break;
+            }
+        }
+        ByteBuffer[] buffers = writeBuffers.subList(0, used).toArray(new ByteBuffer[used]);
+        for (ByteBuffer buffer : buffers) {
+            buffer.flip();
+        }
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+        // keep the buffers of a usual batch only
+        while (writeBuffers.size() > 4) {
+            writeBuffers.remove(writeBuffers.size() - 1);
+        }
+    }
+
     private void doRotate() {
         forceLogRotation = false;
         if (!rotate) {
             return;
         }
         try {
-            if (writer != null) {
-                writer.flush();
-                writer.close();
-                writer = null;
+            if (channel != null) {
+                channel.close();
+                channel = null;
             }
             if (!Files.exists(defaultLogFile)) {
                 return;
@@ -308,6 +454,21 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
+    private static final class Entry {
+
+        /**
+         * The position the entry can be claimed for, or the position plus one once the message is published
+         */
+        volatile long sequence;
+        String message;
+        final String[] values;
+
+        Entry(long sequence, int size) {
+            this.sequence = sequence;
+            this.values = new String[size];
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -319,6 +480,8 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         private String logNameSuffix;
         private boolean rotate;
         private LogFileHeaderGenerator logFileHeaderGenerator;
+        private AccessLogFormat format;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
 
         public Executor getLogWriteExecutor() {
             return logWriteExecutor;
@@ -374,9 +537,34 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             return this;
         }
 
+        public AccessLogFormat getFormat() {
+            return format;
+        }
+
+        /**
+         * Sets the format of the messages logged with {@link #logMessage(RoutingContext, AccessLogFormat)}, so that they
+         * are formatted by the thread writing the log.
+         */
+        public Builder setFormat(AccessLogFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        /**
+         * Sets the number of messages that can be queued, rounded up to a power of two.
+         */
+        public Builder setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
         public DefaultAccessLogReceiver build() {
             return new DefaultAccessLogReceiver(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate,
-                    logFileHeaderGenerator);
+                    logFileHeaderGenerator, format, bufferSize);
         }
     }
 }
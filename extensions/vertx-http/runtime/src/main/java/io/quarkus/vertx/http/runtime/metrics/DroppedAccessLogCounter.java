@@ -0,0 +1,28 @@
+package io.quarkus.vertx.http.runtime.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
+
+/**
+ * Counts the access log messages dropped because they could not be written to the log file fast enough.
+ */
+public class DroppedAccessLogCounter implements Counter {
+
+    @Override
+    public long getCount() {
+        return DefaultAccessLogReceiver.getDroppedMessages();
+    }
+
+    @Override
+    public void inc() {
+        throw new IllegalStateException("The dropped access log messages are counted by the access log and should not be "
+                + "updated manually");
+    }
+
+    @Override
+    public void inc(long n) {
+        throw new IllegalStateException("The dropped access log messages are counted by the access log and should not be "
+                + "updated manually");
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * A limit on the rate or the number of concurrent requests, applied to each client
+ */
+@ConfigGroup
+public class RateLimitConfig {
+
+    /**
+     * The paths that this limit applies to. If the path ends in /* then this is treated as a path prefix, otherwise it
+     * is treated as an exact match. If this is not set then the limit applies to all paths.
+     *
+     * Matches are done on a length basis, so only the limits of the most specific path match apply to a request.
+     */
+    @ConfigItem
+    public Optional<List<String>> paths;
+
+    /**
+     * The methods that this limit applies to. If this is not set then it applies to all methods.
+     */
+    @ConfigItem
+    public Optional<List<String>> methods;
+
+    /**
+     * How the requests are grouped, each group being limited independently.
+     * <p>
+     * With {@code principal} the anonymous requests are grouped by client IP.
+     */
+    @ConfigItem(defaultValue = "client-ip")
+    public ClientKey key;
+
+    /**
+     * The number of requests a client can make per {@code period}. If this is not set then the rate is not limited.
+     */
+    @ConfigItem
+    public OptionalInt requests;
+
+    /**
+     * The period of the rate limit.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration period;
+
+    /**
+     * The number of requests a client can make at once after being idle. Defaults to {@code requests}.
+     */
+    @ConfigItem
+    public OptionalInt burst;
+
+    /**
+     * The number of requests of a client that can be processed at the same time. If this is not set then the
+     * concurrency is not limited.
+     */
+    @ConfigItem
+    public OptionalInt maxConcurrentRequests;
+
+    /**
+     * The maximum number of clients whose state is kept. When it is reached, the idle clients are forgotten and the
+     * new clients share a single limit until there is room again.
+     */
+    @ConfigItem(defaultValue = "10000")
+    public int maxClients;
+
+    public enum ClientKey {
+        /**
+         * All the requests share the same limit.
+         */
+        GLOBAL,
+        /**
+         * The requests are grouped by the address of the client.
+         */
+        CLIENT_IP,
+        /**
+         * The requests are grouped by the name of the authenticated user.
+         */
+        PRINCIPAL
+    }
+}
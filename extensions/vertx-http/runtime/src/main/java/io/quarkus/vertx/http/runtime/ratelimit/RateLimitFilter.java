@@ -0,0 +1,128 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
+import io.quarkus.vertx.http.runtime.security.PathMatcher;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Rejects the requests that exceed the configured limits with {@code 429 Too Many Requests}.
+ * <p>
+ * The limits are checked on the IO thread, before the request is dispatched to a worker thread or even authenticated,
+ * unless the limit is per user.
+ */
+public class RateLimitFilter implements Handler<RoutingContext> {
+
+    private final PathMatcher<List<RateLimiter>> pathMatcher = new PathMatcher<>();
+
+    RateLimitFilter(Map<String, RateLimitConfig> limits) {
+        Map<String, List<RateLimiter>> tempMap = new HashMap<>();
+        for (RateLimitConfig config : limits.values()) {
+            RateLimiter limiter = new RateLimiter(new HashSet<>(config.methods.orElse(Collections.emptyList())), config);
+            for (String path : config.paths.orElse(Collections.singletonList("/*"))) {
+                if (tempMap.containsKey(path)) {
+                    tempMap.get(path).add(limiter);
+                } else {
+                    List<RateLimiter> limiters = new ArrayList<>();
+                    tempMap.put(path, limiters);
+                    limiters.add(limiter);
+                    if (path.endsWith("/*")) {
+                        String stripped = path.substring(0, path.length() - 2);
+                        pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, limiters);
+                    } else if (path.endsWith("*")) {
+                        pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), limiters);
+                    } else {
+                        pathMatcher.addExactPath(path, limiters);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if a limit needs to know when the requests are done
+     */
+    public static boolean isConcurrencyLimited(HttpConfiguration configuration) {
+        for (RateLimitConfig config : configuration.rateLimits.values()) {
+            if (config.maxConcurrentRequests.isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        List<RateLimiter> limiters = pathMatcher.match(context.normalisedPath()).getValue();
+        if (limiters == null) {
+            context.next();
+            return;
+        }
+        String method = context.request().method().toString();
+        long now = System.nanoTime();
+        List<RateLimiter.State> entered = null;
+        for (RateLimiter limiter : limiters) {
+            if (!limiter.appliesTo(method)) {
+                continue;
+            }
+            RateLimiter.State state = limiter.state(context, now);
+            long wait = limiter.acquireToken(state, now);
+            if (wait > 0) {
+                exit(entered);
+                reject(context, wait);
+                return;
+            }
+            if (limiter.limitsConcurrency()) {
+                if (!limiter.enter(state)) {
+                    exit(entered);
+                    reject(context, 0);
+                    return;
+                }
+                if (entered == null) {
+                    entered = new ArrayList<>(limiters.size());
+                }
+                entered.add(state);
+            }
+        }
+        if (entered != null) {
+            List<RateLimiter.State> toExit = entered;
+            QuarkusRequestWrapper.get(context.request()).addRequestDoneHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    exit(toExit);
+                }
+            });
+        }
+        context.next();
+    }
+
+    private static void exit(List<RateLimiter.State> entered) {
+        if (entered != null) {
+            for (RateLimiter.State state : entered) {
+                RateLimiter.exit(state);
+            }
+        }
+    }
+
+    private static void reject(RoutingContext context, long wait) {
+        HttpServerResponse response = context.response();
+        response.setStatusCode(HttpResponseStatus.TOO_MANY_REQUESTS.code());
+        if (wait > 0) {
+            long seconds = TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1);
+            response.headers().set(HttpHeaderNames.RETRY_AFTER, String.valueOf(seconds));
+        }
+        response.end();
+    }
+}
@@ -0,0 +1,30 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class RateLimitRecorder {
+
+    /**
+     * @param principal whether the handler applies the limits per user, which must be checked after the authentication,
+     *        or the other limits
+     */
+    public Handler<RoutingContext> rateLimitHandler(HttpConfiguration configuration, boolean principal) {
+        Map<String, RateLimitConfig> limits = new HashMap<>();
+        for (Map.Entry<String, RateLimitConfig> entry : configuration.rateLimits.entrySet()) {
+            if ((entry.getValue().key == RateLimitConfig.ClientKey.PRINCIPAL) == principal) {
+                limits.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (limits.isEmpty()) {
+            return null;
+        }
+        return new RateLimitFilter(limits);
+    }
+}
@@ -0,0 +1,170 @@
+package io.quarkus.vertx.http.runtime.ratelimit;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The state of a configured limit, kept for each client.
+ * <p>
+ * The rate is limited with the generic cell rate algorithm, a token bucket that only needs the time at which the bucket
+ * will be full again, so that both the rate and the concurrency are updated with a CAS.
+ */
+final class RateLimiter {
+
+    private final Set<String> methods;
+    private final RateLimitConfig.ClientKey key;
+    /**
+     * The time it takes to get a token back, or {@code 0} if the rate is not limited
+     */
+    private final long interval;
+    /**
+     * The time it takes to fill the bucket
+     */
+    private final long capacity;
+    private final int maxConcurrentRequests;
+    private final int maxClients;
+
+    private final ConcurrentMap<String, State> states = new ConcurrentHashMap<>();
+    /**
+     * Shared by all the requests with the global key, and by the new clients when too many clients are tracked
+     */
+    private final State shared = new State(System.nanoTime());
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+
+    RateLimiter(Set<String> methods, RateLimitConfig config) {
+        this.methods = methods;
+        this.key = config.key;
+        if (config.requests.isPresent()) {
+            this.interval = Math.max(1, config.period.toNanos() / config.requests.getAsInt());
+            this.capacity = interval * config.burst.orElse(config.requests.getAsInt());
+        } else {
+            this.interval = 0;
+            this.capacity = 0;
+        }
+        this.maxConcurrentRequests = config.maxConcurrentRequests.orElse(0);
+        this.maxClients = config.maxClients;
+    }
+
+    boolean limitsConcurrency() {
+        return maxConcurrentRequests > 0;
+    }
+
+    boolean appliesTo(String method) {
+        return methods.isEmpty() || methods.contains(method);
+    }
+
+    State state(RoutingContext context, long now) {
+        if (key == RateLimitConfig.ClientKey.GLOBAL) {
+            return shared;
+        }
+        String client = null;
+        if (key == RateLimitConfig.ClientKey.PRINCIPAL) {
+            User user = context.user();
+            if (user instanceof QuarkusHttpUser) {
+                QuarkusHttpUser quarkusUser = (QuarkusHttpUser) user;
+                if (!quarkusUser.getSecurityIdentity().isAnonymous()) {
+                    client = quarkusUser.getSecurityIdentity().getPrincipal().getName();
+                }
+            }
+        }
+        if (client == null) {
+            SocketAddress address = context.request().remoteAddress();
+            client = address == null ? "" : address.host();
+        }
+        State state = states.get(client);
+        if (state != null) {
+            return state;
+        }
+        if (states.size() >= maxClients) {
+            sweep(now);
+            if (states.size() >= maxClients) {
+                return shared;
+            }
+        }
+        state = new State(now);
+        State existing = states.putIfAbsent(client, state);
+        return existing == null ? state : existing;
+    }
+
+    /**
+     * Forgets the idle clients, at most once per bucket refill so that a full set of active clients is not scanned for
+     * every new client.
+     */
+    private void sweep(long now) {
+        long next = nextSweep.get();
+        if (now - next < 0 || !nextSweep.compareAndSet(next, now + Math.max(capacity, 1_000_000_000L))) {
+            return;
+        }
+        Iterator<State> it = states.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isIdle(now)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return {@code 0} if the request is allowed, otherwise the number of nanoseconds until it would be
+     */
+    long acquireToken(State state, long now) {
+        if (interval == 0) {
+            return 0;
+        }
+        for (;;) {
+            long full = state.full.get();
+            long next = (full - now > 0 ? full : now) + interval;
+            long wait = next - now - capacity;
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.full.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean enter(State state) {
+        if (maxConcurrentRequests == 0) {
+            return true;
+        }
+        for (;;) {
+            int current = state.inFlight.get();
+            if (current >= maxConcurrentRequests) {
+                return false;
+            }
+            if (state.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    static void exit(State state) {
+        state.inFlight.decrementAndGet();
+    }
+
+    static final class State {
+
+        /**
+         * The time at which the bucket is full, in the past when it is already full
+         */
+        final AtomicLong full;
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        State(long now) {
+            this.full = new AtomicLong(now);
+        }
+
+        boolean isIdle(long now) {
+            return full.get() - now <= 0 && inFlight.get() == 0;
+        }
+    }
+}
@@ -33,12 +33,23 @@ public class HttpAuthorizer {
 
     final List<HttpSecurityPolicy> policies;
 
+    /**
+     * The path matching policy if it is the only installed policy, so that its policy chain is resolved once per request
+     * and the requests it permits without checking the identity are let through directly
+     */
+    final PathMatchingHttpSecurityPolicy pathMatchingPolicy;
+
     @Inject
     HttpAuthorizer(Instance<HttpSecurityPolicy> installedPolicies) {
         policies = new ArrayList<>();
         for (HttpSecurityPolicy i : installedPolicies) {
             policies.add(i);
         }
+        if (policies.size() == 1 && policies.get(0) instanceof PathMatchingHttpSecurityPolicy) {
+            pathMatchingPolicy = (PathMatchingHttpSecurityPolicy) policies.get(0);
+        } else {
+            pathMatchingPolicy = null;
+        }
     }
 
     /**
@@ -87,9 +98,23 @@ public class HttpAuthorizer {
      *
      */
     public void checkPermission(RoutingContext routingContext) {
+        List<HttpSecurityPolicy> permissionCheckers = policies;
+        if (pathMatchingPolicy != null) {
+            PathMatchingHttpSecurityPolicy.PolicyChain chain = pathMatchingPolicy.findPolicyChain(routingContext.request());
+            if (chain == null || chain.permitAll) {
+                //nothing to check, the identity is not needed
+                routingContext.next();
+                return;
+            }
+            //run the policies of the chain directly rather than matching the path again
+            permissionCheckers = chain.policies;
+        } else if (policies.isEmpty()) {
+            routingContext.next();
+            return;
+        }
         //check their permissions
         doPermissionCheck(routingContext, QuarkusHttpUser.getSecurityIdentity(routingContext, identityProviderManager), 0, null,
-                policies);
+                permissionCheckers);
     }
 
     private void doPermissionCheck(RoutingContext routingContext,
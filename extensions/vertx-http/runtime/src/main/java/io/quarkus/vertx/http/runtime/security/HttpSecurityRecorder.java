@@ -2,6 +2,7 @@ package io.quarkus.vertx.http.runtime.security;
 
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
@@ -90,7 +91,20 @@ public class HttpSecurityRecorder {
                     }
                 });
 
-                Uni<SecurityIdentity> potentialUser = authenticator.attemptAuthentication(event)
+                Uni<SecurityIdentity> authentication;
+                if (proactiveAuthentication) {
+                    authentication = authenticator.attemptAuthentication(event);
+                } else {
+                    //the mechanisms only run when the identity is needed, so that the paths that do not check it never
+                    //invoke the identity providers
+                    authentication = Uni.createFrom().deferred(new Supplier<Uni<? extends SecurityIdentity>>() {
+                        @Override
+                        public Uni<? extends SecurityIdentity> get() {
+                            return authenticator.attemptAuthentication(event);
+                        }
+                    });
+                }
+                Uni<SecurityIdentity> potentialUser = authentication
                         .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
                             @Override
                             public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
@@ -136,7 +150,8 @@ public class HttpSecurityRecorder {
                                 }
                             }, NOOP_CALLBACK);
                 } else {
-                    event.put(QuarkusHttpUser.DEFERRED_IDENTITY_KEY, potentialUser);
+                    //cached so that the identity is only resolved once per request
+                    event.put(QuarkusHttpUser.DEFERRED_IDENTITY_KEY, potentialUser.cache());
                     event.next();
                 }
             }
@@ -157,7 +172,7 @@ public class HttpSecurityRecorder {
         };
     }
 
-    public BeanContainerListener initPermissions(HttpBuildTimeConfig permissions,
+    public BeanContainerListener initPermissions(Map<String, Map<String, List<String>>> permissions,
             Map<String, Supplier<HttpSecurityPolicy>> policies) {
         return new BeanContainerListener() {
             @Override
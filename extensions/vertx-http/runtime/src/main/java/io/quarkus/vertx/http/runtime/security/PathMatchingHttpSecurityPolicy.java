@@ -3,18 +3,14 @@ package io.quarkus.vertx.http.runtime.security;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.inject.Singleton;
 
 import io.quarkus.security.identity.SecurityIdentity;
-import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
-import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
@@ -27,13 +23,16 @@ import io.vertx.ext.web.RoutingContext;
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private final PathMatcher<PathPermissions> pathMatcher = new PathMatcher<>();
 
     @Override
     public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext) {
-        List<HttpSecurityPolicy> permissionCheckers = findPermissionCheckers(routingContext.request());
-        return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
+        PolicyChain chain = findPolicyChain(routingContext.request());
+        if (chain == null || chain.permitAll) {
+            return Uni.createFrom().item(CheckResult.PERMIT);
+        }
+        return doPermissionCheck(routingContext, identity, 0, null, chain.policies, requestContext);
     }
 
     private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
@@ -70,76 +69,90 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
                 });
     }
 
-    void init(HttpBuildTimeConfig config, Map<String, Supplier<HttpSecurityPolicy>> supplierMap) {
+    /**
+     * The key of the policies applied to the methods that are not listed in any permission set of a path
+     */
+    public static final String OTHER_METHODS = "*";
+
+    /**
+     * @param permissions the names of the policies applied to each path and method, as resolved at build time
+     */
+    void init(Map<String, Map<String, List<String>>> permissions, Map<String, Supplier<HttpSecurityPolicy>> supplierMap) {
         Map<String, HttpSecurityPolicy> permissionCheckers = new HashMap<>();
         for (Map.Entry<String, Supplier<HttpSecurityPolicy>> i : supplierMap.entrySet()) {
             permissionCheckers.put(i.getKey(), i.getValue().get());
         }
 
-        Map<String, List<HttpMatcher>> tempMap = new HashMap<>();
-        for (Map.Entry<String, PolicyMappingConfig> entry : config.auth.permissions.entrySet()) {
-            HttpSecurityPolicy checker = permissionCheckers.get(entry.getValue().policy);
-            if (checker == null) {
-                throw new RuntimeException("Unable to find HTTP security policy " + entry.getValue().policy);
-            }
-
-            for (String path : entry.getValue().paths.orElse(Collections.emptyList())) {
-                if (tempMap.containsKey(path)) {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    tempMap.get(path).add(m);
-                } else {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    List<HttpMatcher> perms = new ArrayList<>();
-                    tempMap.put(path, perms);
-                    perms.add(m);
-                    if (path.endsWith("/*")) {
-                        String stripped = path.substring(0, path.length() - 2);
-                        pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                    } else if (path.endsWith("*")) {
-                        pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                    } else {
-                        pathMatcher.addExactPath(path, perms);
+        for (Map.Entry<String, Map<String, List<String>>> entry : permissions.entrySet()) {
+            Map<String, PolicyChain> methods = new HashMap<>();
+            for (Map.Entry<String, List<String>> method : entry.getValue().entrySet()) {
+                List<HttpSecurityPolicy> policies = new ArrayList<>();
+                for (String name : method.getValue()) {
+                    HttpSecurityPolicy checker = permissionCheckers.get(name);
+                    if (checker == null) {
+                        throw new RuntimeException("Unable to find HTTP security policy " + name);
                     }
+                    policies.add(checker);
                 }
+                methods.put(method.getKey(), new PolicyChain(policies));
+            }
+            PathPermissions perms = new PathPermissions(methods);
+            String path = entry.getKey();
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
+            } else if (path.endsWith("*")) {
+                pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
+            } else {
+                pathMatcher.addExactPath(path, perms);
             }
         }
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return Collections.emptyList();
-        }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
-            }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
-        }
+        PolicyChain chain = findPolicyChain(request);
+        return chain == null ? Collections.emptyList() : chain.policies;
+    }
 
+    /**
+     * @return the policies applied to the request, or null if its path is not covered by any permission set
+     */
+    PolicyChain findPolicyChain(HttpServerRequest request) {
+        PathPermissions permissions = pathMatcher.match(request.path()).getValue();
+        if (permissions == null) {
+            return null;
+        }
+        PolicyChain chain = permissions.methods.get(request.rawMethod());
+        return chain != null ? chain : permissions.methods.get(OTHER_METHODS);
     }
 
-    static class HttpMatcher {
+    static class PathPermissions {
 
-        final Set<String> methods;
-        final HttpSecurityPolicy checker;
+        /**
+         * The policies applied to each method, and to the {@link #OTHER_METHODS}
+         */
+        final Map<String, PolicyChain> methods;
 
-        HttpMatcher(Set<String> methods, HttpSecurityPolicy checker) {
+        PathPermissions(Map<String, PolicyChain> methods) {
             this.methods = methods;
-            this.checker = checker;
+        }
+    }
+
+    static class PolicyChain {
+
+        final List<HttpSecurityPolicy> policies;
+        /**
+         * Whether only the permit policy applies, so that the identity does not need to be checked
+         */
+        final boolean permitAll;
+
+        PolicyChain(List<HttpSecurityPolicy> policies) {
+            this.policies = Collections.unmodifiableList(policies);
+            boolean permitAll = true;
+            for (HttpSecurityPolicy policy : policies) {
+                permitAll &= policy instanceof PermitSecurityPolicy;
+            }
+            this.permitAll = permitAll;
         }
     }
 }
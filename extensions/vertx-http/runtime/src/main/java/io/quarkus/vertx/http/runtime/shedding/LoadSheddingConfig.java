@@ -0,0 +1,52 @@
+package io.quarkus.vertx.http.runtime.shedding;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Load shedding settings
+ */
+@ConfigGroup
+public class LoadSheddingConfig {
+
+    /**
+     * If this is true then requests are rejected with {@code 503 Service Unavailable} when the application is
+     * overloaded, instead of waiting for a worker thread.
+     * <p>
+     * The application is considered overloaded when the number of tasks waiting for a worker thread exceeds
+     * {@code worker-queue-threshold}, or when the event loops are late by more than {@code event-loop-lag-threshold}.
+     * The proportion of rejected requests then grows with the load, so that all the requests are rejected when the
+     * load reaches twice the threshold.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The number of tasks waiting for a worker thread above which requests start to be rejected.
+     */
+    @ConfigItem(defaultValue = "100")
+    public int workerQueueThreshold;
+
+    /**
+     * The event loop lag above which requests start to be rejected.
+     */
+    @ConfigItem(defaultValue = "0.2S")
+    public Duration eventLoopLagThreshold;
+
+    /**
+     * How often the worker queue and the event loops are probed.
+     */
+    @ConfigItem(defaultValue = "0.05S")
+    public Duration probeInterval;
+
+    /**
+     * The paths of the requests that are never rejected, such as health checks. If the path ends in /* then this is
+     * treated as a path prefix, otherwise it is treated as an exact match.
+     */
+    @ConfigItem
+    public Optional<List<String>> priorityPaths;
+}
@@ -0,0 +1,153 @@
+package io.quarkus.vertx.http.runtime.shedding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.concurrent.EventExecutor;
+import io.quarkus.runtime.CleanableExecutor;
+import io.quarkus.vertx.http.runtime.security.PathMatcher;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Rejects a growing proportion of the requests with {@code 503 Service Unavailable} when the worker queue or the event
+ * loop lag exceed their threshold.
+ * <p>
+ * Each event loop runs a probe that measures how late it is run, and samples the size of the worker queue. The
+ * proportion of rejected requests is computed by the probes, so that the filter itself only reads a volatile field. A
+ * blocked event loop is detected even though its own probe cannot run, as the other probes see it is overdue.
+ */
+public class LoadSheddingFilter implements Handler<RoutingContext> {
+
+    private static final Logger log = Logger.getLogger(LoadSheddingFilter.class);
+
+    private final Executor executor;
+    private final int queueThreshold;
+    private final long lagThreshold;
+    private final long interval;
+    private final PathMatcher<Boolean> priorityPaths = new PathMatcher<>();
+    private final List<Probe> probes = new ArrayList<>();
+
+    private volatile double shedRatio;
+    private volatile boolean stopped;
+
+    LoadSheddingFilter(LoadSheddingConfig config, Executor executor) {
+        this.executor = executor;
+        this.queueThreshold = config.workerQueueThreshold;
+        this.lagThreshold = config.eventLoopLagThreshold.toNanos();
+        this.interval = config.probeInterval.toNanos();
+        for (String path : config.priorityPaths.orElse(Collections.emptyList())) {
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                priorityPaths.addPrefixPath(stripped.isEmpty() ? "/" : stripped, Boolean.TRUE);
+            } else if (path.endsWith("*")) {
+                priorityPaths.addPrefixPath(path.substring(0, path.length() - 1), Boolean.TRUE);
+            } else {
+                priorityPaths.addExactPath(path, Boolean.TRUE);
+            }
+        }
+    }
+
+    void start(Vertx vertx) {
+        long now = System.nanoTime();
+        for (EventExecutor loop : vertx.nettyEventLoopGroup()) {
+            Probe probe = new Probe(loop);
+            probes.add(probe);
+        }
+        for (Probe probe : probes) {
+            probe.schedule(now);
+        }
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        double ratio = shedRatio;
+        if (ratio > 0 && (ratio >= 1 || ThreadLocalRandom.current().nextDouble() < ratio)
+                && priorityPaths.match(context.normalisedPath()).getValue() == null) {
+            context.response().setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code()).end();
+            return;
+        }
+        context.next();
+    }
+
+    private void update(long now) {
+        long lag = 0;
+        for (Probe probe : probes) {
+            lag = Math.max(lag, probe.lag(now));
+        }
+        int queueSize = queueSize();
+        double pressure = 0;
+        if (queueThreshold > 0) {
+            pressure = (double) queueSize / queueThreshold;
+        }
+        if (lagThreshold > 0) {
+            pressure = Math.max(pressure, (double) lag / lagThreshold);
+        }
+        double ratio = Math.min(1, Math.max(0, pressure - 1));
+        double previous = shedRatio;
+        shedRatio = ratio;
+        if (ratio > 0 && previous == 0) {
+            log.warnf("Overloaded, rejecting requests (worker queue: %d, event loop lag: %d ms)", queueSize,
+                    TimeUnit.NANOSECONDS.toMillis(lag));
+        } else if (ratio == 0 && previous > 0) {
+            log.info("No longer overloaded, accepting all requests");
+        }
+    }
+
+    private int queueSize() {
+        if (executor instanceof EnhancedQueueExecutor) {
+            return ((EnhancedQueueExecutor) executor).getQueueSize();
+        } else if (executor instanceof CleanableExecutor) {
+            return ((CleanableExecutor) executor).getQueueSize();
+        }
+        return 0;
+    }
+
+    private final class Probe implements Runnable {
+
+        private final EventExecutor loop;
+        private volatile long expected;
+        private volatile long lag;
+
+        Probe(EventExecutor loop) {
+            this.loop = loop;
+        }
+
+        void schedule(long now) {
+            expected = now + interval;
+            loop.schedule(this, interval, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return the average lag of the last runs, or how much the next run is overdue if it is more
+         */
+        long lag(long now) {
+            return Math.max(lag, now - expected);
+        }
+
+        @Override
+        public void run() {
+            if (stopped) {
+                return;
+            }
+            long now = System.nanoTime();
+            // Smoothed so that a single late run, e.g. during the startup, does not trigger the shedding
+            lag = (lag + Math.max(0, now - expected)) / 2;
+            schedule(now);
+            update(now);
+        }
+    }
+}
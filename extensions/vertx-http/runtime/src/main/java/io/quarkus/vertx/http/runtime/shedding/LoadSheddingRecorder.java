@@ -0,0 +1,31 @@
+package io.quarkus.vertx.http.runtime.shedding;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class LoadSheddingRecorder {
+
+    public Handler<RoutingContext> loadSheddingHandler(Supplier<Vertx> vertx, Executor executor,
+            HttpConfiguration configuration, ShutdownContext shutdown) {
+        if (!configuration.loadShedding.enabled) {
+            return null;
+        }
+        LoadSheddingFilter filter = new LoadSheddingFilter(configuration.loadShedding, executor);
+        filter.start(vertx.get());
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                filter.stop();
+            }
+        });
+        return filter;
+    }
+}
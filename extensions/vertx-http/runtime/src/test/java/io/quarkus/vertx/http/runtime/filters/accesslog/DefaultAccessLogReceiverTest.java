@@ -0,0 +1,106 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultAccessLogReceiverTest {
+
+    private Path logDirectory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        logDirectory = Files.createTempDirectory("access-log");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(logDirectory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    void shouldWriteAllMessagesInOrder() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                    .setLogWriteExecutor(executor)
+                    .setOutputDirectory(logDirectory)
+                    .setLogBaseName("access")
+                    .setLogNameSuffix(".log")
+                    .build();
+            for (int i = 0; i < 5000; i++) {
+                receiver.logMessage("GET /caf\u00e9/" + i);
+            }
+            receiver.awaitWrittenForTest();
+
+            List<String> lines = Files.readAllLines(logDirectory.resolve("access.log"), StandardCharsets.UTF_8);
+            assertThat(lines).hasSize(5000);
+            assertThat(lines.get(0)).isEqualTo("GET /caf\u00e9/0");
+            assertThat(lines.get(4999)).isEqualTo("GET /caf\u00e9/4999");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldDropMessagesWhenFull() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("access")
+                .setLogNameSuffix(".log")
+                .setBufferSize(4)
+                .build();
+        long dropped = DefaultAccessLogReceiver.getDroppedMessages();
+        for (int i = 0; i < 6; i++) {
+            receiver.logMessage("message " + i);
+        }
+        assertThat(DefaultAccessLogReceiver.getDroppedMessages() - dropped).isEqualTo(2);
+
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+        List<String> lines = Files.readAllLines(logDirectory.resolve("access.log"), StandardCharsets.UTF_8);
+        assertThat(lines).containsExactly("message 0", "message 1", "message 2", "message 3");
+
+        // the entries are reused once written
+        receiver.logMessage("message 6");
+        tasks.remove(0).run();
+        lines = Files.readAllLines(logDirectory.resolve("access.log"), StandardCharsets.UTF_8);
+        assertThat(lines).endsWith("message 6");
+    }
+
+    @Test
+    void shouldFormatJson() {
+        AccessLogFormat format = AccessLogFormat.parse("%m \"%{i,X-Test}\" %q", true, getClass().getClassLoader());
+        StringBuilder sb = new StringBuilder();
+        format.format(new String[] { "GET", "a \"b\"\n", null }, sb);
+        assertThat(sb.toString()).isEqualTo("{\"method\":\"GET\",\"header_x-test\":\"a \\\"b\\\"\\n\",\"query_string\":null}");
+    }
+
+    @Test
+    void shouldNameJsonFields() {
+        assertThat(AccessLogFormat.fieldName("%h")).isEqualTo("remote_host");
+        assertThat(AccessLogFormat.fieldName("%{RESPONSE_TIME}")).isEqualTo("response_time");
+        assertThat(AccessLogFormat.fieldName("%{o,Content-Type}")).isEqualTo("response_header_content-type");
+        assertThat(AccessLogFormat.fieldName(" \"")).isNull();
+        assertThat(AccessLogFormat.fieldName(null)).isNull();
+    }
+}
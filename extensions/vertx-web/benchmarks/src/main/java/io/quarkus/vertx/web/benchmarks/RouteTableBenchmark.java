@@ -0,0 +1,183 @@
+package io.quarkus.vertx.web.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.vertx.web.runtime.RouteTable;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Compares the dispatching of a request by a {@link RouteTable} with the dispatching by a {@link Router} that has one
+ * route per path, depending on the number of routes.
+ * <p>
+ * Half of the routes are static and the other half have two path parameters. The requests cycle over the first, a
+ * middle and the last route of each kind. Both {@code table} and {@code router} dispatch the request through a router,
+ * the table being looked up by its single route, so that the difference is the cost of finding the route.
+ * {@code match} only looks up the table.
+ * <p>
+ * Build with {@code mvn install -Pbenchmarks} and run with {@code java -jar benchmarks/target/benchmarks.jar RouteTable}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RouteTableBenchmark {
+
+    @Param({ "10", "100", "400" })
+    public int routes;
+
+    private Vertx vertx;
+    private Router router;
+    private Router tableRouter;
+    private RouteTable table;
+    private String[] paths;
+    private HttpServerRequest[] requests;
+    private int next;
+    private long handled;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        router = Router.router(vertx);
+        table = new RouteTable();
+        Handler<RoutingContext> handler = ctx -> handled++;
+        HttpMethod[] methods = new HttpMethod[] { HttpMethod.GET };
+        for (int i = 0; i < routes; i++) {
+            String path = path(i, ":id", ":item");
+            router.get(path).handler(handler);
+            table.add(path, methods, handler);
+        }
+        tableRouter = Router.router(vertx);
+        tableRouter.route().handler(ctx -> {
+            RouteTable.Match match = table.match(ctx.normalisedPath(), ctx.request().method());
+            if (match == null) {
+                ctx.next();
+            } else {
+                match.handle(ctx);
+            }
+        });
+
+        List<String> requested = new ArrayList<>();
+        int[] indexes = new int[] { 0, 1, routes / 2, routes / 2 + 1, routes - 2, routes - 1 };
+        for (int index : indexes) {
+            requested.add(path(index, "42", "foo"));
+        }
+        paths = requested.toArray(new String[0]);
+        requests = new HttpServerRequest[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            requests[i] = request(paths[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public long router() {
+        router.handle(nextRequest());
+        return handled;
+    }
+
+    @Benchmark
+    public long table() {
+        tableRouter.handle(nextRequest());
+        return handled;
+    }
+
+    @Benchmark
+    public RouteTable.Match match() {
+        String path = paths[next];
+        next = (next + 1) % paths.length;
+        return table.match(path, HttpMethod.GET);
+    }
+
+    private HttpServerRequest nextRequest() {
+        HttpServerRequest request = requests[next];
+        next = (next + 1) % requests.length;
+        request.params().clear();
+        return request;
+    }
+
+    private static String path(int index, String id, String item) {
+        return index % 2 == 0 ? "/static/" + index + "/items" : "/param/" + index + "/" + id + "/items/" + item;
+    }
+
+    /**
+     * @return a request with the given path, the methods that are not used by the router return default values
+     */
+    private static HttpServerRequest request(String path) {
+        MultiMap params = MultiMap.caseInsensitiveMultiMap();
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        HttpServerResponse response = stub(HttpServerResponse.class, null);
+        return stub(HttpServerRequest.class, (name) -> {
+            switch (name) {
+                case "path":
+                case "uri":
+                    return path;
+                case "absoluteURI":
+                    return "http://localhost:8080" + path;
+                case "host":
+                    return "localhost:8080";
+                case "method":
+                    return HttpMethod.GET;
+                case "params":
+                    return params;
+                case "headers":
+                    return headers;
+                case "response":
+                    return response;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Function<String, Object> values) {
+        return (T) Proxy.newProxyInstance(RouteTableBenchmark.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Object value = values == null ? null : values.apply(method.getName());
+                    if (value != null) {
+                        return value;
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    } else if (returnType == int.class) {
+                        return 0;
+                    } else if (returnType == long.class) {
+                        return 0L;
+                    } else if (returnType.isInstance(proxy)) {
+                        return proxy;
+                    }
+                    return null;
+                });
+    }
+}
@@ -69,6 +69,7 @@ import io.quarkus.gizmo.FieldCreator;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
@@ -79,6 +80,7 @@ import io.quarkus.vertx.web.RouteFilter;
 import io.quarkus.vertx.web.RoutingExchange;
 import io.quarkus.vertx.web.runtime.RouteHandler;
 import io.quarkus.vertx.web.runtime.RouteMatcher;
+import io.quarkus.vertx.web.runtime.RouteTable;
 import io.quarkus.vertx.web.runtime.RoutingExchangeImpl;
 import io.quarkus.vertx.web.runtime.VertxWebRecorder;
 import io.vertx.core.Handler;
@@ -216,6 +218,8 @@ class VertxWebProcessor {
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
         IndexView index = beanArchive.getIndex();
         Map<RouteMatcher, MethodInfo> matchers = new HashMap<>();
+        Map<Integer, RuntimeValue<RouteTable>> routeTables = new HashMap<>();
+        boolean methodsRestricted = false;
 
         for (AnnotatedRouteHandlerBuildItem businessMethod : routeHandlerBusinessMethods) {
 
@@ -292,8 +296,6 @@ class VertxWebProcessor {
 
                 RouteMatcher matcher = new RouteMatcher(path, regex, produces, consumes, methods, order);
                 matchers.put(matcher, businessMethod.getMethod());
-                Function<Router, io.vertx.ext.web.Route> routeFunction = recorder.createRouteFunction(matcher,
-                        bodyHandler.getHandler());
                 AnnotationValue typeValue = route.value("type");
                 HandlerType handlerType = HandlerType.NORMAL;
                 if (typeValue != null) {
@@ -312,10 +314,33 @@ class VertxWebProcessor {
                             throw new IllegalStateException("Unkown type " + typeString);
                     }
                 }
+                if (handlerType != HandlerType.FAILURE && produces.length == 0 && consumes.length == 0
+                        && RouteTable.isSupported(path)) {
+                    // The routes with the same order are dispatched by a single route matching the path with a trie,
+                    // the order of the routes that can match the same request is not defined anyway
+                    RuntimeValue<RouteTable> table = routeTables.get(order);
+                    if (table == null) {
+                        table = recorder.createRouteTable();
+                        routeTables.put(order, table);
+                        routeProducer.produce(new RouteBuildItem(
+                                recorder.createRouteTableFunction(table, order, bodyHandler.getHandler()),
+                                recorder.createRouteTableHandler(table, bodyHandler.getHandler())));
+                    }
+                    recorder.addTableRoute(table, path, methods, routingHandler, handlerType);
+                    methodsRestricted |= methods.length > 0;
+                    continue;
+                }
+                Function<Router, io.vertx.ext.web.Route> routeFunction = recorder.createRouteFunction(matcher,
+                        bodyHandler.getHandler());
                 routeProducer.produce(new RouteBuildItem(routeFunction, routingHandler, handlerType));
             }
         }
 
+        if (methodsRestricted) {
+            routeProducer.produce(new RouteBuildItem(recorder.createMethodNotAllowedRouteFunction(),
+                    recorder.createMethodNotAllowedHandler()));
+        }
+
         for (AnnotatedRouteFilterBuildItem filterMethod : routeFilterBusinessMethods) {
             String handlerClass = generateHandler(filterMethod.getBean(), filterMethod.getMethod(), classOutput);
             reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
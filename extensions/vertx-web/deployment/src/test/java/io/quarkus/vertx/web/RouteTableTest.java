@@ -0,0 +1,122 @@
+package io.quarkus.vertx.web;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.PUT;
+import static org.hamcrest.Matchers.is;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.RoutingContext;
+
+public class RouteTableTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class));
+
+    @Test
+    public void testStaticPaths() {
+        when().get("/items").then().statusCode(200).body(is("items"));
+        when().get("/items/").then().statusCode(200).body(is("items"));
+        when().get("/items/latest").then().statusCode(200).body(is("latest"));
+        when().get("/other").then().statusCode(404);
+    }
+
+    @Test
+    public void testParameters() {
+        when().get("/items/42").then().statusCode(200).body(is("item 42"));
+        when().get("/items/a%20b").then().statusCode(200).body(is("item a b"));
+        when().get("/items/42/parts/7").then().statusCode(200).body(is("part 7 of 42"));
+        // A trailing slash is not ignored if the path has parameters
+        when().get("/items/42/").then().statusCode(404);
+    }
+
+    @Test
+    public void testMethods() {
+        given().body("x").put("/items/42").then().statusCode(200).body(is("updated 42"));
+        when().delete("/items/42").then().statusCode(405);
+    }
+
+    @Test
+    public void testPrefix() {
+        when().get("/static").then().statusCode(200).body(is("static /static"));
+        when().get("/static/css/main.css").then().statusCode(200).body(is("static /static/css/main.css"));
+        when().get("/statics").then().statusCode(404);
+    }
+
+    @Test
+    public void testOrderAndNext() {
+        when().get("/chain").then().statusCode(200).body(is("first,second"));
+    }
+
+    @Test
+    public void testBlockingAndRegex() {
+        when().get("/blocking").then().statusCode(200).body(is("true"));
+        when().get("/regex-123").then().statusCode(200).body(is("regex"));
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        @Route(path = "/items", methods = GET)
+        void items(RoutingContext context) {
+            context.response().end("items");
+        }
+
+        @Route(path = "/items/latest", methods = GET)
+        void latest(RoutingContext context) {
+            context.response().end("latest");
+        }
+
+        @Route(path = "/items/:id", methods = GET)
+        void item(RoutingContext context) {
+            context.response().end("item " + context.pathParam("id"));
+        }
+
+        @Route(path = "/items/:id", methods = PUT)
+        void update(RoutingContext context) {
+            context.response().end("updated " + context.request().getParam("id"));
+        }
+
+        @Route(path = "/items/:item/parts/:part", methods = GET)
+        void part(RoutingContext context) {
+            context.response().end("part " + context.pathParam("part") + " of " + context.pathParam("item"));
+        }
+
+        @Route(path = "/static/*")
+        void staticResources(RoutingContext context) {
+            context.response().end("static " + context.normalisedPath());
+        }
+
+        @Route(path = "/chain", order = 1)
+        void first(RoutingContext context) {
+            context.put("chain", "first");
+            context.next();
+        }
+
+        @Route(path = "/chain", order = 2)
+        void second(RoutingContext context) {
+            context.response().end(context.get("chain") + ",second");
+        }
+
+        @Route(path = "/blocking", type = Route.HandlerType.BLOCKING)
+        void blocking(RoutingContext context) {
+            context.response().end(String.valueOf(BlockingOperationControl.isBlockingAllowed()));
+        }
+
+        @Route(regex = "/regex-\\d+")
+        void regex(RoutingContext context) {
+            context.response().end("regex");
+        }
+    }
+}
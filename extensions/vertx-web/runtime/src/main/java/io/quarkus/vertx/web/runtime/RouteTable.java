@@ -0,0 +1,248 @@
+package io.quarkus.vertx.web.runtime;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.net.impl.URIDecoder;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A trie of the paths of reactive routes, so that a request is matched by walking the trie once instead of matching it
+ * against every route in turn.
+ * <p>
+ * A path is made of static segments and {@code :name} parameters, and may end with {@code /*} to match any path with
+ * the same prefix. The routes that cannot be represented, e.g. regular expressions, are registered with the router.
+ * The paths are matched the same way as the router does: the normalised path is used, a trailing slash is ignored if
+ * the path has no parameters, and the routes registered first take precedence.
+ */
+public class RouteTable {
+
+    private static final Pattern PARAM_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+
+    private final Node root = new Node();
+    private int size;
+    private int maxParams;
+
+    /**
+     * @return whether the given path can be added to a table
+     */
+    public static boolean isSupported(String path) {
+        if (path == null || !path.startsWith("/")) {
+            return false;
+        }
+        if (path.equals("/") || path.equals("/*")) {
+            return true;
+        }
+        boolean prefix = path.endsWith("/*");
+        if (prefix) {
+            path = path.substring(0, path.length() - 2);
+        }
+        Set<String> params = new HashSet<>();
+        for (String segment : path.substring(1).split("/", -1)) {
+            if (segment.isEmpty() || segment.indexOf('*') >= 0) {
+                return false;
+            }
+            int colon = segment.indexOf(':');
+            if (colon > 0 || (colon == 0 && (!PARAM_NAME.matcher(segment.substring(1)).matches()
+                    || !params.add(segment.substring(1))))) {
+                return false;
+            }
+        }
+        // The router requires a slash after the parameters of a prefix
+        return !(prefix && !params.isEmpty());
+    }
+
+    /**
+     * @param path a path accepted by {@link #isSupported(String)}
+     * @param methods the accepted methods, or an empty array for any method
+     */
+    public void add(String path, HttpMethod[] methods, Handler<RoutingContext> handler) {
+        if (!isSupported(path)) {
+            throw new IllegalArgumentException("Unsupported path: " + path);
+        }
+        boolean prefix = path.endsWith("/*");
+        if (prefix) {
+            path = path.substring(0, path.length() - 2);
+        }
+        Node node = root;
+        String[] names = new String[0];
+        if (path.length() > 1) {
+            String[] segments = path.substring(1).split("/");
+            names = new String[segments.length];
+            int params = 0;
+            for (String segment : segments) {
+                if (segment.charAt(0) == ':') {
+                    if (node.param == null) {
+                        node.param = new Node();
+                    }
+                    node = node.param;
+                    names[params++] = segment.substring(1);
+                } else {
+                    node = node.children.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            String[] paramNames = new String[params];
+            System.arraycopy(names, 0, paramNames, 0, params);
+            names = paramNames;
+            maxParams = Math.max(maxParams, params);
+        }
+        Entry entry = new Entry(size++, names, methods, handler);
+        if (prefix) {
+            node.prefix = append(node.prefix, entry);
+        } else {
+            node.exact = append(node.exact, entry);
+        }
+    }
+
+    /**
+     * Finds the route of a request.
+     *
+     * @return the route, or null if no route matches the path and method of the request
+     */
+    public Match match(String path, HttpMethod method) {
+        Match match = new Match(new String[maxParams]);
+        find(root, path, 1, 0, method, match);
+        return match.entry != null || match.methodNotAllowed ? match : null;
+    }
+
+    private void find(Node node, String path, int start, int depth, HttpMethod method, Match match) {
+        if (node.prefix != null) {
+            match.consider(node.prefix, method, depth);
+        }
+        int length = path.length();
+        if (start >= length) {
+            if (node.exact != null) {
+                // The router ignores a trailing slash, unless the path has parameters
+                boolean trailingSlash = start > 1 && path.charAt(length - 1) == '/';
+                match.consider(node.exact, method, trailingSlash ? -1 : depth);
+            }
+            return;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        int next = end + 1 < length ? end + 1 : length;
+        if (!node.children.isEmpty()) {
+            Node child = node.children.get(path.substring(start, end));
+            if (child != null) {
+                find(child, path, next, depth, method, match);
+            }
+        }
+        if (node.param != null && end > start) {
+            match.values[depth] = path.substring(start, end);
+            find(node.param, path, next, depth + 1, method, match);
+        }
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        if (entries == null) {
+            return new Entry[] { entry };
+        }
+        Entry[] result = new Entry[entries.length + 1];
+        System.arraycopy(entries, 0, result, 0, entries.length);
+        result[entries.length] = entry;
+        return result;
+    }
+
+    private static final class Node {
+
+        final Map<String, Node> children = new HashMap<>();
+        Node param;
+        Entry[] exact;
+        Entry[] prefix;
+    }
+
+    private static final class Entry {
+
+        final int index;
+        final String[] params;
+        final HttpMethod[] methods;
+        final Handler<RoutingContext> handler;
+
+        Entry(int index, String[] params, HttpMethod[] methods, Handler<RoutingContext> handler) {
+            this.index = index;
+            this.params = params;
+            this.methods = methods;
+            this.handler = handler;
+        }
+
+        boolean accepts(HttpMethod method) {
+            if (methods.length == 0) {
+                return true;
+            }
+            for (HttpMethod m : methods) {
+                if (m == method) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The route matching a request, and the values of its path parameters.
+     */
+    public static final class Match {
+
+        private final String[] values;
+        private Entry entry;
+        private String[] params;
+        private boolean methodNotAllowed;
+
+        Match(String[] values) {
+            this.values = values;
+        }
+
+        /**
+         * @param params the number of parameters in the path, or -1 if only the routes without parameters match
+         */
+        void consider(Entry[] entries, HttpMethod method, int params) {
+            for (Entry candidate : entries) {
+                if (params < 0 && candidate.params.length > 0) {
+                    continue;
+                }
+                if (!candidate.accepts(method)) {
+                    methodNotAllowed = true;
+                    continue;
+                }
+                if (entry == null || candidate.index < entry.index) {
+                    entry = candidate;
+                    this.params = new String[candidate.params.length];
+                    System.arraycopy(values, 0, this.params, 0, this.params.length);
+                }
+                // The entries of a node are sorted
+                return;
+            }
+        }
+
+        /**
+         * @return whether the path matches a route that does not accept the method of the request
+         */
+        public boolean isMethodNotAllowed() {
+            return entry == null && methodNotAllowed;
+        }
+
+        /**
+         * Adds the path parameters to the request and invokes the handler of the route.
+         */
+        public void handle(RoutingContext context) {
+            HttpServerRequest request = context.request();
+            for (int i = 0; i < params.length; i++) {
+                String name = entry.params[i];
+                String value = URIDecoder.decodeURIComponent(params[i], false);
+                if (!request.params().contains(name)) {
+                    request.params().add(name, value);
+                }
+                context.pathParams().put(name, value);
+            }
+            entry.handler.handle(context);
+        }
+    }
+}
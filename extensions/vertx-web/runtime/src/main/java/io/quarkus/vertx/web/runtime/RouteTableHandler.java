@@ -0,0 +1,80 @@
+package io.quarkus.vertx.web.runtime;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Dispatches the requests to the routes of a {@link RouteTable}.
+ * <p>
+ * If the body handler is needed, the route is matched first and the body is only read if a route matches, then this
+ * handler dispatches the request once the body is read.
+ */
+public class RouteTableHandler implements Handler<RoutingContext> {
+
+    static final String MATCH = RouteTableHandler.class.getName() + ".match";
+    static final String METHOD_NOT_ALLOWED = RouteTableHandler.class.getName() + ".methodNotAllowed";
+
+    private final RouteTable table;
+    private final boolean matched;
+
+    /**
+     * @param matched whether the request was matched by {@link #bodyHandler(RouteTable, Handler)}
+     */
+    RouteTableHandler(RouteTable table, boolean matched) {
+        this.table = table;
+        this.matched = matched;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        RouteTable.Match match = matched ? context.get(MATCH) : match(table, context);
+        if (match == null) {
+            context.next();
+        } else if (match.isMethodNotAllowed()) {
+            context.put(METHOD_NOT_ALLOWED, Boolean.TRUE);
+            context.next();
+        } else {
+            match.handle(context);
+        }
+    }
+
+    private static RouteTable.Match match(RouteTable table, RoutingContext context) {
+        return table.match(context.normalisedPath(), context.request().method());
+    }
+
+    /**
+     * @return a handler matching the request and reading its body if a route matches
+     */
+    static Handler<RoutingContext> bodyHandler(RouteTable table, Handler<RoutingContext> bodyHandler) {
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext context) {
+                RouteTable.Match match = match(table, context);
+                context.put(MATCH, match);
+                if (match != null && !match.isMethodNotAllowed()) {
+                    bodyHandler.handle(context);
+                } else {
+                    context.next();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return a handler failing with {@code 405 Method Not Allowed} the requests that matched the path of a route but not
+     *         its methods, and no other route, as the router does for the routes registered with it
+     */
+    static Handler<RoutingContext> methodNotAllowedHandler() {
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext context) {
+                if (context.get(METHOD_NOT_ALLOWED) != null) {
+                    context.fail(HttpResponseStatus.METHOD_NOT_ALLOWED.code());
+                } else {
+                    context.next();
+                }
+            }
+        };
+    }
+}
@@ -3,12 +3,15 @@ package io.quarkus.vertx.web.runtime;
 import java.lang.reflect.InvocationTargetException;
 import java.util.function.Function;
 
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.HandlerType;
 import io.quarkus.vertx.http.runtime.RouterProducer;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.BlockingHandlerDecorator;
 
 @Recorder
 public class VertxWebRecorder {
@@ -69,4 +72,51 @@ public class VertxWebRecorder {
         };
     }
 
+    public RuntimeValue<RouteTable> createRouteTable() {
+        return new RuntimeValue<>(new RouteTable());
+    }
+
+    public void addTableRoute(RuntimeValue<RouteTable> table, String path, HttpMethod[] methods,
+            Handler<RoutingContext> handler, HandlerType type) {
+        if (type == HandlerType.BLOCKING) {
+            handler = new BlockingHandlerDecorator(handler, true);
+        }
+        table.getValue().add(path, methods, handler);
+    }
+
+    public Function<Router, io.vertx.ext.web.Route> createRouteTableFunction(RuntimeValue<RouteTable> table, int order,
+            Handler<RoutingContext> bodyHandler) {
+        return new Function<Router, io.vertx.ext.web.Route>() {
+            @Override
+            public io.vertx.ext.web.Route apply(Router router) {
+                io.vertx.ext.web.Route route = router.route();
+                if (order > 0) {
+                    route.order(order);
+                }
+                if (bodyHandler != null) {
+                    route.handler(RouteTableHandler.bodyHandler(table.getValue(), bodyHandler));
+                }
+                return route;
+            }
+        };
+    }
+
+    public Handler<RoutingContext> createRouteTableHandler(RuntimeValue<RouteTable> table,
+            Handler<RoutingContext> bodyHandler) {
+        return new RouteTableHandler(table.getValue(), bodyHandler != null);
+    }
+
+    public Function<Router, io.vertx.ext.web.Route> createMethodNotAllowedRouteFunction() {
+        return new Function<Router, io.vertx.ext.web.Route>() {
+            @Override
+            public io.vertx.ext.web.Route apply(Router router) {
+                return router.route().last();
+            }
+        };
+    }
+
+    public Handler<RoutingContext> createMethodNotAllowedHandler() {
+        return RouteTableHandler.methodNotAllowedHandler();
+    }
+
 }
@@ -0,0 +1,155 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableInterceptor;
+import io.quarkus.arc.impl.InterceptorInvocation;
+import io.quarkus.arc.impl.InvocationContexts;
+import io.quarkus.arc.impl.SubclassMethodMetadata;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.interceptor.InvocationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of an intercepted method invocation depending on the number of interceptors in the chain.
+ * <p>
+ * The benchmark mirrors the code of the intercepted methods of the generated subclasses: the interceptor chain and the
+ * forwarding function are built once per bean instance and an invocation only creates the parameters array, if any, and
+ * the invocation contexts. With no interceptors the target method is invoked directly.
+ * <p>
+ * Build with {@code mvn install -Pbenchmarks} and run with {@code java -jar benchmarks/target/benchmarks.jar InterceptorChain}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InterceptorChainBenchmark {
+
+    @Param({ "0", "1", "2", "3", "4", "5" })
+    public int interceptors;
+
+    private Target target;
+
+    private SubclassMethodMetadata noParamsMetadata;
+
+    private SubclassMethodMetadata paramsMetadata;
+
+    @Setup
+    public void setup() {
+        target = new Target();
+        List<InterceptorInvocation> chain = new ArrayList<>();
+        for (int i = 0; i < interceptors; i++) {
+            PassThroughInterceptor interceptor = new PassThroughInterceptor(i);
+            chain.add(InterceptorInvocation.aroundInvoke(interceptor, interceptor));
+        }
+        Set<Annotation> bindings = Collections.emptySet();
+        Function<InvocationContext, Object> noParamsForward = ctx -> target.ping();
+        Function<InvocationContext, Object> paramsForward = ctx -> target.echo((String) ctx.getParameters()[0]);
+        noParamsMetadata = new SubclassMethodMetadata(chain, null, bindings, noParamsForward);
+        paramsMetadata = new SubclassMethodMetadata(chain, null, bindings, paramsForward);
+    }
+
+    @Benchmark
+    public Object invokeNoParams() throws Exception {
+        if (interceptors == 0) {
+            return target.ping();
+        }
+        return InvocationContexts.performAroundInvoke(target, InvocationContexts.EMPTY_PARAMETERS, noParamsMetadata);
+    }
+
+    @Benchmark
+    public Object invokeParams() throws Exception {
+        if (interceptors == 0) {
+            return target.echo("foo");
+        }
+        return InvocationContexts.performAroundInvoke(target, new Object[] { "foo" }, paramsMetadata);
+    }
+
+    static class Target {
+
+        String ping() {
+            return "pong";
+        }
+
+        String echo(String value) {
+            return value;
+        }
+
+    }
+
+    static class PassThroughInterceptor implements InjectableInterceptor<PassThroughInterceptor> {
+
+        private final int priority;
+
+        PassThroughInterceptor(int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "interceptor" + priority;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(PassThroughInterceptor.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return PassThroughInterceptor.class;
+        }
+
+        @Override
+        public PassThroughInterceptor create(CreationalContext<PassThroughInterceptor> creationalContext) {
+            return this;
+        }
+
+        @Override
+        public PassThroughInterceptor get(CreationalContext<PassThroughInterceptor> creationalContext) {
+            return this;
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean intercepts(InterceptionType type) {
+            return InterceptionType.AROUND_INVOKE.equals(type);
+        }
+
+        @Override
+        public Object intercept(InterceptionType type, PassThroughInterceptor instance, InvocationContext ctx)
+                throws Exception {
+            return ctx.proceed();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.CreationalContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full request context cycle: activation, lookup of a request scoped bean instance and termination.
+ * <p>
+ * The indexed bean is stored in the array of the request context state, as every request scoped bean generated by ArC. The
+ * non-indexed bean is stored in the fallback map, which is how all instances were stored before.
+ * <p>
+ * Build with {@code mvn install -Pbenchmarks} and run with {@code java -jar benchmarks/target/benchmarks.jar RequestContext}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestContextBenchmark {
+
+    private ManagedContext requestContext;
+
+    private InjectableBean<Object> indexedBean;
+
+    private InjectableBean<Object> nonIndexedBean;
+
+    @Setup
+    public void setup() {
+        Arc.initialize();
+        requestContext = Arc.container().requestContext();
+        indexedBean = new SimpleRequestScopedBean("indexed", 0);
+        nonIndexedBean = new SimpleRequestScopedBean("non-indexed", -1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public Object activateGetTerminateIndexed() {
+        return cycle(indexedBean);
+    }
+
+    @Benchmark
+    public Object activateGetTerminateNonIndexed() {
+        return cycle(nonIndexedBean);
+    }
+
+    private Object cycle(InjectableBean<Object> bean) {
+        requestContext.activate();
+        try {
+            Object instance = requestContext.get(bean, new CreationalContextImpl<>(bean));
+            // The second lookup hits the existing instance
+            requestContext.get(bean);
+            return instance;
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    static class SimpleRequestScopedBean implements InjectableBean<Object> {
+
+        private final String identifier;
+
+        private final int requestContextIndex;
+
+        SimpleRequestScopedBean(String identifier, int requestContextIndex) {
+            this.identifier = identifier;
+            this.requestContextIndex = requestContextIndex;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public int getRequestContextIndex() {
+            return requestContextIndex;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+}
@@ -68,6 +68,8 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final boolean defaultBean;
 
+    private int requestContextIndex = -1;
+
     // Following fields are only used by synthetic beans
 
     private final boolean removable;
@@ -338,6 +340,18 @@ public class BeanInfo implements InjectionTargetInfo {
         return defaultBean;
     }
 
+    /**
+     *
+     * @return the index of the instance in the request context storage, or {@code -1} if the bean is not request scoped
+     */
+    public int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    void setRequestContextIndex(int requestContextIndex) {
+        this.requestContextIndex = requestContextIndex;
+    }
+
     Consumer<MethodCreator> getCreatorConsumer() {
         return creatorConsumer;
     }
@@ -182,6 +182,14 @@ public class BeanProcessor {
             }
         }
 
+        // Assign a storage index to each request scoped bean so that the request context does not need a map lookup
+        int requestContextIndex = 0;
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                bean.setRequestContextIndex(requestContextIndex++);
+            }
+        }
+
         // Generate beans
         for (BeanInfo bean : beanDeployment.getBeans()) {
             for (Resource resource : beanGenerator.generate(bean, reflectionRegistration)) {
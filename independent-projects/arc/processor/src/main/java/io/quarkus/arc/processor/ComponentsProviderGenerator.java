@@ -7,6 +7,7 @@ import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.InjectionPointInfo.TypeAndQualifiers;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.MethodCreator;
@@ -14,7 +15,9 @@ import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -28,7 +31,9 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type.Kind;
 import org.objectweb.asm.Type;
 
 /**
@@ -41,6 +46,12 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String SETUP_PACKAGE = Arc.class.getPackage().getName() + ".setup";
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_DEFAULT_RESOLUTION = "addDefaultResolution";
+    private static final int DEFAULT_RESOLUTION_GROUP_LIMIT = 100;
+
+    // Required types that are never resolved at build time - built-in beans are only registered at runtime
+    private static final Set<DotName> UNRESOLVED_TYPES = new HashSet<>(
+            Arrays.asList(DotNames.OBJECT, DotNames.BEAN_MANAGER, DotNames.EVENT, DotNames.INSTANCE));
 
     protected final AnnotationLiteralProcessor annotationLiterals;
 
@@ -107,14 +118,20 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
                     getComponents.loadClass(entry.getKey().toString()), bindingsHandle);
         }
 
+        // Break the build-time resolution into multiple addDefaultResolution() methods
+        // Map<String, InjectableBean<?>>
+        ResultHandle defaultResolutionHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        processDefaultResolution(componentsProvider, getComponents, beanDeployment, beanIdToBeanHandle,
+                defaultResolutionHandle);
+
         ResultHandle beansHandle = getComponents.invokeInterfaceMethod(
                 MethodDescriptor.ofMethod(Map.class, "values", Collection.class),
                 beanIdToBeanHandle);
 
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Map.class),
-                beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle);
+                        Map.class, Map.class),
+                beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle, defaultResolutionHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -198,6 +215,112 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         }
     }
 
+    private void processDefaultResolution(ClassCreator componentsProvider, MethodCreator getComponents,
+            BeanDeployment beanDeployment, ResultHandle beanIdToBeanHandle, ResultHandle defaultResolutionHandle) {
+        MethodCreator addMethod = null;
+        int group = 1;
+        int added = 0;
+        for (Entry<String, BeanInfo> entry : initDefaultResolution(beanDeployment).entrySet()) {
+            if (addMethod == null || added >= DEFAULT_RESOLUTION_GROUP_LIMIT) {
+                if (addMethod != null) {
+                    addMethod.returnValue(null);
+                }
+                added = 0;
+                addMethod = componentsProvider
+                        .getMethodCreator(ADD_DEFAULT_RESOLUTION + group++, void.class, Map.class, Map.class)
+                        .setModifiers(ACC_PRIVATE);
+                getComponents.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                                addMethod.getMethodDescriptor().getName(), void.class, Map.class, Map.class),
+                        getComponents.getThis(), beanIdToBeanHandle, defaultResolutionHandle);
+            }
+            added++;
+            ResultHandle beanHandle = addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_GET, addMethod.getMethodParam(0),
+                    addMethod.load(entry.getValue().getIdentifier()));
+            addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, addMethod.getMethodParam(1),
+                    addMethod.load(entry.getKey()), beanHandle);
+        }
+        if (addMethod != null) {
+            addMethod.returnValue(null);
+        }
+    }
+
+    /**
+     * Performs the typesafe resolution for each raw bean type and the {@code @Default} qualifier so that the programmatic
+     * lookups of a {@link Class} do not need to perform the resolution at runtime.
+     *
+     * @param beanDeployment
+     * @return the map of required type names to the resolved beans
+     */
+    static Map<String, BeanInfo> initDefaultResolution(BeanDeployment beanDeployment) {
+        // Raw type name -> beans having a bean type with the same raw type
+        Map<DotName, List<BeanInfo>> candidates = new HashMap<>();
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            for (org.jboss.jandex.Type type : bean.getTypes()) {
+                if ((type.kind() == Kind.CLASS || type.kind() == Kind.PARAMETERIZED_TYPE)
+                        && !UNRESOLVED_TYPES.contains(type.name())) {
+                    List<BeanInfo> beans = candidates.computeIfAbsent(type.name(), name -> new ArrayList<>());
+                    if (!beans.contains(bean)) {
+                        beans.add(bean);
+                    }
+                }
+            }
+        }
+        Set<AnnotationInstance> qualifiers = Collections.singleton(BuiltinQualifier.DEFAULT.getInstance());
+        Map<String, BeanInfo> resolution = new HashMap<>();
+        for (Entry<DotName, List<BeanInfo>> entry : candidates.entrySet()) {
+            TypeAndQualifiers typeAndQualifiers = new TypeAndQualifiers(ClassType.create(entry.getKey(), Kind.CLASS),
+                    qualifiers);
+            List<BeanInfo> matching = new ArrayList<>();
+            for (BeanInfo bean : entry.getValue()) {
+                if (Beans.matches(bean, typeAndQualifiers)) {
+                    matching.add(bean);
+                }
+            }
+            BeanInfo resolved = resolve(matching);
+            if (resolved != null) {
+                resolution.put(entry.getKey().toString(), resolved);
+            }
+        }
+        return resolution;
+    }
+
+    /**
+     * Must be consistent with the ambiguity resolution performed by {@code ArcContainerImpl} at runtime.
+     */
+    private static BeanInfo resolve(List<BeanInfo> matching) {
+        if (matching.size() <= 1) {
+            return matching.isEmpty() ? null : matching.get(0);
+        }
+        List<BeanInfo> resolved = new ArrayList<>(matching);
+        resolved.removeIf(BeanInfo::isDefaultBean);
+        if (resolved.size() == 1) {
+            return resolved.get(0);
+        }
+        // Remove non-alternatives
+        resolved.removeIf(bean -> getAlternativePriority(bean) == null);
+        if (resolved.size() == 1) {
+            return resolved.get(0);
+        } else if (resolved.size() > 1) {
+            // Keep only the highest priorities
+            Integer highest = resolved.stream().map(ComponentsProviderGenerator::getAlternativePriority)
+                    .max(Integer::compare).get();
+            resolved.removeIf(bean -> !highest.equals(getAlternativePriority(bean)));
+            if (resolved.size() == 1) {
+                return resolved.get(0);
+            }
+        }
+        return null;
+    }
+
+    private static Integer getAlternativePriority(BeanInfo bean) {
+        Integer priority = bean.getAlternativePriority();
+        if (priority == null && bean.getDeclaringBean() != null) {
+            priority = bean.getDeclaringBean().getAlternativePriority();
+        }
+        return priority;
+    }
+
     private Map<BeanInfo, List<BeanInfo>> initBeanToInjections(BeanDeployment beanDeployment) {
         Map<BeanInfo, List<BeanInfo>> beanToInjections = new HashMap<>();
         for (BeanInfo bean : beanDeployment.getBeans()) {
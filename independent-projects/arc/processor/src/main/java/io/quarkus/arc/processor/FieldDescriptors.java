@@ -1,6 +1,7 @@
 package io.quarkus.arc.processor;
 
 import io.quarkus.arc.impl.AnnotationLiterals;
+import io.quarkus.arc.impl.InvocationContexts;
 import io.quarkus.arc.impl.Qualifiers;
 import io.quarkus.gizmo.FieldDescriptor;
 import java.util.Set;
@@ -29,6 +30,10 @@ final class FieldDescriptors {
             "EMPTY_INT_ARRAY",
             int[].class);
 
+    static final FieldDescriptor INVOCATION_CONTEXTS_EMPTY_PARAMETERS = FieldDescriptor.of(InvocationContexts.class,
+            "EMPTY_PARAMETERS",
+            Object[].class);
+
     private FieldDescriptors() {
     }
 
@@ -137,8 +137,7 @@ final class MethodDescriptors {
     static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "performAroundInvoke",
-            Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
-            Set.class);
+            Object.class, Object.class, Object[].class, SubclassMethodMetadata.class);
 
     static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
@@ -193,7 +192,7 @@ final class MethodDescriptors {
 
     static final MethodDescriptor SUBCLASS_METHOD_METADATA_CONSTRUCTOR = MethodDescriptor.ofConstructor(
             SubclassMethodMetadata.class,
-            List.class, Method.class, Set.class);
+            List.class, Method.class, Set.class, Function.class);
 
     static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
@@ -36,6 +36,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.event.Reception;
@@ -45,6 +46,7 @@ import javax.enterprise.inject.spi.ObserverMethod;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
 
 /**
  *
@@ -168,6 +170,7 @@ public class ObserverGenerator extends AbstractGenerator {
         if (observer.isAsync()) {
             implementIsAsync(observerCreator);
         }
+        implementToString(observerCreator, observer);
 
         observerCreator.close();
         return classOutput.getResources();
@@ -221,6 +224,19 @@ public class ObserverGenerator extends AbstractGenerator {
         isAsync.returnValue(isAsync.load(true));
     }
 
+    protected void implementToString(ClassCreator observerCreator, ObserverInfo observer) {
+        MethodCreator toString = observerCreator.getMethodCreator(Methods.TO_STRING, String.class).setModifiers(ACC_PUBLIC);
+        String description;
+        if (observer.isSynthetic()) {
+            description = "Synthetic observer of " + observer.getObservedType() + " declared by " + observer.getBeanClass();
+        } else {
+            MethodInfo method = observer.getObserverMethod();
+            description = method.declaringClass().name() + "#" + method.name() + "("
+                    + method.parameters().stream().map(Object::toString).collect(Collectors.joining(", ")) + ")";
+        }
+        toString.returnValue(toString.load(description));
+    }
+
     protected void implementNotify(ObserverInfo observer, ClassCreator observerCreator,
             Map<InjectionPointInfo, String> injectionPointToProviderField,
             ReflectionRegistration reflectionRegistration, boolean isApplicationClass) {
@@ -22,7 +22,6 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,7 +33,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -62,12 +60,6 @@ public class SubclassGenerator extends AbstractGenerator {
 
     protected static final String FIELD_NAME_PREDESTROYS = "preDestroys";
     protected static final String FIELD_NAME_METADATA = "metadata";
-    protected static final FieldDescriptor FIELD_METADATA_METHOD = FieldDescriptor.of(SubclassMethodMetadata.class, "method",
-            Method.class);
-    protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(SubclassMethodMetadata.class, "chain",
-            List.class);
-    protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(SubclassMethodMetadata.class,
-            "bindings", Set.class);
 
     private final Predicate<DotName> applicationClassPredicate;
 
@@ -197,21 +189,6 @@ public class SubclassGenerator extends AbstractGenerator {
         }
 
         // Init intercepted methods and interceptor chains
-        // private final Map<String,SubclassMethodMetadata> metadata
-        // metadata = new HashMap<>()
-        int metadataMapCapacity = bean.getInterceptedMethods().size();
-        if (metadataMapCapacity < 3) {
-            metadataMapCapacity++;
-        } else {
-            metadataMapCapacity = (int) ((float) metadataMapCapacity / 0.75F + 1.0F);
-        }
-        FieldCreator metadataField = subclass.getFieldCreator(FIELD_NAME_METADATA, Map.class.getName())
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
-        ResultHandle metadataHandle = constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class, int.class),
-                constructor.load(metadataMapCapacity));
-        constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(),
-                metadataHandle);
-
         // Shared interceptor bindings literals
         Map<BindingKey, ResultHandle> bindingsLiterals = new HashMap<>();
         Function<BindingKey, ResultHandle> bindingsLiteralFun = new Function<SubclassGenerator.BindingKey, ResultHandle>() {
@@ -276,7 +253,6 @@ public class SubclassGenerator extends AbstractGenerator {
         for (Entry<MethodInfo, InterceptionInfo> entry : bean.getInterceptedMethods().entrySet()) {
             String methodId = "m" + methodIdx++;
             MethodInfo method = entry.getKey();
-            ResultHandle methodIdHandle = constructor.load(methodId);
             InterceptionInfo interceptedMethod = entry.getValue();
 
             // 1. Interceptor chain
@@ -304,17 +280,25 @@ public class SubclassGenerator extends AbstractGenerator {
             ResultHandle bindingsHandle = bindings.computeIfAbsent(
                     interceptedMethod.bindings.stream().map(BindingKey::new).collect(Collectors.toList()), bindingsFun);
 
+            // 4. Forwarding function, created once and reused by all invocations
+            // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+            ResultHandle forwardHandle = createForwardingFunction(constructor, method, providerTypeName);
+
             //Now create SubclassMethodMetadata for the given intercepted method
+            // private final SubclassMethodMetadata metadata_m1
+            // metadata_m1 = new SubclassMethodMetadata(...)
+            FieldCreator metadataField = subclass
+                    .getFieldCreator(FIELD_NAME_METADATA + "_" + methodId, SubclassMethodMetadata.class.getName())
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
             ResultHandle methodMetadataHandle = constructor.newInstance(MethodDescriptors.SUBCLASS_METHOD_METADATA_CONSTRUCTOR,
-                    chainHandle, methodHandle, bindingsHandle);
-            // metadata.put("m1", new SubclassMethodMetadata(...))
-            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, metadataHandle, methodIdHandle, methodMetadataHandle);
+                    chainHandle, methodHandle, bindingsHandle, forwardHandle);
+            constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(), methodMetadataHandle);
 
             // Needed when running on native image
             reflectionRegistration.registerMethod(method);
 
             // Finally create the forwarding method
-            createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
+            createForwardingMethod(classOutput, bean, method, subclass, providerTypeName,
                     metadataField.getFieldDescriptor(),
                     interceptedMethod);
         }
@@ -323,7 +307,30 @@ public class SubclassGenerator extends AbstractGenerator {
         return preDestroysField != null ? preDestroysField.getFieldDescriptor() : null;
     }
 
-    private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
+    private ResultHandle createForwardingFunction(MethodCreator constructor, MethodInfo method, String providerTypeName) {
+        FunctionCreator func = constructor.createFunction(Function.class);
+        BytecodeCreator funcBytecode = func.getBytecode();
+        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+        if (superParamHandles.length > 0) {
+            ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                    MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                    ctxHandle);
+            // autoboxing is handled inside Gizmo
+            for (int i = 0; i < superParamHandles.length; i++) {
+                superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+            }
+        }
+        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                .toArray(new String[0])),
+                constructor.getThis(), superParamHandles);
+        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        return func.getInstance();
+    }
+
+    private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method,
             ClassCreator subclass,
             String providerTypeName, FieldDescriptor metadataField,
             InterceptionInfo interceptedMethod) {
@@ -333,9 +340,15 @@ public class SubclassGenerator extends AbstractGenerator {
 
         // Params
         // Object[] params = new Object[] {p1}
-        ResultHandle paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
-        for (int i = 0; i < method.parameters().size(); i++) {
-            forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
+        // Methods without parameters share an empty array
+        ResultHandle paramsHandle;
+        if (method.parameters().isEmpty()) {
+            paramsHandle = forwardMethod.readStaticField(FieldDescriptors.INVOCATION_CONTEXTS_EMPTY_PARAMETERS);
+        } else {
+            paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
+            for (int i = 0; i < method.parameters().size(); i++) {
+                forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
+            }
         }
 
         // if(!this.bean == null) return super.foo()
@@ -355,25 +368,6 @@ public class SubclassGenerator extends AbstractGenerator {
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
 
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
-        }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -407,16 +401,10 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
-        ResultHandle methodIdHandle = tryCatch.load(methodId);
-        ResultHandle methodMetadataHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
+        // InvocationContexts.performAroundInvoke(this, params, metadata_m1)
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(superResult != null ? ret : null);
+                tryCatch.getThis(), paramsHandle, tryCatch.readInstanceField(metadataField, tryCatch.getThis()));
+        tryCatch.returnValue(method.returnType().kind() != Type.Kind.VOID ? ret : null);
     }
 
     /**
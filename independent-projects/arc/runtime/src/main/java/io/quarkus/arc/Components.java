@@ -2,6 +2,7 @@ package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -11,14 +12,23 @@ public final class Components {
     private final Collection<InjectableObserverMethod<?>> observers;
     private final Collection<InjectableContext> contexts;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
+    private final Map<String, InjectableBean<?>> defaultResolution;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
             Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, Collections.emptyMap());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Map<String, InjectableBean<?>> defaultResolution) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
         this.transitiveInterceptorBindings = transitiveInterceptorBindings;
+        this.defaultResolution = defaultResolution;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -37,4 +47,14 @@ public final class Components {
         return transitiveInterceptorBindings;
     }
 
+    /**
+     * The results of the typesafe resolution performed at build time for raw required types and the {@code @Default}
+     * qualifier. Only the types resolved to exactly one bean are present.
+     *
+     * @return the map of required type names to the resolved beans
+     */
+    public Map<String, InjectableBean<?>> getDefaultResolution() {
+        return defaultResolution;
+    }
+
 }
@@ -105,4 +105,14 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned at build time to every {@link javax.enterprise.context.RequestScoped} bean and is used by the
+     * request context to store the bean instances in an array rather than a map.
+     *
+     * @return the index of the instance in the request context storage, or {@code -1}
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
 }
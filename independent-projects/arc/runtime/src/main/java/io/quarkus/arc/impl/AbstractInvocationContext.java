@@ -21,25 +21,34 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
     protected final List<InterceptorInvocation> chain;
     protected Object target;
     protected Object[] parameters;
-    // The map is initialized lazily but we need to use a holder so that all interceptors in the chain can access the same data
-    protected LazyValue<Map<String, Object>> contextData;
+    // The map is initialized lazily
+    private volatile Map<String, Object> contextData;
 
     protected AbstractInvocationContext(Object target, Method method,
             Constructor<?> constructor,
-            Object[] parameters, LazyValue<Map<String, Object>> contextData,
+            Object[] parameters,
             Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
         this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters;
-        this.contextData = contextData != null ? contextData : new LazyValue<>(this);
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
     }
 
     @Override
     public Map<String, Object> getContextData() {
-        return contextData.get();
+        Map<String, Object> data = contextData;
+        if (data == null) {
+            synchronized (this) {
+                data = contextData;
+                if (data == null) {
+                    data = get();
+                    contextData = data;
+                }
+            }
+        }
+        return data;
     }
 
     @Override
@@ -77,9 +86,9 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
                         + ", type: " + parameterTypes[i] + "]");
             }
             if (params[i] != null) {
-                if (!params[i].getClass().equals(parameterTypes[i])) {
+                if (!Types.boxedClass(parameterTypes[i]).isAssignableFrom(params[i].getClass())) {
                     throw new IllegalArgumentException("The parameter type [" + params[i].getClass()
-                            + "] does not match the type for the target method [" + parameterTypes[i] + "]");
+                            + "] is not assignable to the type for the target method [" + parameterTypes[i] + "]");
                 }
             }
         }
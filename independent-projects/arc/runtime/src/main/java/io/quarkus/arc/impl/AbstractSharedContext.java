@@ -76,7 +76,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static ContextInstanceHandle createInstanceHandle(Key key) {
         InjectableBean<?> bean = (InjectableBean<?>) key.contextual;
-        return new ContextInstanceHandleImpl(bean, bean.create(key.creationalContext), key.creationalContext);
+        return new ContextInstanceHandleImpl(bean, StartupTimeline.create(bean, key.creationalContext), key.creationalContext);
     }
 
     private static final class Key<T> {
@@ -81,6 +81,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final InjectableContext singletonContext;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // Results of the build-time resolution for raw types and @Default, keyed by the type name
+    private final Map<String, Set<InjectableBean<?>>> defaultResolution;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -101,9 +103,12 @@ public class ArcContainerImpl implements ArcContainer {
         requestContext = new RequestContext();
         contexts = new ArrayList<>();
         contexts.add(requestContext);
+        defaultResolution = new HashMap<>();
 
+        int providers = 0;
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
+            providers++;
             for (InjectableBean<?> bean : components.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
                     interceptors.add((InjectableInterceptor<?>) bean);
@@ -128,6 +133,15 @@ public class ArcContainerImpl implements ArcContainer {
                     .entrySet()) {
                 transitiveInterceptorBindings.put(entry.getKey(), entry.getValue());
             }
+            for (Entry<String, InjectableBean<?>> entry : components.getDefaultResolution().entrySet()) {
+                defaultResolution.put(entry.getKey(), Collections.singleton(entry.getValue()));
+            }
+        }
+        if (providers > 1) {
+            // The build-time resolution only considers the beans of a single deployment
+            defaultResolution.clear();
+            // So do the request context indexes
+            ((RequestContext) requestContext).disableIndexes();
         }
         // register built-in beans
         addBuiltInBeans();
@@ -217,10 +231,15 @@ public class ArcContainerImpl implements ArcContainer {
     public <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotation... qualifiers) {
         requireRunning();
 
+        Set<InjectableBean<?>> resolvedBeans;
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            resolvedBeans = getDefaultResolution(type);
+            if (resolvedBeans == null) {
+                resolvedBeans = resolved.getValue(new Resolvable(type, new Annotation[] { Default.Literal.INSTANCE }));
+            }
+        } else {
+            resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
             //if there are multiple beans we look for an exact match
@@ -342,6 +361,7 @@ public class ArcContainerImpl implements ArcContainer {
             contexts.clear();
             beans.clear();
             resolved.clear();
+            defaultResolution.clear();
             observers.clear();
             running.set(false);
 
@@ -377,8 +397,10 @@ public class ArcContainerImpl implements ArcContainer {
             }
 
             try {
-                return new InstanceHandleImpl<T>(bean, bean.get(creationalContext), creationalContext, parentContext,
-                        destroyLogic);
+                // Instances of normal scoped beans and singletons are recorded by their contexts
+                T instance = Dependent.class.equals(bean.getScope()) ? StartupTimeline.get(bean, creationalContext)
+                        : bean.get(creationalContext);
+                return new InstanceHandleImpl<T>(bean, instance, creationalContext, parentContext, destroyLogic);
             } finally {
                 if (resetCurrentInjectionPoint) {
                     InjectionPointProvider.set(prev);
@@ -396,6 +418,10 @@ public class ArcContainerImpl implements ArcContainer {
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
+            Set<InjectableBean<?>> resolvedBeans = getDefaultResolution(requiredType);
+            if (resolvedBeans != null) {
+                return (InjectableBean<T>) resolvedBeans.iterator().next();
+            }
             qualifiers = new Annotation[] { Default.Literal.INSTANCE };
         } else {
             Qualifiers.verify(qualifiers);
@@ -644,11 +670,28 @@ public class ArcContainerImpl implements ArcContainer {
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
+            Set<InjectableBean<?>> resolvedBeans = getDefaultResolution(requiredType);
+            if (resolvedBeans != null) {
+                return resolvedBeans;
+            }
             qualifiers = new Annotation[] { Default.Literal.INSTANCE };
         }
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    /**
+     * Looks up the result of the build-time resolution for the given raw type and the {@code @Default} qualifier.
+     *
+     * @param requiredType
+     * @return the resolved bean or {@code null} if the result was not computed at build time
+     */
+    private Set<InjectableBean<?>> getDefaultResolution(Type requiredType) {
+        if (requiredType instanceof Class) {
+            return defaultResolution.get(((Class<?>) requiredType).getName());
+        }
+        return null;
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         if (!BeanTypeAssignabilityRules.matches(requiredType, bean.getTypes())) {
             return false;
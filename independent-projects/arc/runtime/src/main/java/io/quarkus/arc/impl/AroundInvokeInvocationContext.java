@@ -19,18 +19,24 @@ import javax.interceptor.InvocationContext;
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
+ * <p>
+ * The context data map is held by the first context of the chain and only created if an interceptor asks for it, so that an
+ * invocation only allocates the contexts themselves.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // The first context of the chain holds the context data shared by all interceptors
+    private final AroundInvokeInvocationContext root;
 
     AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
+            AroundInvokeInvocationContext root, Set<Annotation> interceptorBindings, int position,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
+        super(target, method, null, parameters, interceptorBindings, chain);
         this.position = position;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.root = root != null ? root : this;
     }
 
     static Object perform(Object target, Method method,
@@ -48,7 +54,7 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
                 return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                        parameters, root, interceptorBindings, position + 1, chain, aroundInvokeForward));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -65,4 +71,9 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        return root == this ? super.getContextData() : root.getContextData();
+    }
+
 }
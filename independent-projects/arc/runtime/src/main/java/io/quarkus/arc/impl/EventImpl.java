@@ -279,7 +279,7 @@ class EventImpl<T> implements Event<T> {
             for (ObserverMethod<? super T> observerMethod : observerMethods) {
                 if (predicate.test(observerMethod)) {
                     try {
-                        observerMethod.notify(eventContext);
+                        StartupTimeline.notify(observerMethod, eventContext);
                     } catch (Throwable e) {
                         exceptionHandler.handle(e);
                     }
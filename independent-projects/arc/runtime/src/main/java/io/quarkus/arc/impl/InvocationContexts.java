@@ -11,6 +11,11 @@ import javax.interceptor.InvocationContext;
 
 public final class InvocationContexts {
 
+    /**
+     * Shared parameters of the intercepted methods without parameters. The array is empty and thus cannot be modified.
+     */
+    public static final Object[] EMPTY_PARAMETERS = new Object[0];
+
     private InvocationContexts() {
     }
 
@@ -32,6 +37,20 @@ public final class InvocationContexts {
         return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
     }
 
+    /**
+     *
+     * @param target
+     * @param args
+     * @param metadata the pre-built interceptor chain and forwarding function of the intercepted method
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvoke(Object target, Object[] args, SubclassMethodMetadata metadata)
+            throws Exception {
+        return AroundInvokeInvocationContext.perform(target, metadata.method, metadata.aroundInvokeForward, args,
+                metadata.chain, metadata.bindings);
+    }
+
     /**
      *
      * @param target
@@ -6,11 +6,13 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
@@ -32,12 +34,15 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
+    // The indexes are assigned per deployment, they are only unique if there is a single ComponentsProvider
+    private boolean indexed = true;
+
     public RequestContext() {
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
@@ -55,17 +60,23 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        int index = indexOf(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual, index);
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
-                    contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+                    StartupTimeline.create(contextual, creationalContext), creationalContext);
+            ContextInstanceHandle<T> existing = (ContextInstanceHandle<T>) ctx.putIfAbsent(contextual, index, instance);
+            if (existing != null) {
+                // Another thread sharing the same state created an instance in the meantime
+                instance.destroy();
+                instance = existing;
+            }
         }
         return instance != null ? instance.get() : null;
     }
@@ -82,12 +93,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = ctx.remove(contextual, indexOf(contextual));
         if (instance != null) {
             instance.destroy();
         }
@@ -96,12 +107,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            // The state is empty until a request scoped bean is actually used
+            currentContext.set(new RequestContextState());
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState);
             }
@@ -110,12 +122,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -125,7 +137,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx != null) {
             synchronized (ctx) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -152,6 +164,18 @@ class RequestContext implements ManagedContext {
         }
     }
 
+    /**
+     * All the contextual instances are stored in the map.
+     */
+    void disableIndexes() {
+        indexed = false;
+    }
+
+    private int indexOf(Contextual<?> contextual) {
+        return indexed && contextual instanceof InjectableBean ? ((InjectableBean<?>) contextual).getRequestContextIndex()
+                : -1;
+    }
+
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
         Notifier<Object> notifier = value.get();
         if (!notifier.isEmpty()) {
@@ -177,17 +201,104 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    /**
+     * The instances of the beans with a request context index assigned at build time are stored in an array, the other
+     * contextual instances are stored in a map. Both are only created when the first instance is stored. The state may be
+     * shared by several threads, e.g. if it's propagated, so the modifications are synchronized. The lookups are not: a
+     * stale read simply falls back to the synchronized {@link #putIfAbsent(Contextual, int, ContextInstanceHandle)}.
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private static final int INITIAL_CAPACITY = 8;
+
+        private volatile ContextInstanceHandle<?>[] indexedInstances;
+
+        private volatile Map<Contextual<?>, ContextInstanceHandle<?>> otherInstances;
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual, int index) {
+            if (index >= 0) {
+                ContextInstanceHandle<?>[] instances = indexedInstances;
+                ContextInstanceHandle<?> instance = instances != null && index < instances.length ? instances[index] : null;
+                if (instance != null && instance.getBean() == contextual) {
+                    return instance;
+                }
+                // The slot is free or used by another bean with the same index, see putIfAbsent()
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> instances = otherInstances;
+            return instances != null ? instances.get(contextual) : null;
+        }
+
+        synchronized ContextInstanceHandle<?> putIfAbsent(Contextual<?> contextual, int index,
+                ContextInstanceHandle<?> instance) {
+            if (index >= 0) {
+                ContextInstanceHandle<?>[] instances = indexedInstances;
+                if (instances == null) {
+                    instances = new ContextInstanceHandle<?>[Math.max(INITIAL_CAPACITY, index + 1)];
+                } else if (index >= instances.length) {
+                    instances = Arrays.copyOf(instances, Math.max(instances.length * 2, index + 1));
+                } else if (instances[index] != null) {
+                    if (instances[index].getBean() == contextual) {
+                        return instances[index];
+                    }
+                    // The bean shares its index with a bean of another deployment, e.g. a bean class generated before a
+                    // dev mode restart and still loaded by the base class loader
+                    instances = null;
+                }
+                if (instances != null) {
+                    instances[index] = instance;
+                    indexedInstances = instances;
+                    return null;
+                }
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> instances = otherInstances;
+            if (instances == null) {
+                instances = new ConcurrentHashMap<>();
+                otherInstances = instances;
+            }
+            return instances.putIfAbsent(contextual, instance);
+        }
+
+        synchronized ContextInstanceHandle<?> remove(Contextual<?> contextual, int index) {
+            if (index >= 0) {
+                ContextInstanceHandle<?>[] instances = indexedInstances;
+                ContextInstanceHandle<?> instance = instances != null && index < instances.length ? instances[index] : null;
+                if (instance != null && instance.getBean() == contextual) {
+                    instances[index] = null;
+                    return instance;
+                }
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> instances = otherInstances;
+            return instances != null ? instances.remove(contextual) : null;
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        synchronized void clear() {
+            indexedInstances = null;
+            otherInstances = null;
+        }
+
+        List<ContextInstanceHandle<?>> values() {
+            ContextInstanceHandle<?>[] indexed = indexedInstances;
+            Map<Contextual<?>, ContextInstanceHandle<?>> other = otherInstances;
+            if (indexed == null && other == null) {
+                return Collections.emptyList();
+            }
+            List<ContextInstanceHandle<?>> values = new ArrayList<>();
+            if (indexed != null) {
+                for (ContextInstanceHandle<?> instance : indexed) {
+                    if (instance != null) {
+                        values.add(instance);
+                    }
+                }
+            }
+            if (other != null) {
+                values.addAll(other.values());
+            }
+            return values;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
+            return values().stream()
                     .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
@@ -0,0 +1,314 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.InjectableBean;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.EventContext;
+import javax.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * Records the time spent in the creation of bean instances and in the delivery of events to observer methods while the
+ * timeline is running.
+ * <p>
+ * The timeline is intended to find out which beans or observers slow down the application startup. It is started before the
+ * container is initialized and stopped once the startup is finished. When no timeline is running the instrumented code only
+ * reads a volatile field.
+ * <p>
+ * The duration of an entry includes the creation of the dependencies of the bean, or the beans created by the observer
+ * method. The self time excludes the time spent in the nested entries recorded in the same thread.
+ */
+public final class StartupTimeline {
+
+    private static volatile StartupTimeline current;
+
+    /**
+     * Starts a new timeline. The timeline that is currently running, if any, is discarded.
+     *
+     * @return the new timeline
+     */
+    public static StartupTimeline start() {
+        StartupTimeline timeline = new StartupTimeline();
+        current = timeline;
+        return timeline;
+    }
+
+    /**
+     * Stops the timeline that is currently running.
+     *
+     * @return the stopped timeline or {@code null} if no timeline is running
+     */
+    public static StartupTimeline stop() {
+        StartupTimeline timeline = current;
+        current = null;
+        if (timeline != null) {
+            timeline.endNanos = System.nanoTime();
+        }
+        return timeline;
+    }
+
+    public static boolean isRunning() {
+        return current != null;
+    }
+
+    static <T> T create(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        StartupTimeline timeline = current;
+        if (timeline == null) {
+            return contextual.create(creationalContext);
+        }
+        Frame frame = timeline.begin(Kind.BEAN, describe(contextual));
+        try {
+            return contextual.create(creationalContext);
+        } finally {
+            frame.end();
+        }
+    }
+
+    static <T> T get(InjectableBean<T> bean, CreationalContext<T> creationalContext) {
+        StartupTimeline timeline = current;
+        if (timeline == null) {
+            return bean.get(creationalContext);
+        }
+        Frame frame = timeline.begin(Kind.BEAN, describe(bean));
+        try {
+            return bean.get(creationalContext);
+        } finally {
+            frame.end();
+        }
+    }
+
+    /**
+     * The notification is timed by the event dispatch rather than in the notify() methods of the generated observers, so
+     * that the synthetic observers, the observers of other components providers and the custom {@link ObserverMethod}
+     * implementations are covered as well, without adding bytecode to every generated observer.
+     */
+    static <T> void notify(ObserverMethod<T> observerMethod, EventContext<T> eventContext) {
+        StartupTimeline timeline = current;
+        if (timeline == null) {
+            observerMethod.notify(eventContext);
+            return;
+        }
+        Frame frame = timeline.begin(Kind.OBSERVER, observerMethod.toString());
+        try {
+            observerMethod.notify(eventContext);
+        } finally {
+            frame.end();
+        }
+    }
+
+    private static String describe(Contextual<?> contextual) {
+        if (!(contextual instanceof InjectableBean)) {
+            return contextual.toString();
+        }
+        InjectableBean<?> bean = (InjectableBean<?>) contextual;
+        if (bean.getDeclaringBean() == null) {
+            return bean.getBeanClass().getName();
+        }
+        // Producer method or field
+        for (Type type : bean.getTypes()) {
+            if (!Object.class.equals(type)) {
+                return bean.getBeanClass().getName() + " producer of " + type.getTypeName();
+            }
+        }
+        return bean.getBeanClass().getName() + " producer";
+    }
+
+    private final long startNanos;
+    private volatile long endNanos;
+    private final List<Entry> entries;
+    private final ThreadLocal<Frame> currentFrame;
+
+    private StartupTimeline() {
+        this.startNanos = System.nanoTime();
+        this.entries = Collections.synchronizedList(new ArrayList<>());
+        this.currentFrame = new ThreadLocal<>();
+    }
+
+    private Frame begin(Kind kind, String name) {
+        Frame frame = new Frame(kind, name, currentFrame.get());
+        currentFrame.set(frame);
+        return frame;
+    }
+
+    /**
+     * @return the recorded entries sorted by start time
+     */
+    public List<Entry> getEntries() {
+        List<Entry> sorted;
+        synchronized (entries) {
+            sorted = new ArrayList<>(entries);
+        }
+        sorted.sort(Comparator.comparingLong(Entry::getStart));
+        return sorted;
+    }
+
+    /**
+     * @return the total time in nanoseconds, until now if the timeline is still running
+     */
+    public long getTotalTime() {
+        long end = endNanos;
+        return (end != 0 ? end : System.nanoTime()) - startNanos;
+    }
+
+    /**
+     * @param limit the maximum number of entries
+     * @return a human-readable summary of the entries with the highest self time
+     */
+    public String getSummary(int limit) {
+        List<Entry> sorted = getEntries();
+        sorted.sort(Comparator.comparingLong(Entry::getSelfTime).reversed());
+        StringBuilder summary = new StringBuilder();
+        summary.append("Startup timeline: ").append(sorted.size()).append(" entries recorded in ")
+                .append(TimeUnit.NANOSECONDS.toMillis(getTotalTime())).append(" ms");
+        for (int i = 0; i < sorted.size() && i < limit; i++) {
+            Entry entry = sorted.get(i);
+            summary.append(String.format("%n\t%8.3f ms self, %8.3f ms total - %s %s [%s]",
+                    entry.getSelfTime() / 1_000_000.0, entry.getDuration() / 1_000_000.0,
+                    entry.getKind().toString().toLowerCase(), entry.getName(), entry.getThread()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * The times are expressed in microseconds, the start of an entry being relative to the start of the timeline.
+     *
+     * @return the JSON representation of the timeline, the entries being sorted by start time
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"totalTime\": ").append(TimeUnit.NANOSECONDS.toMicros(getTotalTime()))
+                .append(",\n  \"entries\": [");
+        boolean first = true;
+        for (Entry entry : getEntries()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("\n    {\"kind\": \"").append(entry.getKind().toString().toLowerCase())
+                    .append("\", \"name\": \"").append(escape(entry.getName()))
+                    .append("\", \"thread\": \"").append(escape(entry.getThread()))
+                    .append("\", \"start\": ").append(TimeUnit.NANOSECONDS.toMicros(entry.getStart()))
+                    .append(", \"duration\": ").append(TimeUnit.NANOSECONDS.toMicros(entry.getDuration()))
+                    .append(", \"selfTime\": ").append(TimeUnit.NANOSECONDS.toMicros(entry.getSelfTime()))
+                    .append('}');
+        }
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    public enum Kind {
+        BEAN,
+        OBSERVER
+    }
+
+    public static final class Entry {
+
+        private final Kind kind;
+        private final String name;
+        private final String thread;
+        private final long start;
+        private final long duration;
+        private final long selfTime;
+
+        Entry(Kind kind, String name, String thread, long start, long duration, long selfTime) {
+            this.kind = kind;
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.duration = duration;
+            this.selfTime = selfTime;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the bean class or the observer method
+         */
+        public String getName() {
+            return name;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return the start time in nanoseconds, relative to the start of the timeline
+         */
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * @return the duration in nanoseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return the duration in nanoseconds, excluding the nested entries
+         */
+        public long getSelfTime() {
+            return selfTime;
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + name + " [duration=" + duration + "ns, selfTime=" + selfTime + "ns]";
+        }
+
+    }
+
+    private final class Frame {
+
+        private final Kind kind;
+        private final String name;
+        private final Frame parent;
+        private final long start;
+        private long nestedTime;
+
+        Frame(Kind kind, String name, Frame parent) {
+            this.kind = kind;
+            this.name = name;
+            this.parent = parent;
+            this.start = System.nanoTime();
+        }
+
+        void end() {
+            long duration = System.nanoTime() - start;
+            if (parent != null) {
+                parent.nestedTime += duration;
+                currentFrame.set(parent);
+            } else {
+                currentFrame.remove();
+            }
+            entries.add(new Entry(kind, name, Thread.currentThread().getName(), start - startNanos, duration,
+                    duration - nestedTime));
+        }
+
+    }
+
+}
@@ -3,15 +3,25 @@ package io.quarkus.arc.test.contexts.request;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.control.RequestContextController;
+import javax.enterprise.context.spi.CreationalContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
@@ -183,4 +193,100 @@ public class RequestContextTest {
         }
     }
 
+    @Test
+    public void testRequestContextState() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> bean = arc.instance(Controller.class).getBean();
+        // Request scoped beans are assigned an index at build time
+        assertTrue(bean.getRequestContextIndex() >= 0);
+
+        requestContext.activate();
+        try {
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            String id = arc.instance(Controller.class).get().getId();
+            Map<InjectableBean<?>, Object> instances = requestContext.getState().getContextualInstances();
+            assertEquals(1, instances.size());
+            assertTrue(instances.containsKey(bean));
+
+            Controller.DESTROYED.set(false);
+            requestContext.destroy(bean);
+            assertTrue(Controller.DESTROYED.get());
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testRequestContextIndexShared() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> bean = arc.instance(Controller.class).getBean();
+        // A bean generated for another deployment may have the same index, e.g. after a dev mode restart
+        SameIndexBean other = new SameIndexBean(bean.getRequestContextIndex());
+
+        requestContext.activate();
+        try {
+            String id = arc.instance(Controller.class).get().getId();
+            String value = requestContext.get(other, new CreationalContextImpl<>(other));
+            assertEquals("other", value);
+            assertTrue(value == requestContext.get(other));
+            assertEquals(id, arc.instance(Controller.class).get().getId());
+            assertEquals(2, requestContext.getState().getContextualInstances().size());
+
+            requestContext.destroy(bean);
+            assertTrue(value == requestContext.get(other));
+            requestContext.destroy(other);
+            assertNull(requestContext.get(other));
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    static class SameIndexBean implements InjectableBean<String> {
+
+        private final int requestContextIndex;
+
+        SameIndexBean(int requestContextIndex) {
+            this.requestContextIndex = requestContextIndex;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "same-index";
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(String.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return String.class;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return new String("other");
+        }
+
+        @Override
+        public String get(CreationalContext<String> creationalContext) {
+            return create(creationalContext);
+        }
+
+        @Override
+        public int getRequestContextIndex() {
+            return requestContextIndex;
+        }
+    }
+
 }
@@ -0,0 +1,155 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import javax.annotation.Priority;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Alternative;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.inject.spi.CDI;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BuildTimeResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Service.class, SimpleService.class,
+            AlternativeService.class, QualifiedService.class, Ambiguous.class, FirstAmbiguous.class,
+            SecondAmbiguous.class, Producers.class, MyList.class, MyQualifier.class);
+
+    @Test
+    public void testResolutionTable() {
+        Map<String, InjectableBean<?>> resolution = getDefaultResolution();
+        // Highest priority alternative wins
+        assertEquals(AlternativeService.class, resolution.get(Service.class.getName()).getBeanClass());
+        assertEquals(SimpleService.class, resolution.get(SimpleService.class.getName()).getBeanClass());
+        // Only @Default beans are considered
+        assertFalse(resolution.containsKey(QualifiedService.class.getName()));
+        // Unresolvable ambiguity
+        assertFalse(resolution.containsKey(Ambiguous.class.getName()));
+        // The default bean is not selected
+        assertEquals(FirstAmbiguous.class, resolution.get(FirstAmbiguous.class.getName()).getBeanClass());
+        // A parameterized bean type does not match a raw required type
+        assertFalse(resolution.containsKey(List.class.getName()));
+        assertFalse(resolution.containsKey(Object.class.getName()));
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testLookup() {
+        ArcContainer arc = Arc.container();
+        assertEquals("alternative", arc.instance(Service.class).get().ping());
+        assertEquals("simple", arc.instance(SimpleService.class).get().ping());
+        assertEquals("alternative", CDI.current().select(Service.class).get().ping());
+        assertEquals("qualified", arc.instance(Service.class, new AnnotationLiteral<MyQualifier>() {
+        }).get().ping());
+        assertFalse(arc.instance(Ambiguous.class).isAvailable());
+        assertTrue(CDI.current().select(Ambiguous.class).isAmbiguous());
+        assertEquals(7, arc.instance(MyList.class).get().get(0));
+        assertFalse(arc.instance(List.class).isAvailable());
+    }
+
+    private Map<String, InjectableBean<?>> getDefaultResolution() {
+        for (ComponentsProvider provider : ServiceLoader.load(ComponentsProvider.class)) {
+            Components components = provider.getComponents();
+            return components.getDefaultResolution();
+        }
+        throw new AssertionError("No components provider found");
+    }
+
+    public interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class SimpleService implements Service {
+
+        @Override
+        public String ping() {
+            return "simple";
+        }
+
+    }
+
+    @Alternative
+    @Priority(1)
+    @Singleton
+    static class AlternativeService implements Service {
+
+        @Override
+        public String ping() {
+            return "alternative";
+        }
+
+    }
+
+    @MyQualifier
+    @Singleton
+    static class QualifiedService implements Service {
+
+        @Override
+        public String ping() {
+            return "qualified";
+        }
+
+    }
+
+    public interface Ambiguous {
+
+    }
+
+    @Dependent
+    static class FirstAmbiguous implements Ambiguous {
+
+    }
+
+    @Dependent
+    static class SecondAmbiguous implements Ambiguous {
+
+    }
+
+    @Dependent
+    static class Producers {
+
+        @DefaultBean
+        @Produces
+        FirstAmbiguous defaultAmbiguous() {
+            return null;
+        }
+
+    }
+
+    @Singleton
+    static class MyList extends AbstractList<Integer> {
+
+        @Override
+        public Integer get(int index) {
+            return Integer.valueOf(7);
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.quarkus.arc.test.timeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.StartupTimeline;
+import io.quarkus.arc.impl.StartupTimeline.Entry;
+import io.quarkus.arc.impl.StartupTimeline.Kind;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class StartupTimelineTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Listener.class, Foo.class);
+
+    @Test
+    public void testTimeline() {
+        StartupTimeline timeline = StartupTimeline.start();
+        assertTrue(StartupTimeline.isRunning());
+        Arc.container().beanManager().getEvent().fire("hello");
+        assertEquals(timeline, StartupTimeline.stop());
+        assertFalse(StartupTimeline.isRunning());
+        assertNull(StartupTimeline.stop());
+
+        List<Entry> entries = timeline.getEntries();
+        Entry observer = find(entries, Kind.OBSERVER, Listener.class.getName() + "#onString(java.lang.String");
+        Entry listener = find(entries, Kind.BEAN, Listener.class.getName());
+        Entry foo = find(entries, Kind.BEAN, Foo.class.getName());
+        // The declaring bean of the observer and the injected bean are created during the notification
+        assertTrue(observer.getStart() <= listener.getStart());
+        assertTrue(observer.getDuration() >= listener.getDuration() + foo.getDuration());
+        assertTrue(observer.getSelfTime() <= observer.getDuration() - foo.getDuration());
+        assertTrue(foo.getDuration() >= 10_000_000L);
+        assertTrue(timeline.getTotalTime() >= observer.getDuration());
+
+        String json = timeline.toJson();
+        assertTrue(json.contains("\"kind\": \"observer\""), json);
+        assertTrue(json.contains("\"name\": \"" + Foo.class.getName() + "\""), json);
+        String summary = timeline.getSummary(1);
+        // Foo has the highest self time
+        assertTrue(summary.contains(Foo.class.getName()), summary);
+        assertFalse(summary.contains(Listener.class.getName()), summary);
+
+        // Nothing is recorded once stopped
+        Arc.container().beanManager().getEvent().fire("hello");
+        assertEquals(entries.size(), timeline.getEntries().size());
+    }
+
+    private static Entry find(List<Entry> entries, Kind kind, String name) {
+        Optional<Entry> entry = entries.stream().filter(e -> e.getKind() == kind && e.getName().startsWith(name))
+                .findFirst();
+        assertNotNull(entry.orElse(null), "No " + kind + " entry found for " + name + ": " + entries);
+        return entry.get();
+    }
+
+    @Singleton
+    static class Listener {
+
+        @Inject
+        Foo foo;
+
+        void onString(@Observes String event) {
+            foo.ping();
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Foo {
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            Thread.sleep(10);
+        }
+
+        void ping() {
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.quarkus.it.infinispan.client;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.infinispan.client.hotrod.RemoteCache;
+
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheKeyBuilder;
+import io.quarkus.infinispan.client.Remote;
+
+/**
+ * Cached methods whose keys are built by Quarkus, stored in an Infinispan remote cache with the ProtoStream marshaller.
+ */
+@Path("/cache")
+@ApplicationScoped
+public class CachedResource {
+
+    static final String CACHE_NAME = "cached-resource";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Inject
+    @Remote(CACHE_NAME)
+    RemoteCache<Object, Object> remoteCache;
+
+    @GET
+    @Path("/no-args")
+    @CacheResult(cacheName = CACHE_NAME)
+    public String noArgs() {
+        return "no-args-" + invocations.incrementAndGet();
+    }
+
+    @GET
+    @Path("/composite/{a}/{b}")
+    @CacheResult(cacheName = CACHE_NAME)
+    public String composite(@PathParam("a") String a, @PathParam("b") int b) {
+        return a + "-" + b + "-" + invocations.incrementAndGet();
+    }
+
+    @DELETE
+    @CacheInvalidateAll(cacheName = CACHE_NAME)
+    public void invalidateAll() {
+    }
+
+    /**
+     * Writes the value of the no-args method to the remote cache directly, as another application instance would.
+     */
+    @PUT
+    @Path("/remote/no-args/{value}")
+    public void writeRemoteNoArgs(@PathParam("value") String value) {
+        remoteCache.put(CacheKeyBuilder.buildDefault(CACHE_NAME), value);
+    }
+
+    /**
+     * Returns the remote value of the composite key, unmarshalled by the client.
+     */
+    @GET
+    @Path("/remote/composite/{a}/{b}")
+    public String readRemoteComposite(@PathParam("a") String a, @PathParam("b") int b) {
+        return (String) remoteCache.get(CacheKeyBuilder.build(Arrays.asList(a, b)));
+    }
+
+    @GET
+    @Path("/remote/key-types")
+    public String remoteKeyTypes() {
+        Set<String> keyTypes = new TreeSet<>();
+        for (Object key : remoteCache.keySet()) {
+            keyTypes.add(key.getClass().getSimpleName());
+        }
+        return keyTypes.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.it.infinispan.client;
+
+import static io.restassured.RestAssured.when;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@QuarkusTestResource(InfinispanServerTestResource.class)
+public class CacheBackendTest {
+
+    @Test
+    public void testBuiltInKeys() {
+        when().delete("/cache").then().statusCode(204);
+
+        // The no-args key is stored in the remote cache and the value is then served by the near cache.
+        String noArgs = when().get("/cache/no-args").asString();
+        when().get("/cache/no-args").then().body(is(noArgs));
+
+        // The composite key is stored in the remote cache and can be read back by the client.
+        String composite = when().get("/cache/composite/a/1").asString();
+        when().get("/cache/composite/a/1").then().body(is(composite));
+        when().get("/cache/remote/composite/a/1").then().body(is(composite));
+        when().get("/cache/remote/key-types").then()
+                .body(allOf(containsString("CompositeCacheKey"), containsString("DefaultCacheKey")));
+
+        // A value written by another instance invalidates the near cache entry.
+        when().put("/cache/remote/no-args/remote-value").then().statusCode(204);
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> when().get("/cache/no-args").asString().equals("remote-value"));
+
+        // The invalidation of all the entries removes them from the remote cache and from the near cache.
+        when().delete("/cache").then().statusCode(204);
+        when().get("/cache/no-args").then().body(allOf(startsWith("no-args-"), not(is(noArgs))));
+    }
+}
@@ -23,6 +23,7 @@ public class InfinispanServerTestResource implements QuarkusTestResourceLifecycl
                 new GlobalConfigurationBuilder().nonClusteredDefault().defaultCacheName("default"),
                 new ConfigurationBuilder());
         ecm.defineConfiguration("magazine", new ConfigurationBuilder().build());
+        ecm.defineConfiguration(CachedResource.CACHE_NAME, new ConfigurationBuilder().build());
         // Client connects to a non default port
         hotRodServer = HotRodTestingUtil.startHotRodServer(ecm, 11232);
         return Collections.emptyMap();
@@ -1,6 +1,7 @@
 package io.quarkus.it.keycloak;
 
 import static io.quarkus.it.keycloak.KeycloakRealmResourceManager.getAccessToken;
+import static io.quarkus.it.keycloak.KeycloakRealmResourceManager.logout;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.equalTo;
 
@@ -121,4 +122,44 @@ public class BearerTokenAuthorizationTest {
                         () -> RestAssured.given().auth().oauth2(token).when()
                                 .get("/api/users/me").thenReturn().statusCode() == 403);
     }
+
+    @Test
+    public void testOpaqueTokenIntrospection() {
+        String token = getAccessToken("jdoe");
+        // Keycloak ignores the trailing dots, but the token no longer looks like a JWT to Quarkus, which introspects it
+        RestAssured.given().auth().oauth2(token + ".")
+                .when().get("/api/users/me")
+                .then()
+                .statusCode(200)
+                .body("userName", equalTo("jdoe@gmail.com"));
+        RestAssured.given().auth().oauth2("not-a-token")
+                .when().get("/api/users/me")
+                .then()
+                .statusCode(403);
+    }
+
+    @Test
+    public void testOpaqueTokenIntrospectionCache() {
+        String token = getAccessToken("jdoe");
+        RestAssured.given().auth().oauth2(token + ".")
+                .when().get("/api/users/me")
+                .then()
+                .statusCode(200)
+                .body("userName", equalTo("jdoe@gmail.com"));
+
+        // Keycloak reports the token as inactive once the session is closed
+        logout("jdoe");
+
+        // The cached introspection result is still used
+        RestAssured.given().auth().oauth2(token + ".")
+                .when().get("/api/users/me")
+                .then()
+                .statusCode(200)
+                .body("userName", equalTo("jdoe@gmail.com"));
+        // A token that is not cached yet is introspected, the bearer mechanism rejects it with a 403 challenge
+        RestAssured.given().auth().oauth2(token + "...")
+                .when().get("/api/users/me")
+                .then()
+                .statusCode(403);
+    }
 }
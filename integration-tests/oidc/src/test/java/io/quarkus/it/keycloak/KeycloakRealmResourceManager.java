@@ -141,4 +141,25 @@ public class KeycloakRealmResourceManager implements QuarkusTestResourceLifecycl
                 .post(KEYCLOAK_SERVER_URL + "/realms/" + KEYCLOAK_REALM + "/protocol/openid-connect/token")
                 .as(AccessTokenResponse.class).getToken();
     }
+
+    /**
+     * Closes the sessions of the user, so that the tokens issued to the user are no longer active.
+     */
+    public static void logout(String userName) {
+        String adminToken = getAdminAccessToken();
+        String userId = RestAssured
+                .given()
+                .auth().oauth2(adminToken)
+                .param("username", userName)
+                .when()
+                .get(KEYCLOAK_SERVER_URL + "/admin/realms/" + KEYCLOAK_REALM + "/users")
+                .then().statusCode(200)
+                .extract().path("[0].id");
+        RestAssured
+                .given()
+                .auth().oauth2(adminToken)
+                .when()
+                .post(KEYCLOAK_SERVER_URL + "/admin/realms/" + KEYCLOAK_REALM + "/users/" + userId + "/logout")
+                .then().statusCode(204);
+    }
 }